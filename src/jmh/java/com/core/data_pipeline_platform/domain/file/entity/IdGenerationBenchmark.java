@@ -0,0 +1,99 @@
+package com.core.data_pipeline_platform.domain.file.entity;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 INSERT 시 ID 생성 방식별 처리량(초당 INSERT 수) 비교. Hibernate 가 각 방식에서 실제로 보내는 JDBC 호출을 그대로 흉내낸다.
+ * - identityPerRow: IDENTITY. 행마다 executeUpdate 후 생성 키를 받아야 해서 배치가 불가능하다.
+ * - pooledSequenceBatch: allocationSize 만큼 시퀀스를 한 번에 잡고 INSERT 를 batch_size 개씩 묶어 보낸다.
+ *
+ * 기본은 H2 메모리 DB. MariaDB 로 재려면 -Dbench.jdbc.url=jdbc:mariadb://... -Dbench.jdbc.user= -Dbench.jdbc.password= 를 준다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdGenerationBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int ALLOCATION_SIZE = 50;
+
+    private Connection connection;
+    private long sequence;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.jdbc.url", "jdbc:h2:mem:id_bench;DB_CLOSE_DELAY=-1"),
+                System.getProperty("bench.jdbc.user", "sa"),
+                System.getProperty("bench.jdbc.password", ""));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_identity_file");
+            statement.execute("DROP TABLE IF EXISTS bench_sequence_file");
+            statement.execute("DROP SEQUENCE IF EXISTS bench_file_seq");
+            statement.execute("CREATE TABLE bench_identity_file (id BIGINT AUTO_INCREMENT PRIMARY KEY, origin_name VARCHAR(255), stored_name VARCHAR(255))");
+            statement.execute("CREATE TABLE bench_sequence_file (id BIGINT PRIMARY KEY, origin_name VARCHAR(255), stored_name VARCHAR(255))");
+            statement.execute("CREATE SEQUENCE bench_file_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identityPerRow() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_identity_file (origin_name, stored_name) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                long n = sequence++;
+                insert.setString(1, "file-" + n + ".csv");
+                insert.setString(2, "stored-" + n);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long pooledSequenceBatch() throws SQLException {
+        long nextId = 0;
+        long maxId = 0;
+        try (PreparedStatement nextValue = connection.prepareStatement("SELECT NEXT VALUE FOR bench_file_seq");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO bench_sequence_file (id, origin_name, stored_name) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                if (nextId == maxId) {
+                    try (ResultSet value = nextValue.executeQuery()) {
+                        value.next();
+                        nextId = value.getLong(1);
+                        maxId = nextId + ALLOCATION_SIZE;
+                    }
+                }
+                long n = sequence++;
+                insert.setLong(1, nextId++);
+                insert.setString(2, "file-" + n + ".csv");
+                insert.setString(3, "stored-" + n);
+                insert.addBatch();
+                if ((i + 1) % ALLOCATION_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return nextId;
+    }
+}
@@ -0,0 +1,88 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상태 머신 토크나이저와 기존 정규식 split 방식의 CSV 파싱 비용 비교.
+ * 컬럼이 많을수록 정규식 방식은 콤마마다 줄 끝까지 lookahead 하므로 차이가 커진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvDataParserBenchmark {
+
+    private static final String LEGACY_REGEX = ",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)";
+
+    @Param({"4", "32", "128"})
+    public int columns;
+
+    @Param({"20000"})
+    public int rows;
+
+    private byte[] csv;
+    private CsvDataParser parser;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        for (int c = 0; c < columns; c++) {
+            builder.append(c == 0 ? "" : ",").append("col").append(c);
+        }
+        builder.append('\n');
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                if (c > 0) {
+                    builder.append(',');
+                }
+                if (c % 8 == 3) {
+                    builder.append("\"note, ").append(r).append('"');
+                } else {
+                    builder.append(Math.random() * 100);
+                }
+            }
+            builder.append('\n');
+        }
+        csv = builder.toString().getBytes(StandardCharsets.UTF_8);
+        parser = new CsvDataParser();
+    }
+
+    @Benchmark
+    public void tokenizer(Blackhole blackhole) {
+        parser.parse(FileType.CSV, new ByteArrayInputStream(csv), blackhole::consume);
+    }
+
+    @Benchmark
+    public void legacyRegexSplit(Blackhole blackhole) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(csv), StandardCharsets.UTF_8));
+        String[] headers = reader.readLine().split(LEGACY_REGEX, -1);
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String[] values = line.split(LEGACY_REGEX, -1);
+            for (int i = 0; i < values.length; i++) {
+                if (values[i].startsWith("\"") && values[i].endsWith("\"")) {
+                    values[i] = values[i].substring(1, values[i].length() - 1);
+                }
+            }
+            if (values.length != headers.length) {
+                continue;
+            }
+            Map<String, Object> record = new HashMap<>();
+            for (int i = 0; i < headers.length; i++) {
+                record.put(headers[i], values[i]);
+            }
+            blackhole.consume(record);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 필드 바이트에서 바로 double 을 만드는 방식과 String 을 거쳐 Double.parseDouble 하는 방식의 비교.
+ * 센서 값처럼 자릿수가 짧은 소수는 대부분 빠른 경로에서 끝난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CsvFieldParserBenchmark {
+
+    @Param({"10000"})
+    public int count;
+
+    private byte[][] fields;
+    private CsvFieldParser fieldParser;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        fields = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            fields[i] = String.format("%.3f", random.nextDouble() * 1000).getBytes(StandardCharsets.US_ASCII);
+        }
+        fieldParser = new CsvFieldParser();
+    }
+
+    @Benchmark
+    public void fieldParser(Blackhole blackhole) {
+        for (byte[] field : fields) {
+            fieldParser.parseDouble(field, 0, field.length);
+            blackhole.consume(fieldParser.doubleValue());
+        }
+    }
+
+    @Benchmark
+    public void stringParseDouble(Blackhole blackhole) {
+        for (byte[] field : fields) {
+            blackhole.consume(Double.parseDouble(new String(field, StandardCharsets.US_ASCII)));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.xml.stream.XMLInputFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 하나를 파싱할 때마다 드는 준비 비용 비교.
+ * fresh* 는 풀 도입 전처럼 팩토리/토크나이저 버퍼/배치를 매번 만들고, pooled* 는 ParserResources 에서 빌린다.
+ * 작은 파일을 많이 받을수록 준비 비용의 비중이 커진다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParserResourcesBenchmark {
+
+    private byte[] csv;
+    private byte[] xml;
+    private CsvDataParser csvParser;
+    private XmlDataParser xmlParser;
+
+    @Setup
+    public void setUp() {
+        StringBuilder csvBuilder = new StringBuilder("sensorId,value,timestamp,status\n");
+        StringBuilder xmlBuilder = new StringBuilder("<sensorData>");
+        for (int i = 0; i < 10; i++) {
+            csvBuilder.append("S-").append(i).append(',').append(i * 1.5).append(",2025-09-21 04:16,NORMAL\n");
+            xmlBuilder.append("<sensor><sensorId>S-").append(i).append("</sensorId><value>").append(i * 1.5)
+                    .append("</value><timestamp>2025-09-21 04:16</timestamp><status>NORMAL</status></sensor>");
+        }
+        csv = csvBuilder.toString().getBytes(StandardCharsets.UTF_8);
+        xml = xmlBuilder.append("</sensorData>").toString().getBytes(StandardCharsets.UTF_8);
+        csvParser = new CsvDataParser();
+        xmlParser = new XmlDataParser();
+    }
+
+    @Benchmark
+    public void freshSetup(Blackhole blackhole) {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        blackhole.consume(factory);
+        blackhole.consume(new CsvTokenizer(new ByteArrayInputStream(csv)));
+        blackhole.consume(new RecordBatch());
+        blackhole.consume(new CsvFieldParser());
+    }
+
+    @Benchmark
+    public void pooledSetup(Blackhole blackhole) {
+        try (ParserResources resources = ParserResources.acquire()) {
+            blackhole.consume(ParserResources.XML_INPUT_FACTORY);
+            blackhole.consume(resources.tokenizer(new ByteArrayInputStream(csv)));
+            blackhole.consume(resources.batch());
+            blackhole.consume(resources.fieldParser());
+        }
+    }
+
+    @Benchmark
+    public void pooledCsvSmallFile(Blackhole blackhole) {
+        csvParser.parse(FileType.CSV, new ByteArrayInputStream(csv), blackhole::consume);
+    }
+
+    @Benchmark
+    public void pooledXmlSmallFile(Blackhole blackhole) {
+        xmlParser.parse(FileType.XML, new ByteArrayInputStream(xml), blackhole::consume);
+    }
+}
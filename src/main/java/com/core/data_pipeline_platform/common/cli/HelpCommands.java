@@ -20,6 +20,8 @@ public class HelpCommands {
                 파싱된 데이터 관리:
                    list [--page] [--size]               - 파싱된 데이터 목록
                    show <파일ID>                        - 상세 정보 조회
+                   records <파일ID> [--offset] [--limit] - 레코드 범위 조회
+                   aggregate <파일ID> [--group-by] [--interval] - 센서/상태/시간 구간별 집계
                    delete-parsed <파일ID>               - 파싱된 데이터 삭제
                    count                                - 총 개수 조회
                    
@@ -31,6 +33,8 @@ public class HelpCommands {
                     chunk-upload ./large-file.json --chunk-size 2097152
                     list --page 0 --size 5
                     show 1
+                    records 1 --offset 1000000 --limit 10
+                    aggregate 1 --group-by SENSOR_ID,STATUS --interval PT1H
                     generate json --name sensor-data --rows 1000
                    
                 도움말:
@@ -1,7 +1,14 @@
 package com.core.data_pipeline_platform.common.cli;
 
-import com.core.data_pipeline_platform.domain.parse.dto.ParsedDataResponse;
+import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
+import com.core.data_pipeline_platform.domain.parse.dto.AggregationGroup;
+import com.core.data_pipeline_platform.domain.parse.dto.AggregationResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedDataStatsResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedDataSummary;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedRecordsResponse;
 import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.enums.AggregationGroupBy;
+import com.core.data_pipeline_platform.domain.parse.service.ParsedDataAggregationService;
 import com.core.data_pipeline_platform.domain.parse.service.ParsedDataService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -10,6 +17,8 @@ import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
 import org.springframework.shell.standard.ShellOption;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -18,6 +27,7 @@ import java.util.Map;
 public class ParsedDataCommands {
 
     private final ParsedDataService parsedDataService;
+    private final ParsedDataAggregationService parsedDataAggregationService;
 
     @ShellMethod(key = "list", value = "List all parsed data with pagination")
     public String listParsedData(
@@ -25,7 +35,7 @@ public class ParsedDataCommands {
             @ShellOption(defaultValue = "10") int size
     ) {
         try {
-            Page<ParsedDataEntity> parsedData = parsedDataService.getAllParsedData(
+            Page<ParsedDataSummary> parsedData = parsedDataService.getAllParsedData(
                 PageRequest.of(page, size)
             );
 
@@ -41,11 +51,11 @@ public class ParsedDataCommands {
             result.append("│   ID   │      File Name      │   Type   │\n");
             result.append("├────────┼─────────────────────┼──────────┤\n");
 
-            for (ParsedDataEntity entity : parsedData.getContent()) {
+            for (ParsedDataSummary summary : parsedData.getContent()) {
                 result.append(String.format("│ %-6d │ %-19s │ %-8s │\n",
-                    entity.getId(),
-                    truncate(entity.getFile().getOriginName(), 19),
-                    entity.getFile().getFileType()
+                    summary.getId(),
+                    truncate(summary.getFileName(), 19),
+                    summary.getFileType()
                 ));
             }
 
@@ -66,27 +76,30 @@ public class ParsedDataCommands {
     public String showParsedData(Long fileId) {
         try {
             ParsedDataEntity entity = parsedDataService.getParsedDataByFileId(fileId);
-            List<Map<String, Object>> data = parsedDataService.getParsedDataAsMap(fileId);
+            // 다른 파일의 파싱 결과에 연결된 파일이면 entity 의 파일이 아니라 요청한 파일을 보여준다.
+            FileEntity file = parsedDataService.getRequestedFile(fileId, entity);
+            List<Map<String, Object>> data = parsedDataService.getParsedDataAsMap(fileId, PageRequest.of(0, 3)).getContent();
 
             StringBuilder result = new StringBuilder();
             result.append("파싱된 데이터 상세 정보\n\n");
-            result.append(String.format("File ID: %d\n", entity.getFile().getId()));
-            result.append(String.format("File Name: %s\n", entity.getFile().getOriginName()));
-            result.append(String.format("File Type: %s\n", entity.getFile().getFileType()));
-            result.append(String.format("Processing Status: %s\n", entity.getFile().getProcessingStatus()));
-            if (entity.getFile().getErrorMessage() != null) {
-                result.append(String.format("Error: %s\n", entity.getFile().getErrorMessage()));
+            result.append(String.format("File ID: %d\n", file.getId()));
+            result.append(String.format("File Name: %s\n", file.getOriginName()));
+            result.append(String.format("File Type: %s\n", file.getFileType()));
+            result.append(String.format("Processing Status: %s\n", file.getProcessingStatus()));
+            if (file.getErrorMessage() != null) {
+                result.append(String.format("Error: %s\n", file.getErrorMessage()));
             }
-            result.append(String.format("Data Count: %d개\n", data.size()));
+            result.append(String.format("Data Count: %d개\n", entity.getRecordCount()));
+            appendStats(result, ParsedDataStatsResponse.from(file, entity));
 
             if (!data.isEmpty()) {
                 result.append("데이터 미리보기 (처음 3개):\n");
-                for (int i = 0; i < Math.min(3, data.size()); i++) {
+                for (int i = 0; i < data.size(); i++) {
                     result.append(String.format("[%d] %s\n", i + 1, data.get(i)));
                 }
                 
-                if (data.size() > 3) {
-                    result.append(String.format("... 외 %d개 더\n", data.size() - 3));
+                if (entity.getRecordCount() > 3) {
+                    result.append(String.format("... 외 %d개 더\n", entity.getRecordCount() - 3));
                 }
             }
 
@@ -97,6 +110,72 @@ public class ParsedDataCommands {
         }
     }
 
+    @ShellMethod(key = "records", value = "Show a range of parsed records by file ID")
+    public String showRecords(
+            Long fileId,
+            @ShellOption(defaultValue = "0") long offset,
+            @ShellOption(defaultValue = "10") int limit
+    ) {
+        try {
+            ParsedRecordsResponse response = parsedDataService.getRecords(fileId, offset, limit);
+            if (response.getCount() == 0) {
+                return String.format("offset %d 이후 레코드가 없습니다. (총 %d개)", offset, response.getTotalRecords());
+            }
+
+            StringBuilder result = new StringBuilder();
+            result.append(String.format("레코드 %d ~ %d (총 %d개)\n\n",
+                offset, offset + response.getCount() - 1, response.getTotalRecords()));
+            List<Map<String, Object>> records = response.getRecords();
+            for (int i = 0; i < records.size(); i++) {
+                result.append(String.format("[%d] %s\n", offset + i, records.get(i)));
+            }
+
+            if (response.getNextCursor() != null) {
+                result.append(String.format("\n다음 범위: records %d --offset %d --limit %d",
+                    fileId, offset + response.getCount(), limit));
+            }
+
+            return result.toString();
+
+        } catch (Exception e) {
+            return "레코드 조회 실패: " + e.getMessage();
+        }
+    }
+
+    @ShellMethod(key = "aggregate", value = "Aggregate parsed records by sensorId/status and time bucket")
+    public String aggregate(
+            Long fileId,
+            @ShellOption(defaultValue = "") String groupBy,
+            @ShellOption(defaultValue = "") String interval
+    ) {
+        try {
+            List<AggregationGroupBy> keys = new ArrayList<>();
+            for (String key : groupBy.split(",")) {
+                if (!key.isBlank()) {
+                    keys.add(AggregationGroupBy.valueOf(key.trim().toUpperCase()));
+                }
+            }
+            AggregationResponse response = parsedDataAggregationService.aggregate(
+                fileId, keys, interval.isBlank() ? null : Duration.parse(interval));
+
+            StringBuilder result = new StringBuilder();
+            result.append(String.format("집계 결과 (레코드 %d개, 그룹 %d개)\n\n",
+                response.getRecordCount(), response.getGroupCount()));
+            for (AggregationGroup group : response.getGroups()) {
+                result.append(String.format("%s %s %s count=%d avg=%s min=%s max=%s\n",
+                    group.getBucketStart() != null ? group.getBucketStart() : "-",
+                    group.getSensorId() != null ? group.getSensorId() : "-",
+                    group.getStatus() != null ? group.getStatus() : "-",
+                    group.getCount(), group.getAvg(), group.getMin(), group.getMax()));
+            }
+
+            return result.toString();
+
+        } catch (Exception e) {
+            return "집계 실패: " + e.getMessage();
+        }
+    }
+
     @ShellMethod(key = "delete-parsed", value = "Delete parsed data by file ID")
     public String deleteParsedData(Long fileId) {
         try {
@@ -117,6 +196,23 @@ public class ParsedDataCommands {
         }
     }
 
+    private void appendStats(StringBuilder result, ParsedDataStatsResponse stats) {
+        if (stats.getValueCount() != null && stats.getValueCount() > 0) {
+            result.append(String.format("Value: min %s / max %s / avg %.4f (%d개)\n",
+                stats.getValueMin(), stats.getValueMax(), stats.getValueAvg(), stats.getValueCount()));
+        }
+        if (stats.getTimestampFrom() != null) {
+            result.append(String.format("Time Range: %s ~ %s\n", stats.getTimestampFrom(), stats.getTimestampTo()));
+        }
+        if (stats.getSensorCount() != null) {
+            result.append(String.format("Sensors: %d%s\n", stats.getSensorCount(),
+                Boolean.TRUE.equals(stats.getSensorCountExact()) ? "" : "+"));
+        }
+        if (stats.getStatusCounts() != null) {
+            result.append(String.format("Status: %s\n", stats.getStatusCounts()));
+        }
+    }
+
     private String truncate(String str, int maxLength) {
         if (str == null) return "";
         return str.length() > maxLength ? str.substring(0, maxLength - 3) + "..." : str;
@@ -0,0 +1,78 @@
+package com.core.data_pipeline_platform.common.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * IDENTITY 로 id 를 받던 테이블에 pooled 시퀀스(allocationSize 50)를 붙였으므로,
+ * 기존 DB 에서 ddl-auto 가 1 부터 만든 시퀀스를 테이블의 max(id) 위로 올린다.
+ * 요청을 받기 전(모든 싱글톤 생성 직후)에 한 번 실행하며, 이미 앞서 있는 시퀀스는 건드리지 않는다.
+ * 시퀀스 값은 NEXT VALUE FOR 로 읽지 않는다. 값을 하나 써 버려 재시작할 때마다 50개 구간이 버려지기 때문이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    // 엔티티의 @SequenceGenerator allocationSize 와 같아야 한다.
+    static final int ALLOCATION_SIZE = 50;
+
+    // 테이블 → 시퀀스
+    static final Map<String, String> SEQUENCES = Map.of(
+            "file_entity", "file_entity_seq",
+            "parsed_data_entity", "parsed_data_entity_seq",
+            "chunk_upload_session", "chunk_upload_session_seq");
+
+    // 시퀀스가 다음에 줄 값을 소비하지 않고 읽는다.
+    static final String MARIADB_NEXT_VALUE = "SELECT next_not_cached_value FROM ";
+    static final String H2_NEXT_VALUE =
+            "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_SCHEMA = CURRENT_SCHEMA AND SEQUENCE_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        SEQUENCES.forEach((table, sequence) -> sync(database, table, sequence));
+    }
+
+    /**
+     * pooled 최적화기는 시퀀스 값 v 로 (v - 50, v] 의 id 를 쓰므로, 다음 값이 max(id) + 50 이상이어야 겹치지 않는다.
+     */
+    void sync(String database, String table, String sequence) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        Long next = nextValue(database, sequence);
+        if (next == null) {
+            log.warn("시퀀스 {} 의 현재 값을 읽을 수 없어 확인하지 않음: {}", sequence, database);
+            return;
+        }
+        if (next - ALLOCATION_SIZE >= maxId) {
+            return;
+        }
+        long restart = maxId + ALLOCATION_SIZE;
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restart);
+        log.info("시퀀스 {} 를 {} 의 max(id) {} 위로 올림: {}", sequence, table, maxId, restart);
+    }
+
+    /**
+     * 시퀀스가 다음 NEXT VALUE FOR 에 줄 값. 지원하지 않는 DB 면 null.
+     */
+    private Long nextValue(String database, String sequence) {
+        return switch (database) {
+            case "MariaDB", "MySQL" -> jdbcTemplate.queryForObject(MARIADB_NEXT_VALUE + sequence, Long.class);
+            // 따옴표 없이 만든 이름은 대문자로 저장된다.
+            case "H2" -> jdbcTemplate.queryForObject(H2_NEXT_VALUE, Long.class, sequence.toUpperCase());
+            default -> null;
+        };
+    }
+}
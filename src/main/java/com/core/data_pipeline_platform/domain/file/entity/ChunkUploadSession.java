@@ -30,7 +30,8 @@ public class ChunkUploadSession {
     private static final ObjectMapper objectMapper = new ObjectMapper();
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chunk_upload_session_seq")
+    @SequenceGenerator(name = "chunk_upload_session_seq", sequenceName = "chunk_upload_session_seq", allocationSize = 50)
     private Long id;
     
     @OneToOne
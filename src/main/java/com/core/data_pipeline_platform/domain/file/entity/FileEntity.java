@@ -10,14 +10,20 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_file_content_hash", columnList = "content_hash"),
+    @Index(name = "idx_file_source_file_id", columnList = "source_file_id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Getter
 public class FileEntity {
 
+    // IDENTITY 는 save 마다 INSERT 를 즉시 실행해 JDBC 배치가 꺼지므로, 50개씩 미리 할당하는 pooled 시퀀스를 쓴다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "file_entity_seq")
+    @SequenceGenerator(name = "file_entity_seq", sequenceName = "file_entity_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -32,6 +38,14 @@ public class FileEntity {
     @Column(name = "stored_name", nullable = false, length = 255)
     private String storedName;
 
+    // 저장할 때 계산한 내용의 SHA-256 (hex). 같은 내용의 파일을 찾는 데 쓴다.
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 내용이 같은 파일이 이미 파싱되어 있어 그 파일의 저장본과 파싱 결과를 함께 쓰는 경우, 그 파일의 id
+    @Column(name = "source_file_id")
+    private Long sourceFileId;
+
     @Enumerated(EnumType.STRING)
     private FileProcessingStatus processingStatus = FileProcessingStatus.PENDING;
 
@@ -46,4 +60,14 @@ public class FileEntity {
         this.errorMessage = errorMessage;
     }
 
+    /**
+     * 내용이 같은 source 의 저장 파일과 파싱 결과를 함께 쓰도록 연결한다. 이 파일이 저장한 사본은 호출하는 쪽에서 지운다.
+     */
+    public void linkTo(FileEntity source) {
+        this.sourceFileId = source.getId();
+        this.directoryName = source.getDirectoryName();
+        this.storedName = source.getStoredName();
+        this.processingStatus = FileProcessingStatus.COMPLETED;
+    }
+
 }
@@ -6,4 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface FileRepository extends JpaRepository<FileEntity, Long> {
 
     boolean existsByOriginName(String originName);
+
+    boolean existsBySourceFileId(Long sourceFileId);
 }
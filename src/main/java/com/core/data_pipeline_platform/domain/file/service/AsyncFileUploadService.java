@@ -6,17 +6,15 @@ import com.core.data_pipeline_platform.domain.file.enums.FileType;
 import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
 import com.core.data_pipeline_platform.domain.parse.repository.ParsedDataRepository;
 import com.core.data_pipeline_platform.domain.parse.service.DataParsingService;
+import com.core.data_pipeline_platform.domain.parse.service.SensorIndexService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 @Slf4j
@@ -26,28 +24,47 @@ public class AsyncFileUploadService {
 
     private final ParsedDataRepository parsedDataRepository;
     private final DataParsingService dataParsingService;
+    private final SensorIndexService sensorIndexService;
     private final com.core.data_pipeline_platform.domain.file.repository.FileRepository fileRepository;
+    private final TransactionTemplate transactionTemplate;
 
+    /**
+     * 파싱과 저장은 한 트랜잭션에서 하고, 실패하면 그 트랜잭션은 롤백한 뒤 새 트랜잭션에서 FAILED 를 기록한다.
+     * (롤백된 트랜잭션 안에서 상태를 바꾸면 함께 사라져 파일이 PENDING 으로 남는다)
+     */
     @Async
-    @Transactional
     public void backgroundParse(Path filePath, FileType fileType, Long fileId) {
-        try(InputStream inputStream = Files.newInputStream(filePath)) {
-            FileEntity fileEntity = fileRepository.findById(fileId)
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found: " + fileId));
-            
-            fileEntity.updateStatus(FileProcessingStatus.PROCESSING);
+        try {
+            transactionTemplate.executeWithoutResult(status -> parseAndSave(filePath, fileType, fileId));
+        } catch (RuntimeException e) {
+            log.error("파싱 실패: fileId={}", fileId, e);
+            transactionTemplate.executeWithoutResult(status -> markFailed(fileId, e));
+        }
+    }
 
-            ParsedDataEntity parsedDataEntity = dataParsingService
-                    .parseToEntity(fileType, inputStream, fileEntity);
-            parsedDataRepository.save(parsedDataEntity);
+    private void parseAndSave(Path filePath, FileType fileType, Long fileId) {
+        FileEntity fileEntity = fileRepository.findById(fileId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found: " + fileId));
 
-            fileEntity.updateStatus(FileProcessingStatus.COMPLETED);
+        fileEntity.updateStatus(FileProcessingStatus.PROCESSING);
 
-        } catch (IOException e) {
-            log.error("파싱 실패: fileId={}", fileId, e);
-            FileEntity fileEntity = fileRepository.findById(fileId).orElseThrow();
-            fileEntity.updateStatus(FileProcessingStatus.FAILED, e.getMessage());
-        }
+        // 저장된 파일 경로를 넘겨 파서가 스트리밍/메모리 매핑 중 적합한 방식을 고르게 한다.
+        ParsedDataEntity parsedDataEntity = dataParsingService
+                .parseToEntity(fileType, filePath, fileEntity);
+        parsedDataRepository.save(parsedDataEntity);
+        // 같은 트랜잭션에서 센서 역색인에 이 파일의 구간을 더한다.
+        sensorIndexService.index(parsedDataEntity);
+
+        fileEntity.updateStatus(FileProcessingStatus.COMPLETED);
+    }
 
+    private void markFailed(Long fileId, RuntimeException e) {
+        // 롤백되지 않고 남았을 수 있는 청크(LOAD DATA 등)를 지운다.
+        dataParsingService.discard(fileId);
+        String reason = e instanceof ResponseStatusException responseEx
+                ? responseEx.getReason()
+                : "파싱 실패: " + e.getClass().getSimpleName();
+        fileRepository.findById(fileId)
+                .ifPresent(fileEntity -> fileEntity.updateStatus(FileProcessingStatus.FAILED, reason));
     }
 }
@@ -15,13 +15,25 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.UUID;
 
+/**
+ * 업로드 파일 저장. 디스크에 쓰는 스트림에서 내용의 SHA-256 을 함께 계산해 FileEntity.contentHash 에 둔다. (파일을 다시 읽지 않는다)
+ */
 @Service
 @RequiredArgsConstructor
 public class FileStorageService {
+
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
     
     @Value("${file.upload-dir}")
     private String uploadDir;
@@ -45,8 +57,9 @@ public class FileStorageService {
 
         Path targetLocation = uploadPath.resolve(storedName+"."+ fileType.getExtension());
 
-        try {
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        MessageDigest digest = newDigest();
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            Files.copy(in, targetLocation, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 저장 실패");
         }
@@ -56,6 +69,7 @@ public class FileStorageService {
                 .directoryName(directoryName)
                 .fileType(fileType)
                 .originName(originName)
+                .contentHash(HexFormat.of().formatHex(digest.digest()))
                 .build();
 
         return fileRepository.save(fileEntity);
@@ -75,8 +89,9 @@ public class FileStorageService {
 
         Path targetLocation = uploadPath.resolve(storedName + "." + fileType.getExtension());
 
-        try {
-            Files.copy(filePath, targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        MessageDigest digest = newDigest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(filePath), digest)) {
+            Files.copy(in, targetLocation, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 저장 실패");
         }
@@ -86,11 +101,33 @@ public class FileStorageService {
                 .directoryName(directoryName)
                 .fileType(fileType)
                 .originName(originName)
+                .contentHash(HexFormat.of().formatHex(digest.digest()))
                 .build();
 
         return fileRepository.save(fileEntity);
     }
 
+    /**
+     * storeFile / mergeChunks 가 파일을 저장한 경로
+     */
+    public Path getStoredPath(FileEntity fileEntity) {
+        String extension = fileEntity.getFileType().getExtension();
+        return Paths.get(uploadDir, extension, fileEntity.getDirectoryName(), fileEntity.getStoredName() + "." + extension);
+    }
+
+    /**
+     * storeFile 이 저장한 파일과 그 디렉토리를 지운다.
+     */
+    public void deleteStoredFile(FileEntity fileEntity) {
+        Path storedPath = getStoredPath(fileEntity);
+        try {
+            Files.deleteIfExists(storedPath);
+            Files.deleteIfExists(storedPath.getParent());
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 삭제 실패");
+        }
+    }
+
     public void storeChunk(ChunkUploadRequest request) {
         Path dir = Paths.get(chunkUploadDir,request.sessionId());
         try{
@@ -108,8 +145,9 @@ public class FileStorageService {
     public FileEntity mergeChunks(ChunkUploadSession session) {
         // 임시 파일로 먼저 합치기
         Path tempFile = Paths.get(chunkUploadDir, session.getSessionId(), "temp_merged");
+        MessageDigest digest = newDigest();
         
-        try (FileOutputStream fos = new FileOutputStream(tempFile.toFile())) {
+        try (OutputStream fos = new DigestOutputStream(new FileOutputStream(tempFile.toFile()), digest)) {
             for (int i = 0; i < session.getTotalChunks(); i++) {
                 Path chunkFile = Paths.get(chunkUploadDir, session.getSessionId(), "chunk_" + i);
                 if (Files.exists(chunkFile)) {
@@ -123,7 +161,7 @@ public class FileStorageService {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 합치기 실패");
         }
 
-        FileEntity fileEntity = createFileEntity(session, tempFile);
+        FileEntity fileEntity = createFileEntity(session, tempFile, HexFormat.of().formatHex(digest.digest()));
 
         // 임시 청크 파일들 삭제
         cleanupTempFiles(session);
@@ -131,7 +169,7 @@ public class FileStorageService {
         return fileRepository.save(fileEntity);
     }
 
-    private FileEntity createFileEntity(ChunkUploadSession session, Path finalFile) {
+    private FileEntity createFileEntity(ChunkUploadSession session, Path finalFile, String contentHash) {
         String directoryName = UUID.randomUUID().toString();
         String storedName = UUID.randomUUID().toString();
         String originName = session.getFileName();
@@ -149,6 +187,7 @@ public class FileStorageService {
                     .directoryName(directoryName)
                     .fileType(session.getFileType())
                     .originName(originName)
+                    .contentHash(contentHash)
                     .build();
                     
         } catch (IOException e) {
@@ -156,6 +195,14 @@ public class FileStorageService {
         }
     }
 
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private void cleanupTempFiles(ChunkUploadSession session) {
         try {
             Path sessionDir = Paths.get(chunkUploadDir, session.getSessionId());
@@ -4,6 +4,7 @@ import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
 import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
 import com.core.data_pipeline_platform.domain.parse.repository.ParsedDataRepository;
 import com.core.data_pipeline_platform.domain.parse.service.DataParsingService;
+import com.core.data_pipeline_platform.domain.parse.service.SensorIndexService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -19,6 +20,7 @@ import org.springframework.web.server.ResponseStatusException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.Optional;
 
 
 @Service
@@ -31,6 +33,7 @@ public class FileUploadService {
     private final DataParsingService dataParsingService;
     private final AsyncFileUploadService asyncFileUploadService;
     private final ParsedDataRepository parsedDataRepository;
+    private final SensorIndexService sensorIndexService;
 
     @Transactional
     public Long uploadFile(MultipartFile file) {
@@ -40,7 +43,9 @@ public class FileUploadService {
         validateDuplicateFileName(fileName);
 
         FileEntity savedFile = saveFile(file, fileType);
-        parseAndSaveData(file, fileType, savedFile);
+        if (!linkToExistingResult(savedFile)) {
+            parseAndSaveData(file, fileType, savedFile);
+        }
 
         return savedFile.getId();
     }
@@ -52,8 +57,11 @@ public class FileUploadService {
         validateDuplicateFileName(fileName);
 
         FileEntity savedFile = saveFile(filePath, fileType);
+        if (linkToExistingResult(savedFile)) {
+            return savedFile.getId();
+        }
         
-        asyncFileUploadService.backgroundParse(filePath, fileType, savedFile.getId());
+        asyncFileUploadService.backgroundParse(fileStorageService.getStoredPath(savedFile), fileType, savedFile.getId());
 
         return savedFile.getId();
     }
@@ -89,11 +97,34 @@ public class FileUploadService {
         }
     }
 
+    /**
+     * 이름만 다르고 내용이 같은 파일이 이미 파싱되어 있으면 방금 저장한 사본을 지우고 그 파일의 저장본과 파싱 결과에 연결한다.
+     *
+     * @return 연결했으면 true (다시 파싱하지 않는다)
+     */
+    private boolean linkToExistingResult(FileEntity savedFile) {
+        // 해시가 없으면 파생 쿼리가 IS NULL 로 바뀌어 해시 없는 예전 파일과 짝지어지므로 비교하지 않는다.
+        if (savedFile.getContentHash() == null) {
+            return false;
+        }
+        Optional<ParsedDataEntity> existing = parsedDataRepository
+                .findFirstByFile_ContentHashAndFile_FileTypeOrderByIdAsc(savedFile.getContentHash(), savedFile.getFileType());
+        if (existing.isEmpty()) {
+            return false;
+        }
+        FileEntity source = existing.get().getFile();
+        fileStorageService.deleteStoredFile(savedFile);
+        savedFile.linkTo(source);
+        log.info("내용이 같은 파일의 파싱 결과에 연결: fileId={}, sourceFileId={}", savedFile.getId(), source.getId());
+        return true;
+    }
+
     private void parseAndSaveData(MultipartFile file, FileType fileType, FileEntity savedFile) {
         try(InputStream inputStream = file.getInputStream()) {
             ParsedDataEntity parsedDataEntity = dataParsingService
                     .parseToEntity(fileType, inputStream, savedFile);
             parsedDataRepository.save(parsedDataEntity);
+            sensorIndexService.index(parsedDataEntity);
         } catch (IOException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "데이터 파싱 실패");
         }
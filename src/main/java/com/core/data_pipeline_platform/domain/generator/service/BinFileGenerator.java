@@ -3,6 +3,8 @@ package com.core.data_pipeline_platform.domain.generator.service;
 import com.core.data_pipeline_platform.domain.file.enums.FileType;
 import com.core.data_pipeline_platform.domain.generator.dto.GenerateRequest;
 import com.core.data_pipeline_platform.domain.generator.model.SensorData;
+import com.core.data_pipeline_platform.domain.parse.model.BinFormat;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
@@ -10,49 +12,92 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
- * 바이너리 센서 데이터 파일 생성기
- * 
+ * 바이너리 센서 데이터 파일 생성기 (BIN v2, 컬럼 블록 + 사전 인코딩)
+ *
  * 바이너리 구조:
- * [Header - 4 bytes]
- * ├── Record Count (int32)
- * 
- * [Record N - Variable length]
- * ├── sensorId length (int32): 4 bytes
- * ├── sensorId data (UTF-8): variable
- * ├── value (double): 8 bytes
- * ├── timestamp length (int32): 4 bytes
- * ├── timestamp data (UTF-8): variable
- * ├── status length (int32): 4 bytes
- * └── status data (UTF-8): variable
+ * [Header - 12 bytes]
+ * ├── Magic (int32): 0x8953424E
+ * ├── Version (int32): 2
+ * └── Record Count (int32)
+ *
+ * [Dictionary - sensorId, status 순서로 2개]
+ * ├── Entry Count (int32)
+ * └── Entry N: length (int32) + UTF-8 data
+ *
+ * [Block N - 최대 BinFormat.BLOCK_SIZE 레코드]
+ * ├── Block Record Count (int32): n
+ * ├── sensorId 사전 인덱스 (int32 × n)
+ * ├── status 사전 인덱스 (int32 × n)
+ * ├── timestamp UTC epoch 마이크로초 (int64 × n, 없으면 Long.MIN_VALUE)
+ * └── value (double × n)
+ *
+ * v1 (레거시, 읽기만 지원): [Record Count (int32)] 뒤에
+ * 레코드마다 sensorId(length + UTF-8), value(double), timestamp(length + UTF-8), status(length + UTF-8)
  */
 @Component
 public class BinFileGenerator implements FileGenerator{
 
     @Override
     public byte[] generateFile(GenerateRequest request) {
+        int recordCount = request.recordCount();
+
+        // 컬럼 단위로 모은 뒤 한 번에 쓴다.
+        Map<String, Integer> sensorIds = new LinkedHashMap<>();
+        Map<String, Integer> statuses = new LinkedHashMap<>();
+        int[] sensorIdColumn = new int[recordCount];
+        int[] statusColumn = new int[recordCount];
+        long[] timestampColumn = new long[recordCount];
+        double[] valueColumn = new double[recordCount];
+
+        for (int i = 0; i < recordCount; i++) {
+            SensorData sensorData = SensorData.builder()
+                    .sensorId("SENSOR_" + i)
+                    .value(Math.random() * 100)
+                    .timestamp(LocalDateTime.now().toString())
+                    .status("NORMAL")
+                    .build();
+
+            sensorIdColumn[i] = encode(sensorIds, sensorData.getSensorId());
+            statusColumn[i] = encode(statuses, sensorData.getStatus());
+            timestampColumn[i] = EpochMicros.parse(sensorData.getTimestamp());
+            valueColumn[i] = sensorData.getValue();
+        }
+
         try (ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
              DataOutputStream dataStream = new DataOutputStream(byteStream)) {
-            
-            // 헤더: 레코드 개수 (4바이트)
-            dataStream.writeInt(request.recordCount());
-            
-            // 각 센서 데이터 레코드 생성
-            for (int i = 0; i < request.recordCount(); i++) {
-                SensorData sensorData = SensorData.builder()
-                        .sensorId("SENSOR_" + i)
-                        .value(Math.random() * 100)
-                        .timestamp(LocalDateTime.now().toString())
-                        .status("NORMAL")
-                        .build();
-                
-                writeRecord(dataStream, sensorData);
+
+            // 헤더: 매직, 버전, 레코드 개수
+            dataStream.writeInt(BinFormat.MAGIC);
+            dataStream.writeInt(BinFormat.VERSION_2);
+            dataStream.writeInt(recordCount);
+
+            writeDictionary(dataStream, sensorIds);
+            writeDictionary(dataStream, statuses);
+
+            for (int start = 0; start < recordCount; start += BinFormat.BLOCK_SIZE) {
+                int end = Math.min(start + BinFormat.BLOCK_SIZE, recordCount);
+                dataStream.writeInt(end - start);
+                for (int i = start; i < end; i++) {
+                    dataStream.writeInt(sensorIdColumn[i]);
+                }
+                for (int i = start; i < end; i++) {
+                    dataStream.writeInt(statusColumn[i]);
+                }
+                for (int i = start; i < end; i++) {
+                    dataStream.writeLong(timestampColumn[i]);
+                }
+                for (int i = start; i < end; i++) {
+                    dataStream.writeDouble(valueColumn[i]);
+                }
             }
-            
+
             dataStream.flush();
             return byteStream.toByteArray();
-            
+
         } catch (IOException e) {
             throw new RuntimeException("바이너리 파일 생성 실패", e);
         }
@@ -64,34 +109,22 @@ public class BinFileGenerator implements FileGenerator{
     }
 
     /**
-     * 개별 센서 데이터 레코드를 바이너리로 쓰기
+     * 사전에 없는 값이면 새 인덱스를 부여한다. null 은 빈 문자열로 저장한다.
      */
-    private void writeRecord(DataOutputStream dataStream, SensorData sensorData) throws IOException {
-        // sensorId: length + UTF-8 bytes
-        writeString(dataStream, sensorData.getSensorId());
-        
-        // value: 8바이트 double
-        dataStream.writeDouble(sensorData.getValue());
-        
-        // timestamp: length + UTF-8 bytes
-        writeString(dataStream, sensorData.getTimestamp());
-        
-        // status: length + UTF-8 bytes  
-        writeString(dataStream, sensorData.getStatus());
+    private int encode(Map<String, Integer> dictionary, String value) {
+        return dictionary.computeIfAbsent(value == null ? "" : value, key -> dictionary.size());
     }
-    
+
     /**
-     * 문자열을 바이너리로 쓰기 (길이 정보 포함)
-     * Format: [length(4 bytes)][UTF-8 data(variable)]
+     * 사전을 인덱스 순서대로 쓰기
+     * Format: [entry count(4 bytes)] + [length(4 bytes)][UTF-8 data(variable)] × entry count
      */
-    private void writeString(DataOutputStream dataStream, String str) throws IOException {
-        if (str == null) {
-            dataStream.writeInt(0); // null인 경우 길이 0
-            return;
+    private void writeDictionary(DataOutputStream dataStream, Map<String, Integer> dictionary) throws IOException {
+        dataStream.writeInt(dictionary.size());
+        for (String entry : dictionary.keySet()) {
+            byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+            dataStream.writeInt(bytes.length);
+            dataStream.write(bytes);
         }
-        
-        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
-        dataStream.writeInt(bytes.length); // 문자열 길이 (바이트 단위)
-        dataStream.write(bytes);           // 실제 UTF-8 데이터
     }
-}
\ No newline at end of file
+}
@@ -1,16 +1,34 @@
 package com.core.data_pipeline_platform.domain.parse.controller;
 
+import com.core.data_pipeline_platform.domain.parse.dto.AggregationResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.CrossFileQueryResponse;
 import com.core.data_pipeline_platform.domain.parse.dto.ParsedDataResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedDataStatsResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedDataSummary;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedRecordsResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.RecordQueryResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.SensorSeriesResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.TimeRangeResponse;
 import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.enums.AggregationGroupBy;
+import com.core.data_pipeline_platform.domain.parse.enums.RecordStreamFormat;
+import com.core.data_pipeline_platform.domain.parse.service.ParsedDataAggregationService;
 import com.core.data_pipeline_platform.domain.parse.service.ParsedDataService;
+import com.core.data_pipeline_platform.domain.parse.service.ParsedRecordQueryService;
+import com.core.data_pipeline_platform.domain.parse.service.SensorIndexService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/parsed-data")
@@ -18,28 +36,129 @@ import java.util.Map;
 public class ParsedDataController {
 
     private final ParsedDataService parsedDataService;
+    private final ParsedDataAggregationService parsedDataAggregationService;
+    private final ParsedRecordQueryService parsedRecordQueryService;
+    private final SensorIndexService sensorIndexService;
 
     /**
-     * 모든 파싱된 데이터 조회 (페이징)
+     * 모든 파싱된 데이터의 메타데이터 조회 (페이징)
      */
     @GetMapping
-    public ResponseEntity<Page<ParsedDataEntity>> getAllParsedData(Pageable pageable) {
-        Page<ParsedDataEntity> parsedData = parsedDataService.getAllParsedData(pageable);
+    public ResponseEntity<Page<ParsedDataSummary>> getAllParsedData(Pageable pageable) {
+        Page<ParsedDataSummary> parsedData = parsedDataService.getAllParsedData(pageable);
         return ResponseEntity.ok(parsedData);
     }
 
     /**
-     * 파일 ID로 파싱된 데이터 조회
+     * 파일 ID로 파싱된 데이터 조회 (레코드 페이징)
      */
     @GetMapping("/{fileId}")
-    public ResponseEntity<ParsedDataResponse> getParsedDataByFileId(@PathVariable Long fileId) {
+    public ResponseEntity<ParsedDataResponse> getParsedDataByFileId(@PathVariable Long fileId,
+                                                                    @PageableDefault(size = 100) Pageable pageable) {
         ParsedDataEntity entity = parsedDataService.getParsedDataByFileId(fileId);
-        List<Map<String, Object>> data = parsedDataService.getParsedDataAsMap(fileId);
-        
-        ParsedDataResponse response = ParsedDataResponse.from(entity, data);
+        Page<Map<String, Object>> data = parsedDataService.getParsedDataAsMap(fileId, pageable);
+
+        ParsedDataResponse response = ParsedDataResponse.from(parsedDataService.getRequestedFile(fileId, entity), entity, data);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 파일 통계 조회 (value 최소/최대/평균, timestamp 범위, 센서 수, 상태별 레코드 수)
+     */
+    @GetMapping("/{fileId}/stats")
+    public ResponseEntity<ParsedDataStatsResponse> getStats(@PathVariable Long fileId) {
+        return ResponseEntity.ok(parsedDataService.getStats(fileId));
+    }
+
+    /**
+     * 파일 레코드 집계 (groupBy: SENSOR_ID, STATUS / interval: timestamp 구간, ISO-8601 예: PT1H)
+     */
+    @GetMapping("/{fileId}/aggregate")
+    public ResponseEntity<AggregationResponse> aggregate(@PathVariable Long fileId,
+                                                         @RequestParam(required = false) Set<AggregationGroupBy> groupBy,
+                                                         @RequestParam(required = false) Duration interval) {
+        return ResponseEntity.ok(parsedDataAggregationService.aggregate(fileId, groupBy, interval));
+    }
+
+    /**
+     * 파일의 레코드 범위 조회. offset 대신 이전 응답의 nextCursor 를 넘기면 그 다음부터 조회한다.
+     */
+    @GetMapping("/{fileId}/records")
+    public ResponseEntity<ParsedRecordsResponse> getRecords(@PathVariable Long fileId,
+                                                            @RequestParam(defaultValue = "0") long offset,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(defaultValue = "100") int limit) {
+        ParsedRecordsResponse response = cursor != null
+                ? parsedDataService.getRecordsAfter(fileId, cursor, limit)
+                : parsedDataService.getRecords(fileId, offset, limit);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 조건에 맞는 레코드를 필요한 필드만 조회 (fields: sensorId,value / filter: value>=10, status=ERROR 반복 가능)
+     * 조건과 프로젝션은 파서가 읽으면서 적용한다.
+     */
+    @GetMapping("/{fileId}/query")
+    public ResponseEntity<RecordQueryResponse> query(@PathVariable Long fileId,
+                                                     @RequestParam(required = false) String fields,
+                                                     @RequestParam(required = false) List<String> filter,
+                                                     @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(parsedRecordQueryService.query(fileId, fields, filter, limit));
+    }
+
+    /**
+     * 모든 파일에서 조건에 맞는 레코드를 필요한 필드만 조회 (파라미터는 파일별 조회와 같다)
+     * 파일 통계(value/timestamp 범위, sensorId Bloom filter)로 조건을 만족할 수 없는 파일은 읽지 않는다.
+     */
+    @GetMapping("/query")
+    public ResponseEntity<CrossFileQueryResponse> queryFiles(@RequestParam(required = false) String fields,
+                                                             @RequestParam(required = false) List<String> filter,
+                                                             @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(parsedRecordQueryService.queryFiles(fields, filter, limit));
+    }
+
+    /**
+     * timestamp 가 [from, to) 인 레코드 조회 (ISO-8601, 오프셋이 없으면 UTC)
+     * 청크별 시간 범위 인덱스로 겹치지 않는 청크는 읽지 않는다.
+     */
+    @GetMapping("/{fileId}/range")
+    public ResponseEntity<TimeRangeResponse> queryTimeRange(@PathVariable Long fileId,
+                                                            @RequestParam String from,
+                                                            @RequestParam String to,
+                                                            @RequestParam(required = false) String fields,
+                                                            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(parsedRecordQueryService.queryTimeRange(fileId, from, to, fields, limit));
+    }
+
+    /**
+     * 센서 하나의 레코드를 모든 파일에서 timestamp 순으로 조회 (from/to: ISO-8601, 생략하면 제한 없음)
+     * 센서 역색인이 가리키는 파일의 레코드 구간만 읽는다.
+     */
+    @GetMapping("/sensors/{sensorId}/series")
+    public ResponseEntity<SensorSeriesResponse> getSensorSeries(@PathVariable String sensorId,
+                                                                @RequestParam(required = false) String from,
+                                                                @RequestParam(required = false) String to,
+                                                                @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(sensorIndexService.getSeries(sensorId, from, to, limit));
+    }
+
+    /**
+     * 파일의 모든 레코드를 스트리밍으로 조회 (NDJSON 또는 JSON 배열)
+     * 저장된 청크를 읽는 대로 응답에 쓰므로 레코드 수와 무관한 메모리로 동작한다.
+     */
+    @GetMapping("/{fileId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamParsedData(@PathVariable Long fileId,
+                                                                  @RequestParam(defaultValue = "NDJSON") RecordStreamFormat format) {
+        // 응답을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로 존재 여부를 먼저 확인한다.
+        // 다른 파일의 파싱 결과에 연결된 파일이면 그 파일의 청크를 읽는다.
+        Long resultFileId = parsedDataService.getParsedDataByFileId(fileId).getFile().getId();
+
+        StreamingResponseBody body = out -> parsedDataService.writeRecords(resultFileId, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMimeType()))
+                .body(body);
+    }
+
     /**
      * 파싱된 데이터 삭제
      */
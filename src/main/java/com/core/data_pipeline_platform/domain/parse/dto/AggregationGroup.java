@@ -0,0 +1,22 @@
+package com.core.data_pipeline_platform.domain.parse.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 집계 그룹 하나. groupBy 에 없는 키와 interval 이 없을 때의 bucketStart 는 null 이다.
+ * count 는 그룹의 레코드 수, valueCount 는 그중 value 가 숫자인 레코드 수이며 sum/min/max/avg 는 그 값들로 계산한다.
+ */
+@Getter
+@Builder
+public class AggregationGroup {
+    private String sensorId;
+    private String status;
+    private String bucketStart;
+    private long count;
+    private long valueCount;
+    private Double sum;
+    private Double min;
+    private Double max;
+    private Double avg;
+}
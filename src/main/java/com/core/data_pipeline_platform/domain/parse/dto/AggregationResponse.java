@@ -0,0 +1,21 @@
+package com.core.data_pipeline_platform.domain.parse.dto;
+
+import com.core.data_pipeline_platform.domain.parse.enums.AggregationGroupBy;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Builder
+public class AggregationResponse {
+    private Long fileId;
+    private Set<AggregationGroupBy> groupBy;
+    // ISO-8601 (예: PT1H). 시간 구간으로 나누지 않으면 null
+    private String interval;
+    // 집계에 읽은 레코드 수 (interval 이 있으면 timestamp 가 없는 레코드는 그룹에서 빠진다)
+    private long recordCount;
+    private int groupCount;
+    private List<AggregationGroup> groups;
+}
@@ -0,0 +1,23 @@
+package com.core.data_pipeline_platform.domain.parse.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Builder
+public class CrossFileQueryResponse {
+    // null 이면 모든 필드
+    private Set<String> fields;
+    private List<String> filters;
+    // 읽은 파일 수와 통계(zone map, sensorId Bloom filter)만 보고 건너뛴 파일 수
+    private int scannedFiles;
+    private int skippedFiles;
+    private int count;
+    // limit 을 넘는 레코드가 더 있으면 true
+    private boolean truncated;
+    // 파일 id 순, 파일 안에서는 레코드 순
+    private List<FileRecord> records;
+}
@@ -0,0 +1,16 @@
+package com.core.data_pipeline_platform.domain.parse.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 파일 간 조회 결과의 레코드 하나와 그 레코드가 있는 파일
+ */
+@Getter
+@Builder
+public class FileRecord {
+    private Long fileId;
+    private Map<String, Object> record;
+}
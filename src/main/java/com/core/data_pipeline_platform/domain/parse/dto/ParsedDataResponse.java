@@ -4,6 +4,7 @@ import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
 import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
 import lombok.Builder;
 import lombok.Getter;
+import org.springframework.data.domain.Page;
 
 import java.util.List;
 import java.util.Map;
@@ -15,16 +16,24 @@ public class ParsedDataResponse {
     private Long fileId;
     private String fileName;
     private String fileType;
+    private long totalRecords;
+    private int page;
+    private int size;
     private List<Map<String, Object>> data;
 
-    public static ParsedDataResponse from(ParsedDataEntity entity, List<Map<String, Object>> parsedData) {
-        FileEntity file = entity.getFile();
+    /**
+     * @param file 요청한 파일. 다른 파일의 파싱 결과에 연결된 파일이면 entity 의 파일과 다르다.
+     */
+    public static ParsedDataResponse from(FileEntity file, ParsedDataEntity entity, Page<Map<String, Object>> parsedData) {
         return ParsedDataResponse.builder()
             .id(entity.getId())
             .fileId(file.getId())
             .fileName(file.getOriginName())
             .fileType(file.getFileType().name())
-            .data(parsedData)
+            .totalRecords(parsedData.getTotalElements())
+            .page(parsedData.getNumber())
+            .size(parsedData.getSize())
+            .data(parsedData.getContent())
             .build();
     }
 }
\ No newline at end of file
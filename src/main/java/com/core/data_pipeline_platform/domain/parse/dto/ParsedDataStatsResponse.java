@@ -0,0 +1,60 @@
+package com.core.data_pipeline_platform.domain.parse.dto;
+
+import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataStats;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 파싱할 때 계산해 둔 파일 통계. 통계 기능 이전에 파싱된 파일은 recordCount 외의 항목이 null 이다.
+ */
+@Getter
+@Builder
+public class ParsedDataStatsResponse {
+    private Long fileId;
+    private String fileName;
+    private long recordCount;
+    private Long valueCount;
+    private Double valueMin;
+    private Double valueMax;
+    private Double valueAvg;
+    private Double valueSum;
+    private Long timestampCount;
+    private String timestampFrom;
+    private String timestampTo;
+    private Integer sensorCount;
+    // false 면 sensorCount 는 추적 상한에서 멈춘 하한값
+    private Boolean sensorCountExact;
+    private Map<String, Long> statusCounts;
+
+    /**
+     * @param file 요청한 파일. 다른 파일의 파싱 결과에 연결된 파일이면 entity 의 파일과 다르다.
+     */
+    public static ParsedDataStatsResponse from(FileEntity file, ParsedDataEntity entity) {
+        ParsedDataStatsResponseBuilder builder = ParsedDataStatsResponse.builder()
+            .fileId(file.getId())
+            .fileName(file.getOriginName())
+            .recordCount(entity.getRecordCount());
+        ParsedDataStats stats = entity.getStats();
+        if (stats == null) {
+            return builder.build();
+        }
+        return builder
+            .valueCount(stats.getValueCount())
+            .valueMin(stats.getValueMin())
+            .valueMax(stats.getValueMax())
+            .valueAvg(stats.getValueAvg())
+            .valueSum(stats.getValueSum())
+            .timestampCount(stats.getTimestampCount())
+            .timestampFrom(stats.getTimestampMin() == null ? null : EpochMicros.format(stats.getTimestampMin()))
+            .timestampTo(stats.getTimestampMax() == null ? null : EpochMicros.format(stats.getTimestampMax()))
+            .sensorCount(stats.getSensorCount())
+            .sensorCountExact(stats.getSensorCountExact())
+            .statusCounts(stats.getStatusCounts())
+            .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.core.data_pipeline_platform.domain.parse.dto;
+
+import com.core.data_pipeline_platform.domain.file.enums.FileProcessingStatus;
+import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 목록 조회용 메타데이터. ParsedDataRepository.findAllSummaries 가 파일과 조인해 한 쿼리로 채운다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ParsedDataSummary {
+    private Long id;
+    private Long fileId;
+    private String fileName;
+    private FileType fileType;
+    private FileProcessingStatus processingStatus;
+    private long recordCount;
+    private int chunkCount;
+}
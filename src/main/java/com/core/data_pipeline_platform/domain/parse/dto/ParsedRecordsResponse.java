@@ -0,0 +1,39 @@
+package com.core.data_pipeline_platform.domain.parse.dto;
+
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class ParsedRecordsResponse {
+    private Long fileId;
+    private long totalRecords;
+    private long offset;
+    private int count;
+    private List<Map<String, Object>> records;
+    // 마지막 범위면 null
+    private String nextCursor;
+
+    public static ParsedRecordsResponse of(ParsedDataEntity entity, long offset, List<Map<String, Object>> records) {
+        return of(entity.getFile().getId(), entity, offset, records);
+    }
+
+    /**
+     * @param fileId 요청한 파일 id. 다른 파일의 파싱 결과에 연결된 파일이면 entity 의 파일과 다르며, 커서는 이 id 로 만든다.
+     */
+    public static ParsedRecordsResponse of(Long fileId, ParsedDataEntity entity, long offset, List<Map<String, Object>> records) {
+        long next = offset + records.size();
+        return ParsedRecordsResponse.builder()
+            .fileId(fileId)
+            .totalRecords(entity.getRecordCount())
+            .offset(offset)
+            .count(records.size())
+            .records(records)
+            .nextCursor(!records.isEmpty() && next < entity.getRecordCount() ? RecordCursor.encode(fileId, next) : null)
+            .build();
+    }
+}
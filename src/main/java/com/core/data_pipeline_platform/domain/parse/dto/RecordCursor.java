@@ -0,0 +1,43 @@
+package com.core.data_pipeline_platform.domain.parse.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 레코드 범위 조회의 다음 위치를 담는 불투명 커서. 파일의 레코드는 저장 후 바뀌지 않으므로 다음 레코드 번호만으로 충분하다.
+ * 다른 파일의 커서를 잘못 넘기는 경우를 막기 위해 파일 ID 를 함께 담는다.
+ */
+public final class RecordCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private RecordCursor() {
+    }
+
+    public static String encode(Long fileId, long offset) {
+        return ENCODER.encodeToString((fileId + ":" + offset).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @return 커서가 가리키는 레코드 번호
+     */
+    public static long decode(Long fileId, String cursor) {
+        try {
+            String value = new String(DECODER.decode(cursor), StandardCharsets.US_ASCII);
+            int separator = value.indexOf(':');
+            if (separator > 0 && Long.parseLong(value.substring(0, separator)) == fileId) {
+                long offset = Long.parseLong(value.substring(separator + 1));
+                if (offset >= 0) {
+                    return offset;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 잘못된 커서로 처리
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+    }
+}
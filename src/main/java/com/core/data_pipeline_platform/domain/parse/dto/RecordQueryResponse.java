@@ -0,0 +1,21 @@
+package com.core.data_pipeline_platform.domain.parse.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Builder
+public class RecordQueryResponse {
+    private Long fileId;
+    // null 이면 모든 필드
+    private Set<String> fields;
+    private List<String> filters;
+    private int count;
+    // limit 을 넘는 레코드가 더 있으면 true
+    private boolean truncated;
+    private List<Map<String, Object>> records;
+}
@@ -0,0 +1,16 @@
+package com.core.data_pipeline_platform.domain.parse.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 센서 시계열의 레코드 하나와 그 레코드가 있는 파일
+ */
+@Getter
+@Builder
+public class SensorSeriesPoint {
+    private Long fileId;
+    private Map<String, Object> record;
+}
@@ -0,0 +1,23 @@
+package com.core.data_pipeline_platform.domain.parse.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class SensorSeriesResponse {
+    private String sensorId;
+    // UTC 로 정규화한 조회 구간 [from, to). 없으면 null (제한 없음)
+    private String from;
+    private String to;
+    // 센서 역색인으로 고른 파일 수와 읽은 레코드 구간 수
+    private int fileCount;
+    private int scannedRanges;
+    private int count;
+    // limit 을 넘는 레코드가 더 있으면 true
+    private boolean truncated;
+    // timestamp 순 (같으면 fileId, 파일 안 레코드 순)
+    private List<SensorSeriesPoint> points;
+}
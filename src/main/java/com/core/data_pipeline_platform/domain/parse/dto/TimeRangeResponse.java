@@ -0,0 +1,26 @@
+package com.core.data_pipeline_platform.domain.parse.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Builder
+public class TimeRangeResponse {
+    private Long fileId;
+    // UTC 로 정규화한 조회 구간 [from, to)
+    private String from;
+    private String to;
+    // null 이면 모든 필드
+    private Set<String> fields;
+    // 파일의 청크 수와 시간 인덱스로 골라 실제로 읽은 청크 수
+    private int chunkCount;
+    private int scannedChunks;
+    private int count;
+    // limit 을 넘는 레코드가 더 있으면 true
+    private boolean truncated;
+    private List<Map<String, Object>> records;
+}
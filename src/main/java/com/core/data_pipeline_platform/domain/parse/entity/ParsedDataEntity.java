@@ -7,6 +7,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
+/**
+ * 파일 한 개의 파싱 결과 요약. 레코드는 ParsedRecordChunkEntity 에 배치 단위로 나눠 저장된다.
+ * 이전 버전이 남긴 data 컬럼(파일 전체 JSON)은 매핑하지 않으며 LegacyParsedDataMigrationJob 이 청크로 옮긴다.
+ */
 @Entity
 @Builder
 @AllArgsConstructor
@@ -15,12 +21,24 @@ import lombok.NoArgsConstructor;
 public class ParsedDataEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "parsed_data_entity_seq")
+    @SequenceGenerator(name = "parsed_data_entity_seq", sequenceName = "parsed_data_entity_seq", allocationSize = 50)
     private Long id;
 
-    @OneToOne
+    // 목록은 findAllSummaries 로, 단건은 findByFileId 의 fetch join 으로 읽으므로 지연 로딩한다.
+    @OneToOne(fetch = FetchType.LAZY)
     private FileEntity file;
 
-    @Column(columnDefinition = "json", nullable = false)
-    private String data;
+    @Column(nullable = false)
+    private long recordCount;
+
+    @Column(nullable = false)
+    private int chunkCount;
+
+    @Embedded
+    private ParsedDataStats stats;
+
+    // 파싱 직후에만 채워지는 센서 역색인 항목. 이 테이블에는 저장하지 않고 SensorIndexService 가 따로 저장한다.
+    @Transient
+    private List<SensorRecordRangeEntity> sensorRanges;
 }
@@ -0,0 +1,66 @@
+package com.core.data_pipeline_platform.domain.parse.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 파싱하면서 함께 계산한 파일 통계. 레코드 본문을 읽지 않고 조회한다.
+ * 해당 필드가 없거나 값이 하나도 없으면 그 항목은 null 이다.
+ * value/timestamp 범위와 sensorBloom 은 파일 간 조회에서 조건을 만족할 수 없는 파일을 건너뛰는 데도 쓴다. (FilePruner)
+ */
+@Embeddable
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class ParsedDataStats {
+
+    // 숫자로 읽힌 value 의 개수/최소/최대/합
+    @Column(name = "value_count")
+    private Long valueCount;
+
+    @Column(name = "value_min")
+    private Double valueMin;
+
+    @Column(name = "value_max")
+    private Double valueMax;
+
+    @Column(name = "value_sum")
+    private Double valueSum;
+
+    // 시각으로 읽힌 timestamp 의 개수와 범위 (UTC epoch 마이크로초, EpochMicros)
+    @Column(name = "timestamp_count")
+    private Long timestampCount;
+
+    @Column(name = "timestamp_min")
+    private Long timestampMin;
+
+    @Column(name = "timestamp_max")
+    private Long timestampMax;
+
+    // 서로 다른 sensorId 수. sensorCountExact 가 false 면 추적 상한에서 멈춘 하한값이다.
+    @Column(name = "sensor_count")
+    private Integer sensorCount;
+
+    @Column(name = "sensor_count_exact")
+    private Boolean sensorCountExact;
+
+    // sensorId 의 Bloom filter (SensorBloomFilter.toBytes). 센서 수가 추적 상한을 넘으면 null
+    @Column(name = "sensor_bloom", columnDefinition = "longblob")
+    private byte[] sensorBloom;
+
+    @Convert(converter = StatusCountsConverter.class)
+    @Column(name = "status_counts", columnDefinition = "text")
+    private Map<String, Long> statusCounts;
+
+    public Double getValueAvg() {
+        return valueCount == null || valueCount == 0 ? null : valueSum / valueCount;
+    }
+}
@@ -0,0 +1,68 @@
+package com.core.data_pipeline_platform.domain.parse.entity;
+
+import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
+import com.core.data_pipeline_platform.domain.parse.enums.ChunkEncoding;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 파싱된 레코드 배치 하나(JSON 배열). 파일의 firstRecord 번째부터 recordCount 개 레코드를 담는다.
+ * 본문은 encoding 에 따라 data(JSON 문자열) 또는 payload(압축된 JSON)에 있다.
+ * 저장은 ParsedRecordChunkJdbcRepository 의 multi-row INSERT 로 한다.
+ * timestampMin/Max 는 파일의 희소 시간 인덱스다. (청크 하나당 항목 하나, 시간 범위 조회에서 겹치지 않는 청크를 건너뛴다)
+ */
+@Entity
+@Table(name = "parsed_record_chunk",
+        indexes = @Index(name = "uk_parsed_record_chunk_file_first", columnList = "file_id, first_record", unique = true))
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class ParsedRecordChunkEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "file_id", nullable = false)
+    private FileEntity file;
+
+    @Column(name = "first_record", nullable = false)
+    private long firstRecord;
+
+    @Column(name = "record_count", nullable = false)
+    private int recordCount;
+
+    // null 은 encoding 컬럼이 생기기 전에 저장된 행으로 JSON 과 같다.
+    @Enumerated(EnumType.STRING)
+    @Column(name = "encoding", length = 16)
+    private ChunkEncoding encoding;
+
+    @Column(name = "data", columnDefinition = "longtext", nullable = false)
+    private String data;
+
+    @Column(name = "payload", columnDefinition = "longblob")
+    private byte[] payload;
+
+    // 청크 레코드의 timestamp 범위 (UTC epoch 마이크로초, 파싱 시 정규화). 시각이 없거나 컬럼 추가 전 행이면 null
+    @Column(name = "timestamp_min")
+    private Long timestampMin;
+
+    @Column(name = "timestamp_max")
+    private Long timestampMax;
+
+    public boolean isDeflated() {
+        return encoding == ChunkEncoding.DEFLATE;
+    }
+
+    /**
+     * 저장되는 본문 크기 (INSERT 크기 제한용)
+     */
+    public long getStoredSize() {
+        return isDeflated() ? payload.length : data.length();
+    }
+}
@@ -0,0 +1,52 @@
+package com.core.data_pipeline_platform.domain.parse.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 센서 역색인 항목. sensorId 의 레코드가 있는 파일과 그 파일의 레코드 구간 [firstRecord, endRecord) 이다.
+ * 구간은 sensorId 가 연속한 청크들에 걸쳐 나온 범위로, 양 끝은 청크 경계다. (구간 안에 다른 센서 레코드도 섞여 있다)
+ * 파싱이 끝날 때 파일 단위로 저장하고 (SensorIndexService), 파싱 결과를 지울 때 함께 지운다.
+ * 저장/조회는 SensorRecordRangeJdbcRepository 로 한다.
+ */
+@Entity
+@Table(name = "sensor_record_range", indexes = {
+        @Index(name = "idx_sensor_record_range_sensor", columnList = "sensor_id, file_id, first_record"),
+        @Index(name = "idx_sensor_record_range_file", columnList = "file_id")
+})
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class SensorRecordRangeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_id", nullable = false)
+    private Long fileId;
+
+    @Column(name = "sensor_id", nullable = false, length = 255)
+    private String sensorId;
+
+    @Column(name = "first_record", nullable = false)
+    private long firstRecord;
+
+    @Column(name = "end_record", nullable = false)
+    private long endRecord;
+
+    // 구간 안의 이 센서 레코드 수
+    @Column(name = "record_count", nullable = false)
+    private long recordCount;
+
+    // 이 센서 레코드의 timestamp 범위 (UTC epoch 마이크로초). 시각이 없으면 null
+    @Column(name = "timestamp_min")
+    private Long timestampMin;
+
+    @Column(name = "timestamp_max")
+    private Long timestampMax;
+}
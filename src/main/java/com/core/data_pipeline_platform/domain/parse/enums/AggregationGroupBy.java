@@ -0,0 +1,14 @@
+package com.core.data_pipeline_platform.domain.parse.enums;
+
+import com.core.data_pipeline_platform.domain.parse.model.SensorFields;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum AggregationGroupBy {
+    SENSOR_ID(SensorFields.SENSOR_ID),
+    STATUS(SensorFields.STATUS);
+
+    private final String field;
+}
@@ -0,0 +1,6 @@
+package com.core.data_pipeline_platform.domain.parse.enums;
+
+public enum ChunkEncoding {
+    JSON,       // data 컬럼에 JSON 배열 문자열
+    DEFLATE     // payload 컬럼에 deflate 로 압축한 JSON 배열 (data 는 빈 문자열)
+}
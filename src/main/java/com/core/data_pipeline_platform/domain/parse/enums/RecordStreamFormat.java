@@ -0,0 +1,13 @@
+package com.core.data_pipeline_platform.domain.parse.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum RecordStreamFormat {
+    NDJSON("application/x-ndjson"),   // 한 줄에 레코드 하나
+    JSON("application/json");         // 레코드 전체를 하나의 JSON 배열로
+
+    private final String mimeType;
+}
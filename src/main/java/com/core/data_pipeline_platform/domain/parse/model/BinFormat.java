@@ -0,0 +1,20 @@
+package com.core.data_pipeline_platform.domain.parse.model;
+
+/**
+ * BIN 파일 포맷 상수. 레이아웃은 BinFileGenerator 참고.
+ */
+public final class BinFormat {
+
+    // v1 은 첫 int 가 레코드 수(0 이상)이므로, int 로 읽으면 음수가 되는 매직으로 v2 이상을 구분한다. (\x89 'S' 'B' 'N')
+    public static final int MAGIC = 0x8953424E;
+    public static final int VERSION_2 = 2;
+
+    // 한 컬럼 블록에 담는 최대 레코드 수
+    public static final int BLOCK_SIZE = 65_536;
+
+    // timestamp 가 없는 레코드 (timestamp 는 EpochMicros 로 변환해 저장)
+    public static final long NULL_TIMESTAMP = EpochMicros.NONE;
+
+    private BinFormat() {
+    }
+}
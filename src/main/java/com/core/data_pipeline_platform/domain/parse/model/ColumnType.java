@@ -0,0 +1,13 @@
+package com.core.data_pipeline_platform.domain.parse.model;
+
+/**
+ * RecordBatch 컬럼의 저장 타입.
+ */
+public enum ColumnType {
+    LONG,       // long[]
+    DOUBLE,     // double[]
+    BOOLEAN,    // long[] 에 0/1
+    TIMESTAMP,  // long[] 에 UTC epoch 마이크로초 (EpochMicros)
+    STRING,     // 배치 단위 사전 코드 int[]
+    OBJECT      // 중첩 객체/배열, 큰 정수, 타입이 섞인 컬럼
+}
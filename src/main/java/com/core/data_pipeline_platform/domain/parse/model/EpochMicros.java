@@ -0,0 +1,164 @@
+package com.core.data_pipeline_platform.domain.parse.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+
+/**
+ * timestamp 를 UTC 기준 epoch 마이크로초(long)로 다룬다.
+ * 입력 형식: yyyy-MM-dd('T'| )HH:mm[:ss[.f{1,9}]][Z|±HH:MM|±HHMM]
+ * 오프셋이 없으면 UTC 로 보고, 마이크로초 미만은 버린다.
+ * 출력 형식: yyyy-MM-dd'T'HH:mm:ss[.f{1,6}]Z (초와 Z 는 항상 쓴다)
+ */
+public final class EpochMicros {
+
+    // 값이 없거나 형식이 맞지 않음
+    public static final long NONE = Long.MIN_VALUE;
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    // 소수점 이하는 0 이 아닐 때만, 끝의 0 을 뺀 최대 6자리
+    private static final DateTimeFormatter FORMATTER = new DateTimeFormatterBuilder()
+            .appendPattern("uuuu-MM-dd'T'HH:mm:ss")
+            .appendFraction(ChronoField.NANO_OF_SECOND, 0, 6, true)
+            .appendLiteral('Z')
+            .toFormatter();
+
+    private EpochMicros() {
+    }
+
+    public static long parse(String text) {
+        if (text == null || text.isEmpty()) {
+            return NONE;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+        return parse(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 바이트에서 바로 읽는다. 형식이 맞지 않으면 예외 대신 NONE 을 반환한다.
+     */
+    public static long parse(byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        if (length < 16 || bytes[offset + 4] != '-' || bytes[offset + 7] != '-'
+                || (bytes[offset + 10] != 'T' && bytes[offset + 10] != ' ') || bytes[offset + 13] != ':') {
+            return NONE;
+        }
+
+        int year = digits(bytes, offset, 4, end);
+        int month = digits(bytes, offset + 5, 2, end);
+        int day = digits(bytes, offset + 8, 2, end);
+        int hour = digits(bytes, offset + 11, 2, end);
+        int minute = digits(bytes, offset + 14, 2, end);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return NONE;
+        }
+
+        int position = offset + 16;
+        int second = 0;
+        long micros = 0;
+        if (position < end && bytes[position] == ':') {
+            second = digits(bytes, position + 1, 2, end);
+            if (second < 0 || second > 59) {
+                return NONE;
+            }
+            position += 3;
+
+            if (position < end && bytes[position] == '.') {
+                position++;
+                int fractionDigits = 0;
+                while (position < end && isDigit(bytes[position])) {
+                    if (fractionDigits >= 9) {
+                        return NONE;
+                    }
+                    if (fractionDigits < 6) {
+                        micros = micros * 10 + (bytes[position] - '0');
+                    }
+                    fractionDigits++;
+                    position++;
+                }
+                if (fractionDigits == 0) {
+                    return NONE;
+                }
+                for (int i = fractionDigits; i < 6; i++) {
+                    micros *= 10;
+                }
+            }
+        }
+
+        int offsetSeconds = 0;
+        if (position < end) {
+            byte sign = bytes[position];
+            if (sign == '+' || sign == '-') {
+                int offsetHours = digits(bytes, position + 1, 2, end);
+                int minutesAt = position + 3 < end && bytes[position + 3] == ':' ? position + 4 : position + 3;
+                int offsetMinutes = digits(bytes, minutesAt, 2, end);
+                if (minutesAt + 2 != end || offsetHours < 0 || offsetHours > 18 || offsetMinutes < 0 || offsetMinutes > 59) {
+                    return NONE;
+                }
+                offsetSeconds = (offsetHours * 3_600 + offsetMinutes * 60) * (sign == '-' ? -1 : 1);
+            } else if (sign != 'Z' || position + 1 != end) {
+                return NONE;
+            }
+        }
+
+        long seconds = daysFromCivil(year, month, day) * SECONDS_PER_DAY
+                + hour * 3_600L + minute * 60L + second - offsetSeconds;
+        return seconds * MICROS_PER_SECOND + micros;
+    }
+
+    public static String format(long micros) {
+        if (micros == NONE) {
+            return "";
+        }
+        long seconds = Math.floorDiv(micros, MICROS_PER_SECOND);
+        int nanos = (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1_000;
+        return FORMATTER.format(LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC));
+    }
+
+    /**
+     * 두 자리 또는 네 자리 숫자. 범위를 벗어나거나 숫자가 아니면 -1.
+     */
+    private static int digits(byte[] bytes, int position, int count, int end) {
+        if (position + count > end) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = position; i < position + count; i++) {
+            if (!isDigit(bytes[i])) {
+                return -1;
+            }
+            value = value * 10 + (bytes[i] - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * 1970-01-01 기준 일 수 (proleptic Gregorian)
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468;
+    }
+}
@@ -0,0 +1,436 @@
+package com.core.data_pipeline_platform.domain.parse.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파서가 만들고 하위 단계가 소비하는 컬럼형 레코드 배치.
+ * - 숫자/불리언은 원시 배열에, 문자열은 배치 단위 사전 코드로 저장하고 나머지만 Object[] 로 보관한다.
+ * - 한 컬럼에 타입이 섞이면(정수와 실수 포함) 값을 바꾸지 않도록 그 배치에서는 OBJECT 컬럼으로 바꾼다.
+ * - 레코드마다 키 구성이 달라도 되며, 키가 없는 칸과 null 인 칸을 구분한다.
+ * - clear() 후에도 컬럼 이름과 인덱스는 유지되므로, 파서는 컬럼 인덱스를 한 번만 찾아 재사용할 수 있다.
+ * Map 으로의 변환(toMap)은 REST 응답처럼 Map 이 꼭 필요한 곳에서만 쓴다.
+ */
+public class RecordBatch {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final List<Column> columns = new ArrayList<>();
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+    // reset 으로 정의가 지워진 컬럼. 배열을 다음 컬럼에 재사용한다.
+    private final List<Column> spareColumns = new ArrayList<>();
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int columnCount() {
+        return columns.size();
+    }
+
+    public String columnName(int column) {
+        return columns.get(column).name;
+    }
+
+    /**
+     * 현재 배치에서 컬럼의 저장 타입. 값이 한 번도 들어오지 않았으면 null.
+     */
+    public ColumnType columnType(int column) {
+        return columns.get(column).type;
+    }
+
+    /**
+     * 컬럼 인덱스. 없으면 -1.
+     */
+    public int columnIndex(String name) {
+        Integer index = columnIndexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * 컬럼 인덱스를 찾고, 없으면 새 컬럼을 만든다.
+     */
+    public int column(String name) {
+        Integer index = columnIndexes.get(name);
+        if (index != null) {
+            return index;
+        }
+        Column column = spareColumns.isEmpty() ? new Column(name) : spareColumns.removeLast().rename(name);
+        columns.add(column);
+        columnIndexes.put(name, columns.size() - 1);
+        return columns.size() - 1;
+    }
+
+    /**
+     * 새 행을 추가한다. 이후 put* 은 이 행에 값을 쓴다.
+     */
+    public void startRow() {
+        size++;
+    }
+
+    /**
+     * 마지막 행을 버린다. (읽는 중 조건에 맞지 않은 행) 행의 문자열이 처음 나온 값이었다면 사전에는 남는다.
+     */
+    public void discardRow() {
+        int row = size - 1;
+        for (Column column : columns) {
+            column.discard(row);
+        }
+        size--;
+    }
+
+    public void putDouble(int column, double value) {
+        columns.get(column).putDouble(size - 1, value);
+    }
+
+    public void putLong(int column, long value) {
+        columns.get(column).putLong(size - 1, value);
+    }
+
+    public void putBoolean(int column, boolean value) {
+        columns.get(column).putBoolean(size - 1, value);
+    }
+
+    /**
+     * UTC epoch 마이크로초. Map 으로 바꿀 때는 ISO-8601 문자열이 된다.
+     */
+    public void putTimestamp(int column, long epochMicros) {
+        columns.get(column).putTimestamp(size - 1, epochMicros);
+    }
+
+    public void putString(int column, String value) {
+        if (value == null) {
+            putNull(column);
+        } else {
+            columns.get(column).putString(size - 1, value);
+        }
+    }
+
+    public void putNull(int column) {
+        columns.get(column).putNull(size - 1);
+    }
+
+    /**
+     * 값의 런타임 타입에 맞는 컬럼 저장 방식을 고른다.
+     */
+    public void putValue(int column, Object value) {
+        switch (value) {
+            case null -> putNull(column);
+            case String string -> putString(column, string);
+            case Double number -> putDouble(column, number);
+            case Float number -> putDouble(column, number);
+            case Integer number -> putLong(column, number);
+            case Long number -> putLong(column, number);
+            case Short number -> putLong(column, number);
+            case Byte number -> putLong(column, number);
+            case Boolean bool -> putBoolean(column, bool);
+            default -> columns.get(column).putObject(size - 1, value);
+        }
+    }
+
+    public void putValue(String name, Object value) {
+        putValue(column(name), value);
+    }
+
+    /**
+     * 해당 행에 이 컬럼의 키가 있는지. (값이 null 이어도 true)
+     */
+    public boolean isPresent(int column, int row) {
+        return columns.get(column).present.get(row);
+    }
+
+    public boolean isNull(int column, int row) {
+        Column col = columns.get(column);
+        return !col.present.get(row) || col.nulls.get(row);
+    }
+
+    /**
+     * DOUBLE, LONG 컬럼의 값을 double 로 읽는다.
+     */
+    public double getDouble(int column, int row) {
+        Column col = columns.get(column);
+        return col.type == ColumnType.LONG ? col.longs[row] : col.doubles[row];
+    }
+
+    /**
+     * LONG, TIMESTAMP 컬럼의 값.
+     */
+    public long getLong(int column, int row) {
+        return columns.get(column).longs[row];
+    }
+
+    public boolean getBoolean(int column, int row) {
+        return columns.get(column).longs[row] != 0;
+    }
+
+    public String getString(int column, int row) {
+        Column col = columns.get(column);
+        return col.dictionary.get(col.codes[row]);
+    }
+
+    /**
+     * STRING 컬럼의 배치 사전 크기. 사전 코드는 0 부터 이 값 미만이며, 버린 행이 없으면 모든 코드는 배치의 어떤 행에서 쓰인다.
+     */
+    public int dictionarySize(int column) {
+        List<String> dictionary = columns.get(column).dictionary;
+        return dictionary == null ? 0 : dictionary.size();
+    }
+
+    /**
+     * STRING 컬럼 값의 사전 코드. 같은 배치 안에서 같은 문자열은 같은 코드다.
+     */
+    public int getCode(int column, int row) {
+        return columns.get(column).codes[row];
+    }
+
+    public String dictionaryValue(int column, int code) {
+        return columns.get(column).dictionary.get(code);
+    }
+
+    /**
+     * 박싱된 값. 키가 없거나 null 이면 null.
+     * LONG 은 int 범위면 Integer 로 돌려준다. (Jackson 기본 Map 바인딩과 동일)
+     */
+    public Object getValue(int column, int row) {
+        return columns.get(column).value(row);
+    }
+
+    public Map<String, Object> toMap(int row) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        for (Column column : columns) {
+            if (column.present.get(row)) {
+                record.put(column.name, column.value(row));
+            }
+        }
+        return record;
+    }
+
+    public List<Map<String, Object>> toMaps() {
+        List<Map<String, Object>> records = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            records.add(toMap(row));
+        }
+        return records;
+    }
+
+    /**
+     * 행을 모두 비운다. 컬럼 정의와 할당된 배열은 다음 배치에서 재사용한다.
+     */
+    public void clear() {
+        for (Column column : columns) {
+            column.clear(size);
+        }
+        size = 0;
+    }
+
+    /**
+     * 행과 컬럼 정의를 모두 지워 다른 파일에 쓸 수 있게 한다. 할당된 배열은 새 컬럼에 재사용한다.
+     */
+    public void reset() {
+        clear();
+        spareColumns.addAll(columns);
+        columns.clear();
+        columnIndexes.clear();
+    }
+
+    private static final class Column {
+
+        private String name;
+        private final BitSet present = new BitSet();
+        private final BitSet nulls = new BitSet();
+        private ColumnType type;
+
+        private long[] longs;
+        private double[] doubles;
+        private int[] codes;
+        private Object[] objects;
+        private List<String> dictionary;
+        private Map<String, Integer> dictionaryCodes;
+
+        private Column(String name) {
+            this.name = name;
+        }
+
+        private Column rename(String name) {
+            this.name = name;
+            return this;
+        }
+
+        private void putDouble(int row, double value) {
+            if (type == null) {
+                type = ColumnType.DOUBLE;
+            } else if (type != ColumnType.DOUBLE) {
+                putObject(row, value);
+                return;
+            }
+            doubles = ensure(doubles, row);
+            doubles[row] = value;
+            markValue(row);
+        }
+
+        private void putLong(int row, long value) {
+            if (type == null) {
+                type = ColumnType.LONG;
+            } else if (type != ColumnType.LONG) {
+                putObject(row, value);
+                return;
+            }
+            longs = ensure(longs, row);
+            longs[row] = value;
+            markValue(row);
+        }
+
+        private void putBoolean(int row, boolean value) {
+            if (type == null) {
+                type = ColumnType.BOOLEAN;
+            } else if (type != ColumnType.BOOLEAN) {
+                putObject(row, value);
+                return;
+            }
+            longs = ensure(longs, row);
+            longs[row] = value ? 1 : 0;
+            markValue(row);
+        }
+
+        private void putTimestamp(int row, long value) {
+            if (type == null) {
+                type = ColumnType.TIMESTAMP;
+            } else if (type != ColumnType.TIMESTAMP) {
+                putObject(row, EpochMicros.format(value));
+                return;
+            }
+            longs = ensure(longs, row);
+            longs[row] = value;
+            markValue(row);
+        }
+
+        private void putString(int row, String value) {
+            if (type == null) {
+                type = ColumnType.STRING;
+            } else if (type != ColumnType.STRING) {
+                putObject(row, value);
+                return;
+            }
+            if (dictionary == null) {
+                dictionary = new ArrayList<>();
+                dictionaryCodes = new HashMap<>();
+            }
+            Integer code = dictionaryCodes.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(value);
+                dictionaryCodes.put(value, code);
+            }
+            codes = ensure(codes, row);
+            codes[row] = code;
+            markValue(row);
+        }
+
+        private void putNull(int row) {
+            if (type == ColumnType.OBJECT) {
+                objects = ensure(objects, row);
+                objects[row] = null;
+            }
+            present.set(row);
+            nulls.set(row);
+        }
+
+        /**
+         * 기존 값을 모두 박싱해 OBJECT 컬럼으로 바꾼 뒤 값을 쓴다.
+         */
+        private void putObject(int row, Object value) {
+            if (type != ColumnType.OBJECT) {
+                Object[] boxed = new Object[Math.max(INITIAL_CAPACITY, present.length())];
+                for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+                    boxed[i] = value(i);
+                }
+                objects = boxed;
+                type = ColumnType.OBJECT;
+            }
+            objects = ensure(objects, row);
+            objects[row] = value;
+            markValue(row);
+        }
+
+        private Object value(int row) {
+            if (!present.get(row) || nulls.get(row)) {
+                return null;
+            }
+            return switch (type) {
+                case LONG -> {
+                    long value = longs[row];
+                    yield value == (int) value ? (Object) (int) value : (Object) value;
+                }
+                case DOUBLE -> doubles[row];
+                case BOOLEAN -> longs[row] != 0;
+                case TIMESTAMP -> EpochMicros.format(longs[row]);
+                case STRING -> dictionary.get(codes[row]);
+                case OBJECT -> objects[row];
+            };
+        }
+
+        private void discard(int row) {
+            if (objects != null && row < objects.length) {
+                objects[row] = null;
+            }
+            present.clear(row);
+            nulls.clear(row);
+        }
+
+        private void markValue(int row) {
+            present.set(row);
+            nulls.clear(row);
+        }
+
+        private void clear(int size) {
+            if (objects != null) {
+                Arrays.fill(objects, 0, Math.min(size, objects.length), null);
+            }
+            if (dictionary != null) {
+                dictionary.clear();
+                dictionaryCodes.clear();
+            }
+            present.clear();
+            nulls.clear();
+            type = null;
+        }
+
+        private static long[] ensure(long[] array, int row) {
+            if (array == null) {
+                return new long[Math.max(INITIAL_CAPACITY, row + 1)];
+            }
+            return row < array.length ? array : Arrays.copyOf(array, Math.max(array.length * 2, row + 1));
+        }
+
+        private static double[] ensure(double[] array, int row) {
+            if (array == null) {
+                return new double[Math.max(INITIAL_CAPACITY, row + 1)];
+            }
+            return row < array.length ? array : Arrays.copyOf(array, Math.max(array.length * 2, row + 1));
+        }
+
+        private static int[] ensure(int[] array, int row) {
+            if (array == null) {
+                return new int[Math.max(INITIAL_CAPACITY, row + 1)];
+            }
+            return row < array.length ? array : Arrays.copyOf(array, Math.max(array.length * 2, row + 1));
+        }
+
+        private static Object[] ensure(Object[] array, int row) {
+            if (array == null) {
+                return new Object[Math.max(INITIAL_CAPACITY, row + 1)];
+            }
+            return row < array.length ? array : Arrays.copyOf(array, Math.max(array.length * 2, row + 1));
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.core.data_pipeline_platform.domain.parse.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 파서가 읽으면서 적용하는 조건(필터)과 읽을 필드(프로젝션).
+ * - 파서는 reads(field) 가 false 인 필드를 디코딩하지 않고 건너뛴다.
+ * - 행을 다 읽은 뒤 matches 가 false 면 그 행을 버린다. 조건에 쓰인 필드는 프로젝션에 없어도 읽는다.
+ * - 조건끼리는 AND 이며, 필드가 없거나 null 인 행은 어떤 조건도 만족하지 않는다.
+ * 불변이므로 여러 스레드(병렬 분할 파싱)에서 함께 쓸 수 있다.
+ */
+public final class RecordQuery {
+
+    // 조건 없이 모든 필드를 읽는다.
+    public static final RecordQuery ALL = new RecordQuery(null, List.of());
+
+    // null 이면 모든 필드
+    private final Set<String> fields;
+    private final List<Condition> conditions;
+    // fields + 조건 필드. fields 가 null 이면 null
+    private final Set<String> reads;
+
+    public RecordQuery(Set<String> fields, List<Condition> conditions) {
+        this.fields = fields == null ? null : Collections.unmodifiableSet(new LinkedHashSet<>(fields));
+        this.conditions = List.copyOf(conditions);
+        if (fields == null) {
+            this.reads = null;
+        } else {
+            Set<String> reads = new LinkedHashSet<>(fields);
+            for (Condition condition : conditions) {
+                reads.add(condition.field());
+            }
+            this.reads = Collections.unmodifiableSet(reads);
+        }
+    }
+
+    /**
+     * 요청 파라미터로 만든다.
+     * - fields: 쉼표로 구분한 필드 이름. 비어 있으면 모든 필드
+     * - filters: "필드 연산자 값" (연산자: =, ==, !=, >, >=, <, <=). 예) value>=10, status=ERROR
+     *
+     * @throws IllegalArgumentException 필터 형식이 맞지 않을 때
+     */
+    public static RecordQuery parse(String fields, List<String> filters) {
+        Set<String> projection = null;
+        if (fields != null && !fields.isBlank()) {
+            projection = new LinkedHashSet<>();
+            for (String field : fields.split(",")) {
+                if (!field.isBlank()) {
+                    projection.add(field.trim());
+                }
+            }
+        }
+        List<Condition> conditions = new ArrayList<>();
+        if (filters != null) {
+            for (String filter : filters) {
+                conditions.add(Condition.parse(filter));
+            }
+        }
+        if (projection == null && conditions.isEmpty()) {
+            return ALL;
+        }
+        return new RecordQuery(projection, conditions);
+    }
+
+    /**
+     * 프로젝션 필드. null 이면 모든 필드
+     */
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    public List<Condition> getConditions() {
+        return conditions;
+    }
+
+    public boolean hasConditions() {
+        return !conditions.isEmpty();
+    }
+
+    /**
+     * 파서가 이 필드를 디코딩해야 하는지. (프로젝션 또는 조건에 쓰인 필드)
+     */
+    public boolean reads(String field) {
+        return reads == null || reads.contains(field);
+    }
+
+    /**
+     * 배치의 row 행이 모든 조건을 만족하는지.
+     */
+    public boolean matches(RecordBatch batch, int row) {
+        for (Condition condition : conditions) {
+            if (!condition.test(batch, row)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * field 에 걸린 조건을 숫자 값 하나로 먼저 검사한다. 다른 필드의 조건은 검사하지 않는다.
+     * 나머지 필드를 디코딩하기 전에 행을 걸러낼 때 쓴다.
+     */
+    public boolean matches(String field, double value) {
+        for (Condition condition : conditions) {
+            if (condition.field().equals(field) && !condition.test(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * row 행에서 프로젝션 필드만 Map 으로 만든다. 행에 없는 필드는 넣지 않는다.
+     */
+    public Map<String, Object> select(RecordBatch batch, int row) {
+        if (fields == null) {
+            return batch.toMap(row);
+        }
+        Map<String, Object> record = new LinkedHashMap<>();
+        for (String field : fields) {
+            int column = batch.columnIndex(field);
+            if (column >= 0 && batch.isPresent(column, row)) {
+                record.put(field, batch.getValue(column, row));
+            }
+        }
+        return record;
+    }
+
+    /**
+     * 필드 하나에 대한 비교 조건.
+     * 값과 피연산자가 모두 숫자면 숫자로, 모두 timestamp 형식이면 시각으로, 아니면 문자열로 비교한다.
+     */
+    public static final class Condition {
+
+        private final String field;
+        private final Operator operator;
+        private final String operand;
+        // 숫자가 아니면 NaN
+        private final double number;
+        // timestamp 형식이 아니면 EpochMicros.NONE
+        private final long micros;
+
+        public Condition(String field, Operator operator, String operand) {
+            this.field = field;
+            this.operator = operator;
+            this.operand = operand;
+            this.number = parseNumber(operand);
+            this.micros = EpochMicros.parse(operand);
+        }
+
+        static Condition parse(String filter) {
+            int at = filter == null ? -1 : indexOfOperator(filter);
+            if (at > 0) {
+                String symbol = filter.startsWith("=", at + 1) ? filter.substring(at, at + 2) : filter.substring(at, at + 1);
+                Operator operator = Operator.of(symbol);
+                String field = filter.substring(0, at).trim();
+                String operand = filter.substring(at + symbol.length()).trim();
+                if (operator != null && !field.isEmpty() && !operand.isEmpty()) {
+                    return new Condition(field, operator, operand);
+                }
+            }
+            throw new IllegalArgumentException("잘못된 필터: " + filter);
+        }
+
+        private static int indexOfOperator(String filter) {
+            for (int i = 0; i < filter.length(); i++) {
+                char c = filter.charAt(i);
+                if (c == '=' || c == '!' || c == '<' || c == '>') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        public String field() {
+            return field;
+        }
+
+        public Operator operator() {
+            return operator;
+        }
+
+        public String operand() {
+            return operand;
+        }
+
+        /**
+         * 피연산자가 숫자도 timestamp 도 아니어서 값과 문자열로만 비교하는지.
+         * 이때 = 조건은 원본 바이트가 같은지로 검사할 수 있다.
+         */
+        public boolean comparesAsText() {
+            return Double.isNaN(number) && micros == EpochMicros.NONE;
+        }
+
+        public boolean test(RecordBatch batch, int row) {
+            int column = batch.columnIndex(field);
+            if (column < 0 || batch.isNull(column, row)) {
+                return false;
+            }
+            return switch (batch.columnType(column)) {
+                case LONG, DOUBLE -> test(batch.getDouble(column, row));
+                case TIMESTAMP -> testMicros(batch.getLong(column, row));
+                case STRING -> test(batch.getString(column, row));
+                default -> {
+                    Object value = batch.getValue(column, row);
+                    yield value instanceof Number n ? test(n.doubleValue()) : test(String.valueOf(value));
+                }
+            };
+        }
+
+        public boolean test(double value) {
+            if (Double.isNaN(number) || Double.isNaN(value)) {
+                return operator.incomparable();
+            }
+            return operator.accept(Double.compare(value, number));
+        }
+
+        public boolean test(String value) {
+            if (value == null) {
+                return false;
+            }
+            if (!Double.isNaN(number)) {
+                double parsed = parseNumber(value);
+                if (!Double.isNaN(parsed)) {
+                    return operator.accept(Double.compare(parsed, number));
+                }
+            }
+            if (micros != EpochMicros.NONE) {
+                long parsed = EpochMicros.parse(value);
+                if (parsed != EpochMicros.NONE) {
+                    return operator.accept(Long.compare(parsed, micros));
+                }
+            }
+            return operator.accept(value.compareTo(operand));
+        }
+
+        private boolean testMicros(long value) {
+            if (micros == EpochMicros.NONE) {
+                return test(EpochMicros.format(value));
+            }
+            return operator.accept(Long.compare(value, micros));
+        }
+
+        private static double parseNumber(String text) {
+            try {
+                return Double.parseDouble(text.trim());
+            } catch (NumberFormatException e) {
+                return Double.NaN;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return field + operator.symbol + operand;
+        }
+    }
+
+    /**
+     * 비교 연산자
+     */
+    public enum Operator {
+        EQ("="),
+        NE("!="),
+        GT(">"),
+        GE(">="),
+        LT("<"),
+        LE("<=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String symbol() {
+            return symbol;
+        }
+
+        /**
+         * 기호에 맞는 연산자. "==" 는 EQ 로 본다. 없으면 null.
+         */
+        static Operator of(String symbol) {
+            if (symbol.equals("==")) {
+                return EQ;
+            }
+            for (Operator operator : values()) {
+                if (operator.symbol.equals(symbol)) {
+                    return operator;
+                }
+            }
+            return null;
+        }
+
+        private boolean accept(int compared) {
+            return switch (this) {
+                case EQ -> compared == 0;
+                case NE -> compared != 0;
+                case GT -> compared > 0;
+                case GE -> compared >= 0;
+                case LT -> compared < 0;
+                case LE -> compared <= 0;
+            };
+        }
+
+        // 숫자끼리 비교할 수 없을 때 (NaN) 는 != 만 만족한다.
+        private boolean incomparable() {
+            return this == NE;
+        }
+    }
+}
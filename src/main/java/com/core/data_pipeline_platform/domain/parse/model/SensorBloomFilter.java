@@ -0,0 +1,108 @@
+package com.core.data_pipeline_platform.domain.parse.model;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 파일에 있는 sensorId 의 Bloom filter. mightContain 이 false 면 그 센서는 파일에 없다. (true 는 오탐일 수 있다)
+ *
+ * 해시는 UTF-8 바이트의 64비트 해시 하나를 두 값으로 나눈 이중 해싱(h1 + i·h2)이라 JVM/버전과 무관하게 같은 비트를 가리킨다.
+ * 저장 형식: [버전 1B][해시 수 1B][비트 배열 (long, 리틀 엔디안)]
+ */
+public final class SensorBloomFilter {
+
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 2;
+
+    private final long[] bits;
+    private final int hashCount;
+
+    private SensorBloomFilter(long[] bits, int hashCount) {
+        this.bits = bits;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * expectedItems 개를 넣었을 때 오탐률이 falsePositiveRate 가 되도록 크기와 해시 수를 정한다.
+     */
+    public static SensorBloomFilter create(int expectedItems, double falsePositiveRate) {
+        int items = Math.max(1, expectedItems);
+        long bitCount = (long) Math.ceil(-items * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (bitCount + 63) / 64);
+        int hashCount = (int) Math.max(1, Math.min(16, Math.round((double) words * 64 / items * Math.log(2))));
+        return new SensorBloomFilter(new long[words], hashCount);
+    }
+
+    /**
+     * toBytes 로 만든 값을 읽는다. 형식이 맞지 않으면 null (필터 없음으로 취급)
+     */
+    public static SensorBloomFilter fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_SIZE + 8 || bytes[0] != VERSION
+                || (bytes.length - HEADER_SIZE) % 8 != 0 || bytes[1] < 1) {
+            return null;
+        }
+        long[] bits = new long[(bytes.length - HEADER_SIZE) / 8];
+        for (int word = 0; word < bits.length; word++) {
+            long value = 0;
+            for (int i = 7; i >= 0; i--) {
+                value = (value << 8) | (bytes[HEADER_SIZE + word * 8 + i] & 0xFF);
+            }
+            bits[word] = value;
+        }
+        return new SensorBloomFilter(bits, bytes[1]);
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[HEADER_SIZE + bits.length * 8];
+        bytes[0] = VERSION;
+        bytes[1] = (byte) hashCount;
+        for (int word = 0; word < bits.length; word++) {
+            long value = bits[word];
+            for (int i = 0; i < 8; i++) {
+                bytes[HEADER_SIZE + word * 8 + i] = (byte) (value >>> (i * 8));
+            }
+        }
+        return bytes;
+    }
+
+    public void add(String sensorId) {
+        long hash = hash(sensorId);
+        long bitCount = (long) bits.length * 64;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    public boolean mightContain(String sensorId) {
+        long hash = hash(sensorId);
+        long bitCount = (long) bits.length * 64;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a 64 에 비트를 섞는 마무리(MurmurHash3 fmix64)를 더한 해시
+     */
+    private static long hash(String sensorId) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : sensorId.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
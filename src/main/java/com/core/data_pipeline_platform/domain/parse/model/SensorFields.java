@@ -0,0 +1,15 @@
+package com.core.data_pipeline_platform.domain.parse.model;
+
+/**
+ * 센서 레코드의 필드 이름. (생성기와 BIN/XML 포맷의 필드)
+ */
+public final class SensorFields {
+
+    public static final String SENSOR_ID = "sensorId";
+    public static final String VALUE = "value";
+    public static final String TIMESTAMP = "timestamp";
+    public static final String STATUS = "status";
+
+    private SensorFields() {
+    }
+}
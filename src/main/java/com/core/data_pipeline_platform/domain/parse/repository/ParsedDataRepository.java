@@ -1,10 +1,40 @@
 package com.core.data_pipeline_platform.domain.parse.repository;
 
+import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedDataSummary;
 import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
 public interface ParsedDataRepository extends JpaRepository<ParsedDataEntity, Long> {
+
+    @EntityGraph(attributePaths = "file")
     Optional<ParsedDataEntity> findByFileId(Long fileId);
+
+    /**
+     * 내용(SHA-256)과 형식이 같은 파일의 파싱 결과. 여럿이면 먼저 파싱된 것
+     */
+    @EntityGraph(attributePaths = "file")
+    Optional<ParsedDataEntity> findFirstByFile_ContentHashAndFile_FileTypeOrderByIdAsc(String contentHash, FileType fileType);
+
+    /**
+     * 파일 간 조회용. 파일과 통계를 함께 가져오며 전체 개수는 세지 않는다.
+     */
+    @EntityGraph(attributePaths = "file")
+    Slice<ParsedDataEntity> findSliceBy(Pageable pageable);
+
+    /**
+     * 목록 조회. 엔티티 대신 필요한 컬럼만 파일과 조인해 가져오므로 행마다 파일을 따로 조회하지 않는다.
+     */
+    @Query(value = "select new com.core.data_pipeline_platform.domain.parse.dto.ParsedDataSummary("
+            + "p.id, f.id, f.originName, f.fileType, f.processingStatus, p.recordCount, p.chunkCount)"
+            + " from ParsedDataEntity p join p.file f",
+            countQuery = "select count(p) from ParsedDataEntity p")
+    Page<ParsedDataSummary> findAllSummaries(Pageable pageable);
 }
@@ -0,0 +1,218 @@
+package com.core.data_pipeline_platform.domain.parse.repository;
+
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.util.function.Consumer;
+
+/**
+ * parsed_record_chunk 를 MariaDB LOAD DATA LOCAL INFILE 로 적재한다.
+ * 파일을 만들지 않고, producer 가 쓰는 TSV 를 파이프로 받아 드라이버의 로컬 인파일 스트림으로 넘긴다.
+ * MariaDB 가 아니거나(H2 등) 비활성화되어 있으면 isSupported 가 false 이고 호출자는 multi-row INSERT 를 쓴다.
+ * (접속 URL 에 allowLocalInfile=true 필요)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ParsedRecordChunkBulkLoader {
+
+    private static final String LOAD_SQL = "LOAD DATA LOCAL INFILE 'parsed_record_chunk.tsv' INTO TABLE parsed_record_chunk"
+            + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n'"
+            + " (file_id, first_record, record_count, encoding, data, @payload, timestamp_min, timestamp_max)"
+            + " SET payload = UNHEX(@payload)";
+
+    private static final int PIPE_SIZE = 1024 * 1024;
+
+    // LOAD DATA 의 NULL 표기
+    private static final String NULL = "\\N";
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${parse.store.bulk-load-enabled:true}")
+    private boolean enabled = true;
+
+    private volatile Boolean supported;
+
+    public boolean isSupported() {
+        if (!enabled) {
+            return false;
+        }
+        Boolean result = supported;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "MariaDB".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())
+                            && connection.isWrapperFor(org.mariadb.jdbc.Connection.class));
+            supported = result;
+        }
+        return result;
+    }
+
+    /**
+     * producer 를 별도 스레드에서 실행하며 writer 에 쓴 TSV 행(writeRow)을 현재 트랜잭션의 커넥션으로 적재한다.
+     * producer 가 실패하면 그 예외를 그대로 던진다. (이미 전송된 행은 호출자가 정리)
+     *
+     * @return 적재된 행 수
+     */
+    public long load(Consumer<Writer> producer) {
+        PipedInputStream pipe = new PipedInputStream(PIPE_SIZE);
+        ProducerInputStream in = new ProducerInputStream(pipe);
+        PipedOutputStream sink;
+        try {
+            sink = new PipedOutputStream(pipe);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Thread thread = Thread.ofVirtual().name("chunk-bulk-load").start(() -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(sink, StandardCharsets.UTF_8), 64 * 1024);
+            try {
+                producer.accept(writer);
+                writer.flush();
+            } catch (Throwable e) {
+                // 파이프를 닫기 전에 기록해야 읽는 쪽이 정상 EOF 로 오인하지 않는다.
+                in.failure = e;
+            } finally {
+                closeQuietly(sink);
+            }
+        });
+
+        Long loaded = null;
+        DataAccessException loadFailure = null;
+        try {
+            loaded = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.unwrap(org.mariadb.jdbc.Statement.class).setLocalInfileInputStream(in);
+                    return statement.executeLargeUpdate(LOAD_SQL);
+                }
+            });
+        } catch (DataAccessException e) {
+            loadFailure = e;
+        } finally {
+            // 적재가 먼저 실패해도 producer 가 파이프 쓰기에서 멈추지 않도록 읽는 쪽을 닫는다.
+            closeQuietly(pipe);
+            joinUninterruptibly(thread);
+        }
+
+        // 적재가 먼저 실패해 파이프가 닫힌 경우 producer 의 쓰기 실패는 결과일 뿐이므로 적재 예외를 던진다.
+        Throwable failure = in.failure;
+        boolean causedByLoad = loadFailure != null && failure instanceof UncheckedIOException;
+        if (failure instanceof RuntimeException runtime && !causedByLoad) {
+            throw runtime;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        if (loadFailure != null) {
+            throw loadFailure;
+        }
+        if (failure != null) {
+            throw new IllegalStateException(failure);
+        }
+        return loaded;
+    }
+
+    /**
+     * LOAD_SQL 형식의 한 행. JSON 안의 역슬래시와 (있다면) 탭/줄바꿈을 이스케이프하고, 압축 본문은 16진수로 쓴다.
+     */
+    public static void writeRow(Writer out, ParsedRecordChunkEntity chunk) throws IOException {
+        out.write(Long.toString(chunk.getFile().getId()));
+        out.write('\t');
+        out.write(Long.toString(chunk.getFirstRecord()));
+        out.write('\t');
+        out.write(Integer.toString(chunk.getRecordCount()));
+        out.write('\t');
+        out.write(chunk.getEncoding() != null ? chunk.getEncoding().name() : NULL);
+        out.write('\t');
+        String data = chunk.getData();
+        int start = 0;
+        for (int i = 0; i < data.length(); i++) {
+            String escaped = switch (data.charAt(i)) {
+                case '\\' -> "\\\\";
+                case '\t' -> "\\t";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                default -> null;
+            };
+            if (escaped != null) {
+                out.write(data, start, i - start);
+                out.write(escaped);
+                start = i + 1;
+            }
+        }
+        out.write(data, start, data.length() - start);
+        out.write('\t');
+        byte[] payload = chunk.getPayload();
+        if (payload == null) {
+            out.write(NULL);
+        } else {
+            for (byte b : payload) {
+                out.write(HEX[(b >> 4) & 0xF]);
+                out.write(HEX[b & 0xF]);
+            }
+        }
+        out.write('\t');
+        out.write(chunk.getTimestampMin() != null ? Long.toString(chunk.getTimestampMin()) : NULL);
+        out.write('\t');
+        out.write(chunk.getTimestampMax() != null ? Long.toString(chunk.getTimestampMax()) : NULL);
+        out.write('\n');
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static void joinUninterruptibly(Thread thread) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                thread.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * producer 가 실패한 채 스트림이 끝나면 정상 EOF 대신 예외를 던져, 잘린 데이터로 LOAD 가 성공하지 않게 한다.
+     */
+    private static final class ProducerInputStream extends FilterInputStream {
+
+        private volatile Throwable failure;
+
+        private ProducerInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            return checkEnd(super.read());
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            return checkEnd(super.read(bytes, offset, length));
+        }
+
+        private int checkEnd(int result) throws IOException {
+            if (result < 0 && failure != null) {
+                throw new IOException("청크 생성 실패", failure);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.core.data_pipeline_platform.domain.parse.repository;
+
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import com.core.data_pipeline_platform.domain.parse.enums.ChunkEncoding;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * parsed_record_chunk 대량 저장용. JPA 의 행 단위 INSERT 대신 여러 청크를 한 문장의 multi-row INSERT 로 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ParsedRecordChunkJdbcRepository {
+
+    private static final String INSERT = "INSERT INTO parsed_record_chunk"
+            + " (file_id, first_record, record_count, encoding, data, payload, timestamp_min, timestamp_max) VALUES ";
+    private static final String VALUES = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 8;
+
+    // 스트리밍 조회 시 한 번에 받아 오는 청크 수
+    private static final int STREAM_FETCH_SIZE = 16;
+
+    // encoding 이 없는(컬럼 추가 전) 행도 JSON 이다.
+    private static final String JSON_ROWS = "(encoding IS NULL OR encoding = 'JSON')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<ParsedRecordChunkEntity> chunks) {
+        if (chunks.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT.length() + chunks.size() * (VALUES.length() + 2)).append(INSERT);
+        Object[] args = new Object[chunks.size() * COLUMNS];
+        for (int i = 0; i < chunks.size(); i++) {
+            ParsedRecordChunkEntity chunk = chunks.get(i);
+            sql.append(i == 0 ? "" : ", ").append(VALUES);
+            args[i * COLUMNS] = chunk.getFile().getId();
+            args[i * COLUMNS + 1] = chunk.getFirstRecord();
+            args[i * COLUMNS + 2] = chunk.getRecordCount();
+            args[i * COLUMNS + 3] = chunk.getEncoding().name();
+            args[i * COLUMNS + 4] = chunk.getData();
+            args[i * COLUMNS + 5] = chunk.getPayload();
+            args[i * COLUMNS + 6] = chunk.getTimestampMin();
+            args[i * COLUMNS + 7] = chunk.getTimestampMax();
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    /**
+     * 파일의 청크를 레코드 순서대로 하나씩 넘긴다. 결과를 목록으로 모으지 않고 fetchSize 단위로 받아 오므로
+     * 파일 크기와 무관한 메모리로 읽는다. (id, file 은 채우지 않는다)
+     */
+    public void forEachChunk(Long fileId, Consumer<ParsedRecordChunkEntity> action) {
+        forEachChunk(fileId, 0, Long.MAX_VALUE, action);
+    }
+
+    /**
+     * firstRecord 가 [fromRecord, toRecord) 인 청크만 레코드 순서대로 넘긴다. (시간 인덱스로 고른 구간 읽기)
+     */
+    public void forEachChunk(Long fileId, long fromRecord, long toRecord, Consumer<ParsedRecordChunkEntity> action) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT first_record, record_count, encoding, data, payload FROM parsed_record_chunk"
+                            + " WHERE file_id = ? AND first_record >= ? AND first_record < ? ORDER BY first_record");
+            statement.setLong(1, fileId);
+            statement.setLong(2, fromRecord);
+            statement.setLong(3, toRecord);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            String encoding = rs.getString("encoding");
+            action.accept(ParsedRecordChunkEntity.builder()
+                    .firstRecord(rs.getLong("first_record"))
+                    .recordCount(rs.getInt("record_count"))
+                    .encoding(encoding != null ? ChunkEncoding.valueOf(encoding) : ChunkEncoding.JSON)
+                    .data(rs.getString("data"))
+                    .payload(rs.getBytes("payload"))
+                    .build());
+        });
+    }
+
+    /**
+     * 파일의 희소 시간 인덱스. 청크마다 firstRecord, recordCount, timestampMin/Max 만 레코드 순서대로 채운다. (본문은 읽지 않음)
+     */
+    public List<ParsedRecordChunkEntity> findTimeIndex(Long fileId) {
+        return jdbcTemplate.query(
+                "SELECT first_record, record_count, timestamp_min, timestamp_max FROM parsed_record_chunk"
+                        + " WHERE file_id = ? ORDER BY first_record",
+                (rs, rowNum) -> ParsedRecordChunkEntity.builder()
+                        .firstRecord(rs.getLong("first_record"))
+                        .recordCount(rs.getInt("record_count"))
+                        .timestampMin(rs.getObject("timestamp_min", Long.class))
+                        .timestampMax(rs.getObject("timestamp_max", Long.class))
+                        .build(),
+                fileId);
+    }
+
+    /**
+     * id 가 afterId 보다 큰 JSON 인코딩 청크를 id 순으로 limit 개까지 조회 (id, data 만 채운다)
+     */
+    public List<ParsedRecordChunkEntity> findJsonChunks(long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, data FROM parsed_record_chunk WHERE id > ? AND " + JSON_ROWS + " ORDER BY id LIMIT ?",
+                (rs, rowNum) -> ParsedRecordChunkEntity.builder()
+                        .id(rs.getLong("id"))
+                        .encoding(ChunkEncoding.JSON)
+                        .data(rs.getString("data"))
+                        .build(),
+                afterId, limit);
+    }
+
+    /**
+     * 청크 본문을 다시 인코딩한 값으로 바꾼다. 그 사이 이미 바뀐 행은 건너뛴다.
+     *
+     * @return 바뀐 행 수
+     */
+    public int updateEncoded(List<ParsedRecordChunkEntity> chunks) {
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "UPDATE parsed_record_chunk SET encoding = ?, data = ?, payload = ? WHERE id = ? AND " + JSON_ROWS,
+                chunks, chunks.size(), (ps, chunk) -> {
+                    ps.setString(1, chunk.getEncoding().name());
+                    ps.setString(2, chunk.getData());
+                    ps.setBytes(3, chunk.getPayload());
+                    ps.setLong(4, chunk.getId());
+                });
+        // 드라이버가 개수를 모르면 SUCCESS_NO_INFO(-2)를 주므로 0 이 아닌 것을 갱신으로 센다.
+        return (int) Arrays.stream(counts).flatMapToInt(Arrays::stream).filter(count -> count != 0).count();
+    }
+
+    public int deleteByFileId(Long fileId) {
+        return jdbcTemplate.update("DELETE FROM parsed_record_chunk WHERE file_id = ?", fileId);
+    }
+}
@@ -0,0 +1,30 @@
+package com.core.data_pipeline_platform.domain.parse.repository;
+
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ParsedRecordChunkRepository extends JpaRepository<ParsedRecordChunkEntity, Long> {
+
+    /**
+     * 레코드 구간 [start, end) 와 겹치는 청크의 firstRecord 를 순서대로 조회 (본문은 읽지 않는다)
+     * start 를 담은 청크의 firstRecord 를 (file_id, first_record) 인덱스에서 먼저 찾아, 두 조건 모두 인덱스 범위로 읽는다.
+     * (firstRecord + recordCount > start 처럼 계산식으로 거르면 파일 앞쪽 청크를 모두 훑게 된다)
+     */
+    @Query("select c.firstRecord from ParsedRecordChunkEntity c where c.file.id = :fileId"
+            + " and c.firstRecord >= (select max(s.firstRecord) from ParsedRecordChunkEntity s"
+            + " where s.file.id = :fileId and s.firstRecord <= :start)"
+            + " and c.firstRecord < :end order by c.firstRecord")
+    List<Long> findOverlappingFirstRecords(@Param("fileId") Long fileId, @Param("start") long start, @Param("end") long end);
+
+    Optional<ParsedRecordChunkEntity> findByFileIdAndFirstRecord(Long fileId, long firstRecord);
+
+    @Modifying
+    @Query("delete from ParsedRecordChunkEntity c where c.file.id = :fileId")
+    int deleteByFileId(@Param("fileId") Long fileId);
+}
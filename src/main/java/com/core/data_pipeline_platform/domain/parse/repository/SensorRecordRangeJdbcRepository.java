@@ -0,0 +1,64 @@
+package com.core.data_pipeline_platform.domain.parse.repository;
+
+import com.core.data_pipeline_platform.domain.parse.entity.SensorRecordRangeEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * sensor_record_range (센서 역색인) 저장/조회. 파일 하나의 항목을 JDBC 배치로 한 번에 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SensorRecordRangeJdbcRepository {
+
+    // 한 번의 JDBC 배치에 담는 항목 수
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<SensorRecordRangeEntity> ranges) {
+        if (ranges.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO sensor_record_range"
+                        + " (file_id, sensor_id, first_record, end_record, record_count, timestamp_min, timestamp_max)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?)",
+                ranges, INSERT_BATCH_SIZE, (ps, range) -> {
+                    ps.setLong(1, range.getFileId());
+                    ps.setString(2, range.getSensorId());
+                    ps.setLong(3, range.getFirstRecord());
+                    ps.setLong(4, range.getEndRecord());
+                    ps.setLong(5, range.getRecordCount());
+                    ps.setObject(6, range.getTimestampMin(), Types.BIGINT);
+                    ps.setObject(7, range.getTimestampMax(), Types.BIGINT);
+                });
+    }
+
+    /**
+     * sensorId 의 항목을 파일, 레코드 순서대로 조회 (id 는 채우지 않는다)
+     */
+    public List<SensorRecordRangeEntity> findBySensorId(String sensorId) {
+        return jdbcTemplate.query(
+                "SELECT file_id, first_record, end_record, record_count, timestamp_min, timestamp_max"
+                        + " FROM sensor_record_range WHERE sensor_id = ? ORDER BY file_id, first_record",
+                (rs, rowNum) -> SensorRecordRangeEntity.builder()
+                        .fileId(rs.getLong("file_id"))
+                        .sensorId(sensorId)
+                        .firstRecord(rs.getLong("first_record"))
+                        .endRecord(rs.getLong("end_record"))
+                        .recordCount(rs.getLong("record_count"))
+                        .timestampMin(rs.getObject("timestamp_min", Long.class))
+                        .timestampMax(rs.getObject("timestamp_max", Long.class))
+                        .build(),
+                sensorId);
+    }
+
+    public int deleteByFileId(Long fileId) {
+        return jdbcTemplate.update("DELETE FROM sensor_record_range WHERE file_id = ?", fileId);
+    }
+}
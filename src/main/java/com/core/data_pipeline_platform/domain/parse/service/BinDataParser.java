@@ -1,6 +1,10 @@
 package com.core.data_pipeline_platform.domain.parse.service;
 
 import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.parse.model.BinFormat;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import com.core.data_pipeline_platform.domain.parse.model.RecordQuery;
+import com.core.data_pipeline_platform.domain.parse.model.SensorFields;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -9,21 +13,23 @@ import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @Service
 public class BinDataParser implements DataParser {
 
-    private static final String SENSOR_ID = "sensorId";
-    private static final String VALUE = "value";
-    private static final String TIMESTAMP = "timestamp";
-    private static final String STATUS = "status";
+    // 배열 순서가 컬럼 순서다.
+    private static final String[] FIELDS = {SensorFields.SENSOR_ID, SensorFields.VALUE, SensorFields.TIMESTAMP, SensorFields.STATUS};
+    private static final int SENSOR_ID = 0;
+    private static final int VALUE = 1;
+    private static final int TIMESTAMP = 2;
+    private static final int STATUS = 3;
 
     @Override
-    public List<Map<String, Object>> parseData(FileType fileType, InputStream inputStream) {
+    public void parse(FileType fileType, InputStream inputStream, RecordQuery query, RecordSink sink) {
 
         if (fileType != FileType.BIN) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일 타입 불일치: BIN이어야 합니다.");
@@ -33,40 +39,265 @@ public class BinDataParser implements DataParser {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "입력 스트림이 null 입니다.");
         }
 
-        List<Map<String, Object>> records = new ArrayList<>();
-
-        try {
+        try (ParserResources resources = ParserResources.acquire()) {
+            RecordBatcher batcher = new RecordBatcher(sink, resources.batch());
             DataInputStream dataStream = new DataInputStream(inputStream);
-            int recordCount = dataStream.readInt();
+            int header = dataStream.readInt();
 
-            if (recordCount < 0) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 레코드 수");
-            }
-            for (int i = 0; i < recordCount; i++) {
-                Map<String, Object> record = new HashMap<>();
-                record.put(SENSOR_ID, readString(dataStream));
-                record.put(VALUE, dataStream.readDouble());
-                record.put(TIMESTAMP, readString(dataStream));
-                record.put(STATUS, readString(dataStream));
-                records.add(record);
+            int[] columns = columnsOf(batcher.batch(), query);
+
+            if (header == BinFormat.MAGIC) {
+                readColumnar(dataStream, batcher, columns, query, resources);
+            } else {
+                readRows(dataStream, header, batcher, columns, query, resources);
             }
 
-            return records;
+            batcher.complete();
         } catch (IOException e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "BIN 파일 파싱 실패");
         }
     }
 
+    /**
+     * 저장된 파일은 BinRecordReader 로 메모리 매핑해 읽는다. 매핑할 수 없는 크기면 스트림으로 읽는다.
+     * value 조건과 sensorId/status 의 = 조건은 문자열을 디코딩하기 전에 검사하고(= 조건은 UTF-8 바이트 비교),
+     * query 가 읽지 않는 문자열 필드는 디코딩하지 않는다.
+     */
+    @Override
+    public void parse(FileType fileType, Path path, RecordQuery query, RecordSink sink) {
+
+        if (fileType != FileType.BIN) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일 타입 불일치: BIN이어야 합니다.");
+        }
+
+        BinRecordReader reader;
+        try {
+            if (Files.size(path) > Integer.MAX_VALUE) {
+                DataParser.super.parse(fileType, path, query, sink);
+                return;
+            }
+            reader = BinRecordReader.open(path);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 읽기 실패");
+        }
+
+        try (ParserResources resources = ParserResources.acquire()) {
+            RecordBatcher batcher = new RecordBatcher(sink, resources.batch());
+            int[] columns = columnsOf(batcher.batch(), query);
+            byte[][] sensorIds = textEqualsOperands(query, SensorFields.SENSOR_ID);
+            byte[][] statuses = textEqualsOperands(query, SensorFields.STATUS);
+            BinRecordView view = reader.current();
+            while (reader.next()) {
+                double value = view.getValue();
+                if (!query.matches(SensorFields.VALUE, value)
+                        || !sensorIdEquals(view, sensorIds) || !statusEquals(view, statuses)) {
+                    continue;
+                }
+                RecordBatch batch = batcher.row();
+                writeRow(batch, columns,
+                        columns[SENSOR_ID] >= 0 ? view.getSensorId() : null,
+                        value,
+                        columns[STATUS] >= 0 ? view.getStatus() : null);
+                if (columns[TIMESTAMP] >= 0) {
+                    view.putTimestamp(batch, columns[TIMESTAMP]);
+                }
+                if (!query.matches(batch, batch.size() - 1)) {
+                    batcher.discard();
+                }
+            }
+            batcher.complete();
+        }
+    }
+
     @Override
     public FileType getSupportedFileType() {
         return FileType.BIN;
     }
 
-    private String readString(DataInputStream dataStream) throws IOException {
+    /**
+     * v1: 헤더의 레코드 수만큼 행 단위 레코드를 읽는다.
+     */
+    private void readRows(DataInputStream dataStream, int recordCount, RecordBatcher batcher, int[] columns,
+                          RecordQuery query, ParserResources resources) throws IOException {
+        if (recordCount < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 레코드 수");
+        }
+        for (int i = 0; i < recordCount; i++) {
+            String sensorId = readString(dataStream, resources, columns[SENSOR_ID] >= 0);
+            double value = dataStream.readDouble();
+            String timestamp = readString(dataStream, resources, columns[TIMESTAMP] >= 0);
+            String status = readString(dataStream, resources, columns[STATUS] >= 0);
+            if (!query.matches(SensorFields.VALUE, value)) {
+                continue;
+            }
+            RecordBatch batch = batcher.row();
+            writeRow(batch, columns, sensorId, value, status);
+            if (columns[TIMESTAMP] >= 0) {
+                batch.putString(columns[TIMESTAMP], timestamp);
+            }
+            if (!query.matches(batch, batch.size() - 1)) {
+                batcher.discard();
+            }
+        }
+    }
+
+    /**
+     * v2: 사전을 읽은 뒤 컬럼 블록을 하나씩 메모리에 올려 레코드로 조립한다.
+     * 한 번에 올라가는 데이터는 블록 하나(BinFormat.BLOCK_SIZE 레코드) 분량이다.
+     */
+    private void readColumnar(DataInputStream dataStream, RecordBatcher batcher, int[] columns,
+                              RecordQuery query, ParserResources resources) throws IOException {
+        if (dataStream.readInt() != BinFormat.VERSION_2) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 BIN 버전입니다.");
+        }
+        int recordCount = dataStream.readInt();
+        if (recordCount < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 레코드 수");
+        }
+
+        String[] sensorIds = readDictionary(dataStream, resources, columns[SENSOR_ID] >= 0);
+        String[] statuses = readDictionary(dataStream, resources, columns[STATUS] >= 0);
+
+        int capacity = Math.min(recordCount, BinFormat.BLOCK_SIZE);
+        int[] sensorIdColumn = resources.intBlock(0, capacity);
+        int[] statusColumn = resources.intBlock(1, capacity);
+        long[] timestampColumn = resources.longBlock(capacity);
+
+        int remaining = recordCount;
+        while (remaining > 0) {
+            int blockRecords = dataStream.readInt();
+            if (blockRecords <= 0 || blockRecords > capacity || blockRecords > remaining) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "BIN 파일 파싱 실패");
+            }
+            for (int i = 0; i < blockRecords; i++) {
+                sensorIdColumn[i] = dataStream.readInt();
+            }
+            for (int i = 0; i < blockRecords; i++) {
+                statusColumn[i] = dataStream.readInt();
+            }
+            for (int i = 0; i < blockRecords; i++) {
+                timestampColumn[i] = dataStream.readLong();
+            }
+            // value 는 마지막 컬럼이므로 읽으면서 바로 레코드를 만든다.
+            for (int i = 0; i < blockRecords; i++) {
+                double value = dataStream.readDouble();
+                if (!query.matches(SensorFields.VALUE, value)) {
+                    continue;
+                }
+                RecordBatch batch = batcher.row();
+                writeRow(batch, columns,
+                        columns[SENSOR_ID] >= 0 ? lookup(sensorIds, sensorIdColumn[i]) : null,
+                        value,
+                        columns[STATUS] >= 0 ? lookup(statuses, statusColumn[i]) : null);
+                if (columns[TIMESTAMP] >= 0) {
+                    // 레코드마다 ISO 문자열을 만들지 않고 epoch 마이크로초 그대로 둔다. (Map/JSON 으로 쓸 때 포맷)
+                    batch.putTimestamp(columns[TIMESTAMP], timestampColumn[i]);
+                }
+                if (!query.matches(batch, batch.size() - 1)) {
+                    batcher.discard();
+                }
+            }
+            remaining -= blockRecords;
+        }
+    }
+
+    /**
+     * FIELDS 순서의 배치 컬럼 인덱스. query 가 읽지 않는 필드는 -1 이며 디코딩하지 않는다.
+     */
+    private int[] columnsOf(RecordBatch batch, RecordQuery query) {
+        int[] columns = new int[FIELDS.length];
+        for (int i = 0; i < FIELDS.length; i++) {
+            columns[i] = query.reads(FIELDS[i]) ? batch.column(FIELDS[i]) : -1;
+        }
+        return columns;
+    }
+
+    /**
+     * field 에 걸린 = 조건 중 문자열로 비교하는 조건의 피연산자(UTF-8). 바이트가 같아야만 조건을 만족하므로
+     * 레코드를 디코딩하기 전에 거를 수 있다. 나머지 조건은 행을 쓴 뒤 query.matches 가 검사한다.
+     */
+    private byte[][] textEqualsOperands(RecordQuery query, String field) {
+        return query.getConditions().stream()
+                .filter(condition -> condition.field().equals(field)
+                        && condition.operator() == RecordQuery.Operator.EQ
+                        && condition.comparesAsText())
+                .map(condition -> condition.operand().getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+    }
+
+    private boolean sensorIdEquals(BinRecordView view, byte[][] operands) {
+        for (byte[] operand : operands) {
+            if (!view.sensorIdEquals(operand)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean statusEquals(BinRecordView view, byte[][] operands) {
+        for (byte[] operand : operands) {
+            if (!view.statusEquals(operand)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * timestamp 는 포맷마다 저장 형태가 달라 호출자가 쓴다.
+     */
+    private void writeRow(RecordBatch batch, int[] columns, String sensorId, double value, String status) {
+        if (columns[SENSOR_ID] >= 0) {
+            batch.putString(columns[SENSOR_ID], sensorId);
+        }
+        if (columns[VALUE] >= 0) {
+            batch.putDouble(columns[VALUE], value);
+        }
+        if (columns[STATUS] >= 0) {
+            batch.putString(columns[STATUS], status);
+        }
+    }
+
+    /**
+     * decode 가 false 면 (query 가 읽지 않는 컬럼) 항목을 디코딩하지 않고 건너뛰며, 항목은 모두 null 이다.
+     */
+    private String[] readDictionary(DataInputStream dataStream, ParserResources resources, boolean decode) throws IOException {
+        int size = dataStream.readInt();
+        if (size < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "BIN 파일 파싱 실패");
+        }
+        // 잘린 파일에서 큰 size 로 배열을 미리 잡지 않도록 읽으면서 늘린다.
+        List<String> entries = new ArrayList<>(Math.min(size, 1_024));
+        for (int i = 0; i < size; i++) {
+            entries.add(readString(dataStream, resources, decode));
+        }
+        return entries.toArray(String[]::new);
+    }
+
+    private String lookup(String[] dictionary, int index) {
+        if (index < 0 || index >= dictionary.length) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "BIN 파일 파싱 실패");
+        }
+        return dictionary[index];
+    }
+
+    /**
+     * decode 가 false 면 바이트를 디코딩하지 않고 건너뛰며 null 을 반환한다.
+     */
+    private String readString(DataInputStream dataStream, ParserResources resources, boolean decode) throws IOException {
         int length = dataStream.readInt();
-        if (length == 0) return "";
-        byte[] bytes = new byte[length];
-        dataStream.readFully(bytes);
-        return new String(bytes, StandardCharsets.UTF_8);
+        if (length == 0) {
+            return decode ? "" : null;
+        }
+        if (length < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "BIN 파일 파싱 실패");
+        }
+        if (!decode) {
+            dataStream.skipNBytes(length);
+            return null;
+        }
+        byte[] bytes = resources.scratch(length);
+        dataStream.readFully(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
     }
 }
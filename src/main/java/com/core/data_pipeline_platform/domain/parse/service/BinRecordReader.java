@@ -0,0 +1,84 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.model.BinFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 저장된 BIN 파일(v1, v2)을 메모리 매핑해 레코드를 순서대로 읽는다. (레이아웃은 BinFileGenerator 참고)
+ * next() 는 같은 BinRecordView 의 위치만 옮기므로 레코드마다 객체를 만들지 않는다.
+ * 스레드 안전하지 않다.
+ */
+public class BinRecordReader {
+
+    private final int recordCount;
+    private final BinRecordView view;
+    private int index;
+
+    public BinRecordReader(ByteBuffer buffer) {
+        if (buffer.limit() < Integer.BYTES) {
+            throw BinRecordView.invalid();
+        }
+
+        int header = buffer.getInt(0);
+        boolean columnar = header == BinFormat.MAGIC;
+        if (columnar) {
+            if (buffer.limit() < Integer.BYTES * 3) {
+                throw BinRecordView.invalid();
+            }
+            if (buffer.getInt(Integer.BYTES) != BinFormat.VERSION_2) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 BIN 버전입니다.");
+            }
+        }
+
+        this.recordCount = columnar ? buffer.getInt(Integer.BYTES * 2) : header;
+        if (recordCount < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 레코드 수");
+        }
+        this.view = columnar
+                ? new BinV2RecordView(buffer, Integer.BYTES * 3)
+                : new BinV1RecordView(buffer, Integer.BYTES);
+    }
+
+    /**
+     * 파일 전체를 읽기 전용으로 매핑한다. 매핑은 채널을 닫아도 유지된다.
+     */
+    public static BinRecordReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "BIN 파일이 너무 큽니다.");
+            }
+            return new BinRecordReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * 다음 레코드로 이동한다. 레코드가 헤더의 개수보다 적거나 잘려 있으면 400을 던진다.
+     */
+    public boolean next() {
+        if (index >= recordCount) {
+            return false;
+        }
+        view.advance();
+        index++;
+        return true;
+    }
+
+    /**
+     * 현재 레코드. next() 를 다시 호출하면 내용이 바뀐다.
+     */
+    public BinRecordView current() {
+        return view;
+    }
+}
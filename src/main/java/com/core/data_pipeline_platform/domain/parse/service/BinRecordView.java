@@ -0,0 +1,90 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * BinRecordReader 가 가리키는 레코드 한 건의 flyweight.
+ * 원시 값과 바이트 비교는 매핑된 버퍼를 직접 읽으며, String 이 필요한 getter 만 호출 시점에 디코딩한다.
+ * 포맷 버전별 레이아웃은 하위 클래스가 담당한다.
+ */
+public abstract class BinRecordView {
+
+    protected final ByteBuffer buffer;
+    // decode 용. 레코드마다 배열을 만들지 않도록 가장 긴 문자열 크기로 늘려 가며 재사용한다.
+    private byte[] scratch = new byte[64];
+
+    BinRecordView(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * 다음 레코드로 위치를 옮긴다. 호출자가 레코드 수를 넘지 않도록 보장한다.
+     */
+    abstract void advance();
+
+    public abstract double getValue();
+
+    /**
+     * sensorId 를 UTF-8 바이트로 비교한다. 문자열을 만들지 않는다.
+     */
+    public abstract boolean sensorIdEquals(byte[] utf8);
+
+    public abstract boolean statusEquals(byte[] utf8);
+
+    public abstract String getSensorId();
+
+    public abstract String getTimestamp();
+
+    public abstract String getStatus();
+
+    /**
+     * 현재 레코드의 timestamp 를 배치에 쓴다. 포맷이 저장한 형태(원문 또는 epoch 마이크로초) 그대로 옮긴다.
+     */
+    abstract void putTimestamp(RecordBatch batch, int column);
+
+    /**
+     * offset 의 길이 필드를 읽고, 길이만큼의 데이터가 버퍼 안에 있는지 검증한다.
+     */
+    int readLength(int offset) {
+        if (offset < 0 || offset > buffer.limit() - Integer.BYTES) {
+            throw invalid();
+        }
+        int length = buffer.getInt(offset);
+        if (length < 0 || length > buffer.limit() - offset - Integer.BYTES) {
+            throw invalid();
+        }
+        return length;
+    }
+
+    boolean bytesEqual(int offset, int length, byte[] expected) {
+        if (length != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String decode(int offset, int length) {
+        if (length == 0) {
+            return "";
+        }
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(offset, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    static ResponseStatusException invalid() {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "BIN 파일 파싱 실패");
+    }
+}
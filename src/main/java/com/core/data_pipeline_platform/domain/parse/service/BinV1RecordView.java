@@ -0,0 +1,74 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+
+import java.nio.ByteBuffer;
+
+/**
+ * BIN v1: 레코드마다 길이 접두 문자열과 double 이 이어진 행 단위 레이아웃.
+ */
+final class BinV1RecordView extends BinRecordView {
+
+    private int position;
+    private int sensorIdOffset;
+    private int sensorIdLength;
+    private int valueOffset;
+    private int timestampOffset;
+    private int timestampLength;
+    private int statusOffset;
+    private int statusLength;
+
+    BinV1RecordView(ByteBuffer buffer, int firstRecordOffset) {
+        super(buffer);
+        this.position = firstRecordOffset;
+    }
+
+    @Override
+    void advance() {
+        sensorIdLength = readLength(position);
+        sensorIdOffset = position + Integer.BYTES;
+        valueOffset = sensorIdOffset + sensorIdLength;
+        int timestampLengthOffset = valueOffset + Double.BYTES;
+        timestampLength = readLength(timestampLengthOffset);
+        timestampOffset = timestampLengthOffset + Integer.BYTES;
+        int statusLengthOffset = timestampOffset + timestampLength;
+        statusLength = readLength(statusLengthOffset);
+        statusOffset = statusLengthOffset + Integer.BYTES;
+        position = statusOffset + statusLength;
+    }
+
+    @Override
+    public double getValue() {
+        return buffer.getDouble(valueOffset);
+    }
+
+    @Override
+    public boolean sensorIdEquals(byte[] utf8) {
+        return bytesEqual(sensorIdOffset, sensorIdLength, utf8);
+    }
+
+    @Override
+    public boolean statusEquals(byte[] utf8) {
+        return bytesEqual(statusOffset, statusLength, utf8);
+    }
+
+    @Override
+    public String getSensorId() {
+        return decode(sensorIdOffset, sensorIdLength);
+    }
+
+    @Override
+    public String getTimestamp() {
+        return decode(timestampOffset, timestampLength);
+    }
+
+    @Override
+    public String getStatus() {
+        return decode(statusOffset, statusLength);
+    }
+
+    @Override
+    void putTimestamp(RecordBatch batch, int column) {
+        batch.putString(column, getTimestamp());
+    }
+}
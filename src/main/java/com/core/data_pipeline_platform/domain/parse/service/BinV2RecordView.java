@@ -0,0 +1,153 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.model.BinFormat;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+
+import java.nio.ByteBuffer;
+
+/**
+ * BIN v2: 사전 두 개 뒤에 컬럼 블록이 이어지는 레이아웃.
+ * sensorId/status 는 사전 인덱스만 읽으며, 디코딩한 문자열은 사전 항목별로 캐시한다.
+ */
+final class BinV2RecordView extends BinRecordView {
+
+    private final Dictionary sensorIds;
+    private final Dictionary statuses;
+
+    private int nextBlockOffset;
+    private int blockRecords;
+    private int index;
+    private int sensorIdColumn;
+    private int statusColumn;
+    private int timestampColumn;
+    private int valueColumn;
+
+    BinV2RecordView(ByteBuffer buffer, int dictionaryOffset) {
+        super(buffer);
+        this.sensorIds = new Dictionary(dictionaryOffset);
+        this.statuses = new Dictionary(sensorIds.end);
+        this.nextBlockOffset = statuses.end;
+    }
+
+    @Override
+    void advance() {
+        if (++index < blockRecords) {
+            return;
+        }
+
+        int offset = nextBlockOffset;
+        if (offset < 0 || offset > buffer.limit() - Integer.BYTES) {
+            throw invalid();
+        }
+        int records = buffer.getInt(offset);
+        long end = offset + Integer.BYTES + (long) records * (Integer.BYTES * 2 + Long.BYTES + Double.BYTES);
+        if (records <= 0 || records > BinFormat.BLOCK_SIZE || end > buffer.limit()) {
+            throw invalid();
+        }
+
+        blockRecords = records;
+        index = 0;
+        sensorIdColumn = offset + Integer.BYTES;
+        statusColumn = sensorIdColumn + records * Integer.BYTES;
+        timestampColumn = statusColumn + records * Integer.BYTES;
+        valueColumn = timestampColumn + records * Long.BYTES;
+        nextBlockOffset = (int) end;
+    }
+
+    @Override
+    public double getValue() {
+        return buffer.getDouble(valueColumn + index * Double.BYTES);
+    }
+
+    /**
+     * UTC epoch 마이크로초. timestamp 가 없으면 BinFormat.NULL_TIMESTAMP.
+     */
+    public long getTimestampMicros() {
+        return buffer.getLong(timestampColumn + index * Long.BYTES);
+    }
+
+    @Override
+    public boolean sensorIdEquals(byte[] utf8) {
+        return sensorIds.entryEquals(buffer.getInt(sensorIdColumn + index * Integer.BYTES), utf8);
+    }
+
+    @Override
+    public boolean statusEquals(byte[] utf8) {
+        return statuses.entryEquals(buffer.getInt(statusColumn + index * Integer.BYTES), utf8);
+    }
+
+    @Override
+    public String getSensorId() {
+        return sensorIds.get(buffer.getInt(sensorIdColumn + index * Integer.BYTES));
+    }
+
+    @Override
+    public String getTimestamp() {
+        return EpochMicros.format(getTimestampMicros());
+    }
+
+    @Override
+    public String getStatus() {
+        return statuses.get(buffer.getInt(statusColumn + index * Integer.BYTES));
+    }
+
+    /**
+     * 레코드마다 문자열을 만들지 않도록 epoch 마이크로초를 TIMESTAMP 컬럼에 그대로 쓴다.
+     */
+    @Override
+    void putTimestamp(RecordBatch batch, int column) {
+        batch.putTimestamp(column, getTimestampMicros());
+    }
+
+    /**
+     * 매핑된 버퍼 안의 사전. 항목 위치만 기억하고 문자열은 처음 요청될 때 만든다.
+     */
+    private final class Dictionary {
+
+        private final int[] offsets;
+        private final int[] lengths;
+        private final String[] values;
+        private final int end;
+
+        private Dictionary(int offset) {
+            int size = readLength(offset);
+            // 항목마다 최소 4바이트(길이 필드)를 차지한다.
+            if (size > (buffer.limit() - offset - Integer.BYTES) / Integer.BYTES) {
+                throw invalid();
+            }
+            offsets = new int[size];
+            lengths = new int[size];
+            values = new String[size];
+
+            int position = offset + Integer.BYTES;
+            for (int i = 0; i < size; i++) {
+                lengths[i] = readLength(position);
+                offsets[i] = position + Integer.BYTES;
+                position = offsets[i] + lengths[i];
+            }
+            end = position;
+        }
+
+        private String get(int entry) {
+            checkEntry(entry);
+            String value = values[entry];
+            if (value == null) {
+                value = decode(offsets[entry], lengths[entry]);
+                values[entry] = value;
+            }
+            return value;
+        }
+
+        private boolean entryEquals(int entry, byte[] utf8) {
+            checkEntry(entry);
+            return bytesEqual(offsets[entry], lengths[entry], utf8);
+        }
+
+        private void checkEntry(int entry) {
+            if (entry < 0 || entry >= offsets.length) {
+                throw invalid();
+            }
+        }
+    }
+}
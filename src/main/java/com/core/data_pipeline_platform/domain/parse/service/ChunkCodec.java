@@ -0,0 +1,58 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * DEFLATE 인코딩 청크의 압축/해제.
+ * 레코드마다 같은 키와 상태 값이 반복되는 JSON 이라 가장 빠른 레벨로도 대부분 줄어든다.
+ */
+public final class ChunkCodec {
+
+    private static final int LEVEL = Deflater.BEST_SPEED;
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private ChunkCodec() {
+    }
+
+    @FunctionalInterface
+    public interface Body {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * body 가 쓰는 바이트를 압축한다. 중간 문자열 없이 직렬화 결과를 바로 압축할 때 쓴다.
+     */
+    public static byte[] deflate(Body body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(BUFFER_SIZE);
+        Deflater deflater = new Deflater(LEVEL);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes, deflater, BUFFER_SIZE)) {
+            body.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // 직접 만든 Deflater 는 스트림이 닫아 주지 않으므로 네이티브 메모리를 바로 해제한다.
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    public static byte[] deflate(String json) {
+        return deflate(out -> out.write(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 압축을 풀며 읽는 스트림. 닫으면 Inflater 도 해제된다.
+     */
+    public static InputStream inflate(byte[] payload) {
+        return new InflaterInputStream(new ByteArrayInputStream(payload));
+    }
+}
@@ -0,0 +1,120 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파일의 희소 시간 인덱스. 청크(레코드 블록)마다 timestamp 최소/최대 (UTC epoch 마이크로초) 를 레코드 순서대로 갖는다.
+ *
+ * - 청크의 최소/최대가 레코드 순서대로 줄어들지 않으면 (시간순으로 쌓인 파일) [from, to) 와 겹치는 청크는 연속 구간이므로
+ *   최댓값 배열과 최솟값 배열을 이진 탐색해 구간의 양 끝을 찾는다.
+ * - 아니면 인덱스를 순서대로 훑어 겹치는 청크만 고른다.
+ * 어느 쪽이든 고르지 않은 청크의 본문은 읽지 않는다. 범위를 모르는 청크(시간 인덱스가 생기기 전에 저장된 행 등)는 항상 고른다.
+ */
+final class ChunkTimeIndex {
+
+    private final long[] firstRecords;
+    private final long[] mins;
+    private final long[] maxs;
+    private final boolean sorted;
+
+    private ChunkTimeIndex(long[] firstRecords, long[] mins, long[] maxs) {
+        this.firstRecords = firstRecords;
+        this.mins = mins;
+        this.maxs = maxs;
+        this.sorted = isNonDecreasing(mins) && isNonDecreasing(maxs);
+    }
+
+    /**
+     * @param chunks firstRecord 순으로 정렬된 청크 (ParsedRecordChunkJdbcRepository.findTimeIndex)
+     */
+    static ChunkTimeIndex of(List<ParsedRecordChunkEntity> chunks) {
+        int size = chunks.size();
+        long[] firstRecords = new long[size];
+        long[] mins = new long[size];
+        long[] maxs = new long[size];
+        for (int i = 0; i < size; i++) {
+            ParsedRecordChunkEntity chunk = chunks.get(i);
+            firstRecords[i] = chunk.getFirstRecord();
+            boolean known = chunk.getTimestampMin() != null && chunk.getTimestampMax() != null;
+            // 범위를 모르면 모든 시각과 겹치는 것으로 본다.
+            mins[i] = known ? chunk.getTimestampMin() : Long.MIN_VALUE;
+            maxs[i] = known ? chunk.getTimestampMax() : Long.MAX_VALUE;
+        }
+        return new ChunkTimeIndex(firstRecords, mins, maxs);
+    }
+
+    int size() {
+        return firstRecords.length;
+    }
+
+    boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * [from, to) 와 겹칠 수 있는 청크를 연속 구간별로 묶어 돌려준다.
+     */
+    List<Range> select(long from, long to) {
+        List<Range> ranges = new ArrayList<>();
+        if (sorted) {
+            // 첫 청크: max >= from 인 첫 번째, 끝: min >= to 인 첫 번째 (제외)
+            int start = firstIndex(maxs, from);
+            int end = firstIndex(mins, to);
+            if (start < end) {
+                ranges.add(range(start, end));
+            }
+            return ranges;
+        }
+        int start = -1;
+        for (int i = 0; i <= size(); i++) {
+            boolean overlaps = i < size() && maxs[i] >= from && mins[i] < to;
+            if (overlaps && start < 0) {
+                start = i;
+            } else if (!overlaps && start >= 0) {
+                ranges.add(range(start, i));
+                start = -1;
+            }
+        }
+        return ranges;
+    }
+
+    private Range range(int start, int end) {
+        // firstRecord 는 증가하므로 끝 청크의 firstRecord 다음 값까지를 조회 조건으로 쓴다.
+        return new Range(firstRecords[start], firstRecords[end - 1] + 1, end - start);
+    }
+
+    /**
+     * 줄어들지 않는 values 에서 key 이상인 첫 위치. 없으면 values.length
+     */
+    private static int firstIndex(long[] values, long key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean isNonDecreasing(long[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] < values[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 연속한 청크 구간. firstRecord 가 [fromRecord, toRecord) 인 청크 chunkCount 개
+     */
+    record Range(long fromRecord, long toRecord, int chunkCount) {
+    }
+}
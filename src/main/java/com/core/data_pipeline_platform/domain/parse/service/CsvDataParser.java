@@ -1,25 +1,51 @@
 package com.core.data_pipeline_platform.domain.parse.service;
 
 import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import com.core.data_pipeline_platform.domain.parse.model.RecordQuery;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
 
 @Service
 public class CsvDataParser implements DataParser{
 
+    private static final byte LF = '\n';
+
+    @Value("${parse.csv.parallel-threshold:64MB}")
+    private DataSize parallelThreshold = DataSize.ofMegabytes(64);
+
+    // 병렬 파싱 시 한 작업이 맡는 대략적인 크기
+    @Value("${parse.csv.segment-size:8MB}")
+    private DataSize segmentSize = DataSize.ofMegabytes(8);
+
+    // 타입을 선언하지 않은 컬럼의 타입 추론에 쓰는 앞부분 행 수
+    @Value("${parse.csv.inference-sample-rows:100}")
+    private int inferenceSampleRows = 100;
+
     @Override
-    public List<Map<String, Object>> parseData(FileType fileType, InputStream inputStream) {
+    public void parse(FileType fileType, InputStream inputStream, RecordQuery query, RecordSink sink) {
 
         if (fileType != FileType.CSV) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일 타입 불일치: CSV이어야 합니다.");
@@ -29,44 +55,312 @@ public class CsvDataParser implements DataParser{
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "입력 스트림이 null 입니다.");
         }
 
-        List<Map<String, Object>> records = new ArrayList<>();
-        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
-        
-        try{
-        String headerLine = reader.readLine();
-        if (headerLine == null) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV 파일이 비어있습니다.");
-        }
-        String regex = ",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)";
-        String[] headers = headerLine.split(regex, -1);
-
-        String line;
-        while ((line = reader.readLine()) != null) {
-            String[] columns = line.split(regex, -1);
-            for (int i = 0; i < columns.length; i++) {
-                if (columns[i].startsWith("\"") && columns[i].endsWith("\"")) {
-                    columns[i] = columns[i].substring(1, columns[i].length() - 1);
-                }
+        try (ParserResources resources = ParserResources.acquire()) {
+            RecordBatcher batcher = new RecordBatcher(sink, resources.batch());
+            CsvTokenizer tokenizer = resources.tokenizer(inputStream);
+            if (!tokenizer.next()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV 파일이 비어있습니다.");
             }
+            CsvSchema schema = CsvSchema.fromHeader(tokenizer.toArray());
+            CsvFieldParser fieldParser = resources.fieldParser();
+            List<byte[][]> sample = readSample(tokenizer, schema);
+            schema.infer(sample, fieldParser);
 
-            if (columns.length != headers.length) {
-                continue;
+            int[] columns = columnsOf(batcher.batch(), schema, query);
+            for (byte[][] row : sample) {
+                RecordBatch batch = batcher.row();
+                for (int i = 0; i < columns.length; i++) {
+                    if (columns[i] >= 0) {
+                        fieldParser.write(batch, columns[i], schema.type(i), row[i], 0, row[i].length);
+                    }
+                }
+                if (!query.matches(batch, batch.size() - 1)) {
+                    batcher.discard();
+                }
             }
-            Map<String, Object> record = new HashMap<>();
-            for (int i = 0; i < headers.length; i++) {
-                record.put(headers[i], columns[i]);
+            while (tokenizer.next()) {
+                if (tokenizer.fieldCount() == schema.size()) {
+                    RecordBatch batch = batcher.row();
+                    writeRow(batch, columns, schema, fieldParser, tokenizer);
+                    if (!query.matches(batch, batch.size() - 1)) {
+                        batcher.discard();
+                    }
+                }
             }
-            records.add(record);
+            batcher.complete();
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "CSV 파싱 실패");
+        }
+    }
+
+    /**
+     * parallelThreshold 이상인 파일은 메모리 매핑 후 레코드 경계에서 나눠 fork/join 풀에서 병렬로 파싱한다.
+     * 결과는 파일 순서대로 sink 에 전달된다.
+     */
+    @Override
+    public void parse(FileType fileType, Path path, RecordQuery query, RecordSink sink) {
+
+        if (fileType != FileType.CSV) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일 타입 불일치: CSV이어야 합니다.");
         }
-        return records;
+
+        long size;
+        try {
+            size = Files.size(path);
         } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 읽기 실패");
+        }
+
+        if (size < parallelThreshold.toBytes()) {
+            DataParser.super.parse(fileType, path, query, sink);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            parseParallel(channel, size, query, sink);
+        } catch (IOException | UncheckedIOException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "CSV 파싱 실패");
         }
-        
     }
 
     @Override
     public FileType getSupportedFileType() {
         return FileType.CSV;
     }
+
+    private void parseParallel(FileChannel channel, long size, RecordQuery query, RecordSink sink) throws IOException {
+        long[] boundaries = findRecordBoundaries(channel, size);
+
+        // 헤더와 추론용 표본은 순차 파싱과 같도록 첫 구간 경계와 무관하게 파일 앞부분에서 읽는다.
+        CsvSchema schema;
+        try (ParserResources resources = ParserResources.acquire()) {
+            CsvTokenizer headerTokenizer = resources.tokenizer(new ByteBufferInputStream(map(channel, 0, Math.min(size, Integer.MAX_VALUE))));
+            if (!headerTokenizer.next()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV 파일이 비어있습니다.");
+            }
+            schema = CsvSchema.fromHeader(headerTokenizer.toArray());
+            schema.infer(readSample(headerTokenizer, schema), resources.fieldParser());
+        }
+
+        // 동시에 메모리에 올라가는 구간 수를 제한하면서 앞 구간부터 순서대로 꺼낸다.
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int window = pool.getParallelism() + 1;
+        int segments = boundaries.length - 1;
+        Deque<ForkJoinTask<List<RecordBatch>>> inFlight = new ArrayDeque<>();
+
+        try {
+            int next = 0;
+            while (next < segments || !inFlight.isEmpty()) {
+                while (next < segments && inFlight.size() < window) {
+                    int segment = next++;
+                    inFlight.add(pool.submit(() -> parseSegment(channel, boundaries[segment], boundaries[segment + 1], schema, query, segment == 0)));
+                }
+                for (RecordBatch batch : inFlight.poll().join()) {
+                    sink.onBatch(batch);
+                }
+            }
+            sink.onComplete();
+        } finally {
+            inFlight.forEach(task -> task.cancel(true));
+        }
+    }
+
+    /**
+     * 구간을 RecordBatcher.DEFAULT_BATCH_SIZE 행씩 새 배치에 담아 반환한다. (배치는 sink 에 전달될 때까지 남아 있어야 하므로 풀에서 빌리지 않음)
+     */
+    private List<RecordBatch> parseSegment(FileChannel channel, long start, long end, CsvSchema schema, RecordQuery query,
+                                           boolean skipHeader) {
+        try (ParserResources resources = ParserResources.acquire()) {
+            CsvTokenizer tokenizer = resources.tokenizer(new ByteBufferInputStream(map(channel, start, end)));
+            if (skipHeader) {
+                tokenizer.next();
+            }
+
+            CsvFieldParser fieldParser = resources.fieldParser();
+            List<RecordBatch> batches = new ArrayList<>();
+            RecordBatch batch = null;
+            int[] columns = null;
+            while (tokenizer.next()) {
+                if (tokenizer.fieldCount() != schema.size()) {
+                    continue;
+                }
+                if (batch == null || batch.size() >= RecordBatcher.DEFAULT_BATCH_SIZE) {
+                    batch = new RecordBatch();
+                    columns = columnsOf(batch, schema, query);
+                    batches.add(batch);
+                }
+                batch.startRow();
+                writeRow(batch, columns, schema, fieldParser, tokenizer);
+                if (!query.matches(batch, batch.size() - 1)) {
+                    batch.discardRow();
+                }
+            }
+            if (batch != null && batch.isEmpty()) {
+                batches.remove(batch);
+            }
+            return batches;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 파일을 segmentSize 블록으로 나눈 뒤 각 블록 시작 이후 레코드를 끝내는 첫 줄바꿈 다음 위치를 경계로 잡는다.
+     * 따옴표는 CsvTokenizer 와 같은 규칙(필드 첫 글자일 때만 따옴표 필드를 연다)으로 따라가야 하므로,
+     * 블록마다 시작 상태별 끝 상태를 병렬로 구한 뒤 앞 블록부터 이어 붙여 각 블록의 시작 상태를 정한다.
+     * 경계를 찾지 못한 블록(거대한 따옴표 필드 등)은 앞 구간에 합쳐진다.
+     */
+    private long[] findRecordBoundaries(FileChannel channel, long size) {
+        long blockSize = segmentSize.toBytes();
+        int blocks = (int) ((size + blockSize - 1) / blockSize);
+
+        int[][] endStates = new int[blocks][];
+        IntStream.range(0, blocks).parallel().forEach(block -> {
+            long start = block * blockSize;
+            endStates[block] = scanStates(channel, start, Math.min(start + blockSize, size));
+        });
+
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        int state = CsvTokenizer.FIELD_START;
+        for (int block = 1; block < blocks; block++) {
+            state = endStates[block - 1][state];
+            long start = block * blockSize;
+            long boundary = findRecordEnd(channel, start, Math.min(start + blockSize, size), state);
+            if (boundary > 0 && boundary < size) {
+                boundaries.add(boundary);
+            }
+        }
+        boundaries.add(size);
+
+        return boundaries.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * 블록을 토크나이저의 각 상태에서 시작해 끝까지 읽었을 때의 상태. 인덱스가 시작 상태다.
+     * 파일 첫 블록은 토크나이저처럼 BOM 을 건너뛴다.
+     */
+    private int[] scanStates(FileChannel channel, long start, long end) {
+        try {
+            MappedByteBuffer buffer = map(channel, start, end);
+            int[] states = new int[CsvTokenizer.STATES];
+            for (int state = 0; state < states.length; state++) {
+                states[state] = state;
+            }
+            int from = start == 0 && hasBom(buffer) ? 3 : 0;
+            for (int i = from, limit = buffer.limit(); i < limit; i++) {
+                byte b = buffer.get(i);
+                for (int state = 0; state < states.length; state++) {
+                    states[state] = CsvTokenizer.transition(states[state], b);
+                }
+            }
+            return states;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean hasBom(ByteBuffer buffer) {
+        return buffer.limit() >= 3
+                && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB && buffer.get(2) == (byte) 0xBF;
+    }
+
+    /**
+     * state 에서 시작해 따옴표 필드 밖의 첫 \n 다음 위치. 없으면 -1.
+     */
+    private long findRecordEnd(FileChannel channel, long start, long end, int state) {
+        try {
+            MappedByteBuffer buffer = map(channel, start, end);
+            for (int i = 0, limit = buffer.limit(); i < limit; i++) {
+                byte b = buffer.get(i);
+                if (b == LF && state != CsvTokenizer.QUOTED) {
+                    return start + i + 1;
+                }
+                state = CsvTokenizer.transition(state, b);
+            }
+            return -1;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MappedByteBuffer map(FileChannel channel, long start, long end) throws IOException {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV 레코드 경계를 찾을 수 없습니다.");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    }
+
+    /**
+     * 헤더 다음부터 컬럼 수가 헤더와 같은 행을 최대 inferenceSampleRows 개 읽어 필드 바이트를 복사해 둔다.
+     * 모든 컬럼의 타입이 선언되어 있으면 읽지 않는다.
+     */
+    private List<byte[][]> readSample(CsvTokenizer tokenizer, CsvSchema schema) throws IOException {
+        List<byte[][]> sample = new ArrayList<>();
+        if (schema.isDeclared()) {
+            return sample;
+        }
+        while (sample.size() < inferenceSampleRows && tokenizer.next()) {
+            if (tokenizer.fieldCount() != schema.size()) {
+                continue;
+            }
+            byte[][] row = new byte[schema.size()][];
+            for (int i = 0; i < row.length; i++) {
+                int start = tokenizer.fieldStart(i);
+                row[i] = Arrays.copyOfRange(tokenizer.fieldBuffer(), start, start + tokenizer.fieldLength(i));
+            }
+            sample.add(row);
+        }
+        return sample;
+    }
+
+    /**
+     * 스키마 컬럼별 배치 컬럼 인덱스. query 가 읽지 않는 컬럼은 -1 이며, 그 필드는 변환하지 않고 건너뛴다.
+     */
+    private int[] columnsOf(RecordBatch batch, CsvSchema schema, RecordQuery query) {
+        int[] columns = new int[schema.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = query.reads(schema.name(i)) ? batch.column(schema.name(i)) : -1;
+        }
+        return columns;
+    }
+
+    /**
+     * 컬럼 수가 헤더와 같은 행만 호출된다. (다른 행은 건너뜀)
+     */
+    private void writeRow(RecordBatch batch, int[] columns, CsvSchema schema, CsvFieldParser fieldParser, CsvTokenizer tokenizer) {
+        byte[] buffer = tokenizer.fieldBuffer();
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] >= 0) {
+                fieldParser.write(batch, columns[i], schema.type(i), buffer, tokenizer.fieldStart(i), tokenizer.fieldLength(i));
+            }
+        }
+    }
+
+    /**
+     * 매핑된 구간을 CsvTokenizer 가 읽을 수 있게 감싼다.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, n);
+            return n;
+        }
+    }
 }
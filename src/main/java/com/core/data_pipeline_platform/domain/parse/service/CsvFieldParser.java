@@ -0,0 +1,249 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.model.ColumnType;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 필드 바이트를 String 을 만들지 않고 long/double/boolean/timestamp 로 변환한다.
+ * 변환 결과는 필드에 담기므로 스레드마다 하나씩 쓴다.
+ */
+final class CsvFieldParser {
+
+    // 2^53: 이 이하의 정수는 double 로 정확히 표현된다.
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    // 18자리까지는 long 에 넘치지 않고 누적된다.
+    private static final int MAX_MANTISSA_DIGITS = 18;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private long longValue;
+    private double doubleValue;
+    private boolean booleanValue;
+    private long timestampValue;
+
+    /**
+     * 컬럼 타입에 맞춰 값을 쓴다.
+     * - 빈 필드는 STRING 컬럼이면 빈 문자열, 그 외에는 null.
+     * - 타입에 맞지 않는 값은 숫자면 숫자로, 아니면 원문 문자열로 쓴다. (그 배치에서 해당 컬럼은 OBJECT 가 된다)
+     */
+    void write(RecordBatch batch, int column, ColumnType type, byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            if (type == ColumnType.STRING) {
+                batch.putString(column, "");
+            } else {
+                batch.putNull(column);
+            }
+            return;
+        }
+
+        switch (type) {
+            case LONG -> {
+                if (parseLong(bytes, offset, length)) {
+                    batch.putLong(column, longValue);
+                    return;
+                }
+            }
+            case DOUBLE -> {
+                if (parseDouble(bytes, offset, length)) {
+                    batch.putDouble(column, doubleValue);
+                    return;
+                }
+            }
+            case BOOLEAN -> {
+                if (parseBoolean(bytes, offset, length)) {
+                    batch.putBoolean(column, booleanValue);
+                    return;
+                }
+            }
+            case TIMESTAMP -> {
+                if (parseTimestamp(bytes, offset, length)) {
+                    batch.putTimestamp(column, timestampValue);
+                    return;
+                }
+            }
+            default -> {
+                batch.putString(column, new String(bytes, offset, length, StandardCharsets.UTF_8));
+                return;
+            }
+        }
+
+        if (parseLong(bytes, offset, length)) {
+            batch.putLong(column, longValue);
+        } else if (parseDouble(bytes, offset, length)) {
+            batch.putDouble(column, doubleValue);
+        } else {
+            batch.putString(column, new String(bytes, offset, length, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 부호와 숫자만 허용한다. long 범위를 넘으면 false.
+     */
+    boolean parseLong(byte[] bytes, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        if (i == end) {
+            return false;
+        }
+
+        // Long.parseLong 처럼 음수로 누적해 Long.MIN_VALUE 까지 표현한다.
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyMin = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9 || result < multiplyMin) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        longValue = negative ? result : -result;
+        return true;
+    }
+
+    /**
+     * [+-]digits[.digits][(e|E)[+-]digits] 형식만 허용한다. (NaN, Infinity, 16진수 제외)
+     * 유효 숫자가 2^53 이하이고 10의 지수가 ±22 이내면 곱셈/나눗셈 한 번으로 정확히 반올림된 값을 얻는다.
+     * 그 밖의 경우만 Double.parseDouble 로 넘긴다.
+     */
+    boolean parseDouble(byte[] bytes, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int mantissaDigits = 0;
+        int exponent = 0;
+        boolean truncated = false;
+        boolean anyDigit = false;
+
+        for (; i < end && isDigit(bytes[i]); i++) {
+            anyDigit = true;
+            int digit = bytes[i] - '0';
+            if (mantissaDigits < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + digit;
+                if (mantissa != 0) {
+                    mantissaDigits++;
+                }
+            } else {
+                exponent++;
+                truncated |= digit != 0;
+            }
+        }
+        if (i < end && bytes[i] == '.') {
+            i++;
+            for (; i < end && isDigit(bytes[i]); i++) {
+                anyDigit = true;
+                int digit = bytes[i] - '0';
+                if (mantissaDigits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + digit;
+                    if (mantissa != 0) {
+                        mantissaDigits++;
+                    }
+                    exponent--;
+                } else {
+                    truncated |= digit != 0;
+                }
+            }
+        }
+        if (!anyDigit) {
+            return false;
+        }
+
+        if (i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+                negativeExponent = bytes[i] == '-';
+                i++;
+            }
+            if (i == end) {
+                return false;
+            }
+            int explicitExponent = 0;
+            for (; i < end && isDigit(bytes[i]); i++) {
+                if (explicitExponent < 100_000) {
+                    explicitExponent = explicitExponent * 10 + (bytes[i] - '0');
+                }
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (i != end) {
+            return false;
+        }
+
+        if (!truncated && mantissa <= MAX_EXACT_MANTISSA && exponent >= -22 && exponent <= 22) {
+            double value = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+            doubleValue = negative ? -value : value;
+        } else {
+            doubleValue = Double.parseDouble(new String(bytes, offset, length, StandardCharsets.ISO_8859_1));
+        }
+        return true;
+    }
+
+    /**
+     * true/false (대소문자 무시)
+     */
+    boolean parseBoolean(byte[] bytes, int offset, int length) {
+        if (matchesIgnoreCase(bytes, offset, length, "true")) {
+            booleanValue = true;
+            return true;
+        }
+        if (matchesIgnoreCase(bytes, offset, length, "false")) {
+            booleanValue = false;
+            return true;
+        }
+        return false;
+    }
+
+    boolean parseTimestamp(byte[] bytes, int offset, int length) {
+        long micros = EpochMicros.parse(bytes, offset, length);
+        if (micros == EpochMicros.NONE) {
+            return false;
+        }
+        timestampValue = micros;
+        return true;
+    }
+
+    double doubleValue() {
+        return doubleValue;
+    }
+
+    long longValue() {
+        return longValue;
+    }
+
+    private static boolean matchesIgnoreCase(byte[] bytes, int offset, int length, String expected) {
+        if (length != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if ((bytes[offset + i] | 0x20) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
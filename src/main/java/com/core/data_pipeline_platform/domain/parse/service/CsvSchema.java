@@ -0,0 +1,122 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.model.ColumnType;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CSV 컬럼 이름과 타입.
+ * - 헤더를 "이름:타입" (long, double, boolean, timestamp, string) 으로 쓰면 선언한 타입을 그대로 쓴다.
+ * - 선언하지 않은 컬럼은 앞부분 표본 행으로 추론한다. 빈 값은 무시하고, 모든 값이 맞는 타입 중
+ *   long > double > boolean 순으로 고르며, 하나도 맞지 않으면 string 이다.
+ * - "007" 처럼 0 으로 시작하는 숫자가 하나라도 있으면 식별자로 보고 string 으로 둔다.
+ * - timestamp 는 추론하지 않는다. 원문 표기("2025-09-21 04:16" 등)를 그대로 두려면 string 이어야 하므로
+ *   epoch 로 저장하려면 헤더에 선언한다.
+ */
+final class CsvSchema {
+
+    private final String[] names;
+    private final ColumnType[] types;
+
+    private CsvSchema(String[] names, ColumnType[] types) {
+        this.names = names;
+        this.types = types;
+    }
+
+    static CsvSchema fromHeader(String[] header) {
+        String[] names = new String[header.length];
+        ColumnType[] types = new ColumnType[header.length];
+        for (int i = 0; i < header.length; i++) {
+            int separator = header[i].lastIndexOf(':');
+            ColumnType declared = separator < 0 ? null : declaredType(header[i].substring(separator + 1));
+            names[i] = declared == null ? header[i] : header[i].substring(0, separator);
+            types[i] = declared;
+        }
+        return new CsvSchema(names, types);
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    String name(int index) {
+        return names[index];
+    }
+
+    ColumnType type(int index) {
+        return types[index];
+    }
+
+    /**
+     * 모든 컬럼의 타입이 선언되어 추론이 필요 없는지
+     */
+    boolean isDeclared() {
+        for (ColumnType type : types) {
+            if (type == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 선언되지 않은 컬럼의 타입을 표본 행(컬럼 수가 헤더와 같은 행의 필드 바이트)으로 정한다.
+     */
+    void infer(List<byte[][]> sample, CsvFieldParser parser) {
+        for (int column = 0; column < types.length; column++) {
+            if (types[column] != null) {
+                continue;
+            }
+
+            boolean any = false;
+            boolean isLong = true;
+            boolean isDouble = true;
+            boolean isBoolean = true;
+            boolean leadingZero = false;
+            for (byte[][] row : sample) {
+                byte[] field = row[column];
+                if (field.length == 0) {
+                    continue;
+                }
+                any = true;
+                leadingZero = leadingZero || hasLeadingZero(field);
+                isLong = isLong && parser.parseLong(field, 0, field.length);
+                isDouble = isDouble && parser.parseDouble(field, 0, field.length);
+                isBoolean = isBoolean && parser.parseBoolean(field, 0, field.length);
+            }
+
+            if (!any || leadingZero) {
+                types[column] = ColumnType.STRING;
+            } else if (isLong) {
+                types[column] = ColumnType.LONG;
+            } else if (isDouble) {
+                types[column] = ColumnType.DOUBLE;
+            } else if (isBoolean) {
+                types[column] = ColumnType.BOOLEAN;
+            } else {
+                types[column] = ColumnType.STRING;
+            }
+        }
+    }
+
+    /**
+     * 부호 다음의 정수부가 0 으로 시작하고 숫자가 이어지는지 ("007", "-01"). "0", "0.5" 는 해당하지 않는다.
+     */
+    private static boolean hasLeadingZero(byte[] field) {
+        int start = field[0] == '-' || field[0] == '+' ? 1 : 0;
+        return field.length > start + 1 && field[start] == '0'
+                && field[start + 1] >= '0' && field[start + 1] <= '9';
+    }
+
+    private static ColumnType declaredType(String name) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "long" -> ColumnType.LONG;
+            case "double" -> ColumnType.DOUBLE;
+            case "boolean" -> ColumnType.BOOLEAN;
+            case "timestamp" -> ColumnType.TIMESTAMP;
+            case "string" -> ColumnType.STRING;
+            default -> null;
+        };
+    }
+}
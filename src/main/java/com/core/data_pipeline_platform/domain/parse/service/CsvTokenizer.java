@@ -0,0 +1,266 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * RFC 4180 CSV 를 바이트 단위 상태 머신으로 한 번만 훑어 레코드를 잘라낸다.
+ *
+ * - 따옴표 필드, 이스케이프된 따옴표(""), 따옴표 안의 줄바꿈을 지원한다.
+ * - 레코드 구분자는 \n, \r, \r\n 모두 허용한다.
+ * - 구분 문자(, " \r \n)는 모두 ASCII 라서 UTF-8 멀티바이트 안에 나타나지 않으므로 디코딩 없이 바이트로 판정한다.
+ * - 필드 내용은 따옴표를 벗긴 상태로 내부 버퍼에 이어 붙이고, 문자열 변환은 getString 호출 시에만 한다.
+ *
+ * 스레드 안전하지 않다. 파일 하나를 읽는 동안 한 스레드에서만 사용한다.
+ */
+public class CsvTokenizer {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    // reset 시 이보다 커진 필드 버퍼는 버린다. (거대한 필드 하나 때문에 풀에 큰 배열이 남지 않도록)
+    private static final int MAX_RETAINED_FIELD_BUFFER = 1024 * 1024;
+    private static final int INITIAL_FIELD_BUFFER = 1024;
+
+    private static final byte COMMA = ',';
+    private static final byte QUOTE = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    // 파서 상태. CsvDataParser 가 병렬 분할 경계를 찾을 때도 transition 으로 같은 상태를 따라간다.
+    static final int FIELD_START = 0;
+    static final int UNQUOTED = 1;
+    static final int QUOTED = 2;
+    static final int QUOTE_IN_QUOTED = 3;
+    static final int STATES = 4;
+
+    private InputStream in;
+    private final byte[] buf;
+    private int pos;
+    private int limit;
+    private boolean eof;
+    private boolean skipLf;
+    private boolean bomChecked;
+
+    // 현재 레코드: 필드 내용을 field 에 이어 붙이고 경계만 기록한다.
+    private byte[] field = new byte[INITIAL_FIELD_BUFFER];
+    private int length;
+    private int[] ends = new int[16];
+    private int count;
+
+    public CsvTokenizer(InputStream in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    public CsvTokenizer(InputStream in, int bufferSize) {
+        this.in = in;
+        this.buf = new byte[bufferSize];
+    }
+
+    /**
+     * 버퍼를 그대로 두고 새 입력을 처음부터 읽도록 상태를 되돌린다.
+     */
+    public void reset(InputStream in) {
+        this.in = in;
+        pos = limit = 0;
+        eof = false;
+        skipLf = false;
+        bomChecked = false;
+        length = 0;
+        count = 0;
+        if (field.length > MAX_RETAINED_FIELD_BUFFER) {
+            field = new byte[INITIAL_FIELD_BUFFER];
+        }
+    }
+
+    /**
+     * 다음 레코드로 이동한다. 더 읽을 레코드가 없으면 false.
+     */
+    public boolean next() throws IOException {
+        count = 0;
+        length = 0;
+
+        if (!bomChecked) {
+            skipBom();
+        }
+        if (skipLf) {
+            skipLf = false;
+            if ((pos < limit || fill()) && buf[pos] == LF) {
+                pos++;
+            }
+        }
+
+        int state = FIELD_START;
+        boolean started = false;
+
+        while (true) {
+            if (pos >= limit && !fill()) {
+                if (!started) {
+                    return false;
+                }
+                // 닫히지 않은 따옴표도 마지막 필드로 받아 준다.
+                endField();
+                return true;
+            }
+
+            switch (state) {
+                case FIELD_START -> {
+                    started = true;
+                    if (buf[pos] == QUOTE) {
+                        pos++;
+                        state = QUOTED;
+                    } else {
+                        state = UNQUOTED;
+                    }
+                }
+                case UNQUOTED -> {
+                    int p = pos;
+                    while (p < limit) {
+                        byte c = buf[p];
+                        if (c == COMMA || c == LF || c == CR) {
+                            break;
+                        }
+                        p++;
+                    }
+                    append(pos, p - pos);
+                    pos = p;
+                    if (p == limit) {
+                        continue;
+                    }
+
+                    byte delimiter = buf[pos++];
+                    endField();
+                    if (delimiter == COMMA) {
+                        state = FIELD_START;
+                    } else {
+                        skipLf = delimiter == CR;
+                        return true;
+                    }
+                }
+                case QUOTED -> {
+                    int p = pos;
+                    while (p < limit && buf[p] != QUOTE) {
+                        p++;
+                    }
+                    append(pos, p - pos);
+                    pos = p;
+                    if (p < limit) {
+                        pos++;
+                        state = QUOTE_IN_QUOTED;
+                    }
+                }
+                case QUOTE_IN_QUOTED -> {
+                    if (buf[pos] == QUOTE) {
+                        // "" 는 따옴표 한 글자
+                        append(pos, 1);
+                        pos++;
+                        state = QUOTED;
+                    } else {
+                        // 닫는 따옴표. 구분자 전까지 남은 바이트는 그대로 붙인다.
+                        state = UNQUOTED;
+                    }
+                }
+                default -> throw new IllegalStateException("unknown state: " + state);
+            }
+        }
+    }
+
+    /**
+     * state 에서 바이트 b 하나를 읽은 뒤의 상태. next() 의 상태 전이를 바이트 단위로 옮긴 것이다.
+     * 따옴표는 필드 첫 글자일 때만 따옴표 필드를 열고, 따옴표 밖의 \r, \n 을 읽으면 FIELD_START 가 된다.
+     */
+    static int transition(int state, byte b) {
+        return switch (state) {
+            case FIELD_START -> b == QUOTE ? QUOTED : afterUnquoted(b);
+            case UNQUOTED -> afterUnquoted(b);
+            case QUOTED -> b == QUOTE ? QUOTE_IN_QUOTED : QUOTED;
+            case QUOTE_IN_QUOTED -> b == QUOTE ? QUOTED : afterUnquoted(b);
+            default -> throw new IllegalStateException("unknown state: " + state);
+        };
+    }
+
+    private static int afterUnquoted(byte b) {
+        return b == COMMA || b == LF || b == CR ? FIELD_START : UNQUOTED;
+    }
+
+    public int fieldCount() {
+        return count;
+    }
+
+    public String getString(int index) {
+        int start = fieldStart(index);
+        return new String(field, start, ends[index] - start, StandardCharsets.UTF_8);
+    }
+
+    public String[] toArray() {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = getString(i);
+        }
+        return values;
+    }
+
+    /**
+     * 따옴표가 벗겨진 필드 바이트가 담긴 버퍼. 다음 next() 호출 전까지만 유효하다.
+     */
+    public byte[] fieldBuffer() {
+        return field;
+    }
+
+    public int fieldStart(int index) {
+        return index == 0 ? 0 : ends[index - 1];
+    }
+
+    public int fieldLength(int index) {
+        return ends[index] - fieldStart(index);
+    }
+
+    private void append(int from, int len) {
+        if (len == 0) {
+            return;
+        }
+        if (length + len > field.length) {
+            field = Arrays.copyOf(field, Math.max(field.length * 2, length + len));
+        }
+        System.arraycopy(buf, from, field, length, len);
+        length += len;
+    }
+
+    private void endField() {
+        if (count == ends.length) {
+            ends = Arrays.copyOf(ends, count * 2);
+        }
+        ends[count++] = length;
+    }
+
+    private void skipBom() throws IOException {
+        bomChecked = true;
+        if (pos >= limit && !fill()) {
+            return;
+        }
+        // BOM 세 바이트가 첫 read 에 함께 들어오지 않는 경우는 드물어 무시한다.
+        if (limit - pos >= 3 && buf[pos] == (byte) 0xEF && buf[pos + 1] == (byte) 0xBB && buf[pos + 2] == (byte) 0xBF) {
+            pos += 3;
+        }
+    }
+
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        int n;
+        do {
+            n = in.read(buf, 0, buf.length);
+        } while (n == 0);
+
+        if (n < 0) {
+            eof = true;
+            pos = limit = 0;
+            return false;
+        }
+        pos = 0;
+        limit = n;
+        return true;
+    }
+}
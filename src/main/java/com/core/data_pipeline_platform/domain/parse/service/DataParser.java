@@ -1,8 +1,16 @@
 package com.core.data_pipeline_platform.domain.parse.service;
 
 import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.parse.model.RecordQuery;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -11,8 +19,47 @@ public interface DataParser {
       * 지정된 파일 타입의 데이터를 파싱한다.
       * - fileType: 구현체가 지원하는 타입이어야 하며, 불일치 시 400을 던진다.
       * - inputStream: null 불가. 호출자가 생명주기/close를 관리한다.
+      * - 전체 레코드를 Map 으로 메모리에 모으므로 작은 파일에만 사용한다. 큰 파일은 parse(..., sink)를 쓴다.
       */
-    List<Map<String, Object>>  parseData(FileType fileType, InputStream inputStream);
+    default List<Map<String, Object>> parseData(FileType fileType, InputStream inputStream) {
+        List<Map<String, Object>> records = new ArrayList<>();
+        parse(fileType, inputStream, batch -> records.addAll(batch.toMaps()));
+        return records;
+    }
+
+    /**
+     * 레코드를 모두 메모리에 올리지 않고 배치 단위로 sink 에 밀어 넣는다.
+     * - 검증 규칙은 parseData 와 같다.
+     * - 모든 레코드를 넘긴 뒤 sink.onComplete()를 호출한다.
+     */
+    default void parse(FileType fileType, InputStream inputStream, RecordSink sink) {
+        parse(fileType, inputStream, RecordQuery.ALL, sink);
+    }
+
+    /**
+     * query 를 읽으면서 적용한다. query.reads 가 false 인 필드는 디코딩하지 않고,
+     * 조건에 맞지 않는 행은 sink 에 넘기지 않는다. 조건 필드는 프로젝션에 없어도 배치에 들어 있다.
+     */
+    void parse(FileType fileType, InputStream inputStream, RecordQuery query, RecordSink sink);
+
+    /**
+     * 저장된 파일을 직접 파싱한다.
+     */
+    default void parse(FileType fileType, Path path, RecordSink sink) {
+        parse(fileType, path, RecordQuery.ALL, sink);
+    }
+
+    /**
+     * 저장된 파일을 query 를 적용해 파싱한다. 기본 구현은 버퍼링된 스트림으로 위 parse 를 호출하며,
+     * 파일 전체에 임의 접근이 필요한 구현체(메모리 매핑, 병렬 분할 등)가 재정의한다.
+     */
+    default void parse(FileType fileType, Path path, RecordQuery query, RecordSink sink) {
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+            parse(fileType, inputStream, query, sink);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 읽기 실패");
+        }
+    }
 
     /**
      * 구현체가 지원하는 파일 타입을 반환한다.
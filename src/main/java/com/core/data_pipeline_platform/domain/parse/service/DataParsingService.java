@@ -3,16 +3,33 @@ package com.core.data_pipeline_platform.domain.parse.service;
 import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
 import com.core.data_pipeline_platform.domain.file.enums.FileType;
 import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import com.core.data_pipeline_platform.domain.parse.enums.ChunkEncoding;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedRecordChunkBulkLoader;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedRecordChunkJdbcRepository;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -20,25 +37,281 @@ public class DataParsingService {
 
     private final ParserFactory parserFactory;
     private final ObjectMapper objectMapper;
+    private final ParsedRecordChunkJdbcRepository chunkJdbcRepository;
+    private final ParsedRecordChunkBulkLoader chunkBulkLoader;
+    private final ParsedChunkCache chunkCache;
+    private final EntityManager entityManager;
 
+    // 한 번의 multi-row INSERT 에 담는 최대 청크 수
+    @Value("${parse.store.insert-batch-size:20}")
+    private int insertBatchSize = 20;
+
+    // 한 번의 INSERT 에 담는 본문 크기(JSON 문자 수 또는 압축 바이트 수) 상한. DB 의 max_allowed_packet 보다 작게 둔다.
+    @Value("${parse.store.max-insert-size:4MB}")
+    private DataSize maxInsertSize = DataSize.ofMegabytes(4);
+
+    // 이 크기 이상의 저장된 파일은 LOAD DATA LOCAL INFILE 로 적재한다. (MariaDB 일 때만)
+    @Value("${parse.store.bulk-load-threshold:32MB}")
+    private DataSize bulkLoadThreshold = DataSize.ofMegabytes(32);
+
+    // 새로 저장하는 청크의 인코딩. 기존 행은 ParsedChunkMigrationJob 이 옮긴다.
+    @Value("${parse.store.encoding:JSON}")
+    private ChunkEncoding encoding = ChunkEncoding.JSON;
+
+    /**
+     * 파서가 배치 단위로 밀어 주는 레코드를 배치마다 JSON 배열 청크로 직렬화해 parsed_record_chunk 에 바로 저장한다.
+     * 파일 전체를 메모리에 모으지 않으며, 반환하는 엔티티(레코드/청크 수, 통계 요약)와 센서 역색인 항목은 호출자가 저장한다.
+     */
     public ParsedDataEntity parseToEntity(FileType fileType, InputStream inputStream, FileEntity file) {
+        DataParser parser = parserFactory.getParser(fileType);
+        return toEntity(file, sink -> parser.parse(fileType, inputStream, sink));
+    }
+
+    /**
+     * 저장된 파일을 경로로 파싱한다. 큰 CSV 는 파서가 메모리 매핑 후 병렬로 처리한다.
+     * bulkLoadThreshold 이상인 파일은 DB 가 지원하면 LOAD DATA LOCAL INFILE 로 적재한다.
+     */
+    public ParsedDataEntity parseToEntity(FileType fileType, Path path, FileEntity file) {
+        DataParser parser = parserFactory.getParser(fileType);
+        Consumer<RecordSink> parse = sink -> parser.parse(fileType, path, sink);
+        if (isBulkLoadTarget(path)) {
+            return bulkLoad(file, parse);
+        }
+        return toEntity(file, parse);
+    }
+
+    private ParsedDataEntity toEntity(FileEntity file, Consumer<RecordSink> parse) {
+        beginParse(file);
+        InsertChunkWriter writer = new InsertChunkWriter(file);
+
+        try {
+            parse.accept(writer);
+            writer.flush();
+        } catch (RuntimeException e) {
+            throw discard(writer, e);
+        }
+
+        return writer.toEntity();
+    }
+
+    /**
+     * 파싱은 별도 스레드에서 TSV 로 흘려보내고, 이 스레드는 그 스트림을 LOAD DATA 로 읽어 들인다.
+     */
+    private ParsedDataEntity bulkLoad(FileEntity file, Consumer<RecordSink> parse) {
+        beginParse(file);
+        BulkLoadChunkWriter writer = new BulkLoadChunkWriter(file);
+
+        try {
+            chunkBulkLoader.load(out -> {
+                writer.out = out;
+                parse.accept(writer);
+            });
+        } catch (RuntimeException e) {
+            throw discard(writer, e);
+        }
+
+        return writer.toEntity();
+    }
+
+    private boolean isBulkLoadTarget(Path path) {
+        try {
+            return Files.size(path) >= bulkLoadThreshold.toBytes() && chunkBulkLoader.isSupported();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 청크는 JDBC 로 바로 쓰므로, 아직 flush 되지 않은 파일 INSERT 를 먼저 내보내 FK 가 깨지지 않게 한다.
+     * 다시 파싱하는 파일이면 이전 결과로 캐시된 청크를 버린다.
+     */
+    private void beginParse(FileEntity file) {
+        if (entityManager.isJoinedToTransaction()) {
+            entityManager.flush();
+        }
+        if (file.getId() != null) {
+            chunkCache.invalidateFile(file.getId());
+        }
+    }
+
+    /**
+     * 파싱 뒤 저장 단계에서 실패해 호출자가 새 트랜잭션으로 실패를 기록할 때, 남았을 수 있는 파일의 청크와 캐시를 지운다.
+     */
+    public void discard(Long fileId) {
+        chunkJdbcRepository.deleteByFileId(fileId);
+        chunkCache.invalidateFile(fileId);
+    }
+
+    /**
+     * 파싱이 중간에 실패하면 이미 저장한 청크를 지운다. (호출자가 실패를 기록하고 커밋하는 경우 대비)
+     */
+    private RuntimeException discard(ChunkWriter writer, RuntimeException e) {
+        if (writer.chunkCount > 0) {
+            discard(writer.file.getId());
+        }
+        if (e instanceof UncheckedIOException) {
+            return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파싱 실패");
+        }
+        return e;
+    }
+
+    /**
+     * 컬럼 타입별로 원시 값을 바로 쓴다. 중첩 객체 등 OBJECT 컬럼만 ObjectMapper 로 직렬화한다.
+     */
+    private void writeBatch(JsonGenerator generator, RecordBatch batch) {
         try {
-            DataParser parser = parserFactory.getParser(fileType);
-            List<Map<String, Object>> maps = parser.parseData(fileType, inputStream);
+            for (int row = 0; row < batch.size(); row++) {
+                generator.writeStartObject();
+                for (int column = 0; column < batch.columnCount(); column++) {
+                    if (batch.isPresent(column, row)) {
+                        generator.writeFieldName(batch.columnName(column));
+                        writeValue(generator, batch, column, row);
+                    }
+                }
+                generator.writeEndObject();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-            String jsonData = objectMapper.writeValueAsString(maps);
+    private String toJson(RecordBatch batch) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.createGenerator(writer)) {
+            writeArray(generator, batch);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * JSON 문자열을 만들지 않고 직렬화 결과를 바로 압축한다.
+     */
+    private byte[] toDeflatedJson(RecordBatch batch) {
+        return ChunkCodec.deflate(out -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8)) {
+                writeArray(generator, batch);
+            }
+        });
+    }
 
+    private void writeArray(JsonGenerator generator, RecordBatch batch) throws IOException {
+        generator.writeStartArray();
+        writeBatch(generator, batch);
+        generator.writeEndArray();
+    }
+
+    private void writeValue(JsonGenerator generator, RecordBatch batch, int column, int row) throws IOException {
+        if (batch.isNull(column, row)) {
+            generator.writeNull();
+            return;
+        }
+        switch (batch.columnType(column)) {
+            case LONG -> generator.writeNumber(batch.getLong(column, row));
+            case DOUBLE -> generator.writeNumber(batch.getDouble(column, row));
+            case BOOLEAN -> generator.writeBoolean(batch.getBoolean(column, row));
+            case TIMESTAMP -> generator.writeString(EpochMicros.format(batch.getLong(column, row)));
+            case STRING -> generator.writeString(batch.getString(column, row));
+            case OBJECT -> objectMapper.writeValue(generator, batch.getValue(column, row));
+        }
+    }
+
+    /**
+     * 배치 하나를 설정된 인코딩의 JSON 배열 청크 하나로 바꿔 저장 방식별 write 로 넘긴다.
+     */
+    private abstract class ChunkWriter implements RecordSink {
+
+        final FileEntity file;
+        final ParsedDataStatsCollector stats = new ParsedDataStatsCollector();
+        final SensorRangeCollector sensorRanges = new SensorRangeCollector();
+        long recordCount;
+        int chunkCount;
+
+        ChunkWriter(FileEntity file) {
+            this.file = file;
+        }
+
+        @Override
+        public void onBatch(RecordBatch batch) {
+            stats.accept(batch);
+            sensorRanges.accept(batch, recordCount);
+            ParsedRecordChunkEntity.ParsedRecordChunkEntityBuilder chunk = ParsedRecordChunkEntity.builder()
+                    .file(file)
+                    .firstRecord(recordCount)
+                    .recordCount(batch.size())
+                    .encoding(encoding)
+                    .timestampMin(stats.batchTimestampMin())
+                    .timestampMax(stats.batchTimestampMax());
+            if (encoding == ChunkEncoding.DEFLATE) {
+                chunk.data("").payload(toDeflatedJson(batch));
+            } else {
+                chunk.data(toJson(batch));
+            }
+            write(chunk.build());
+            recordCount += batch.size();
+            chunkCount++;
+        }
+
+        abstract void write(ParsedRecordChunkEntity chunk);
+
+        ParsedDataEntity toEntity() {
             return ParsedDataEntity.builder()
                     .file(file)
-                    .data(jsonData)
+                    .recordCount(recordCount)
+                    .chunkCount(chunkCount)
+                    .stats(stats.toStats())
+                    .sensorRanges(sensorRanges.toRanges(file.getId()))
                     .build();
+        }
+    }
+
+    /**
+     * 청크를 모아 두었다가 insertBatchSize 개 또는 maxInsertSize 에 닿으면 multi-row INSERT 한 번으로 저장한다.
+     */
+    private final class InsertChunkWriter extends ChunkWriter {
 
-        }catch (JsonProcessingException e){
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파싱 실패");
+        private final List<ParsedRecordChunkEntity> pending = new ArrayList<>();
+        private long pendingSize;
+
+        private InsertChunkWriter(FileEntity file) {
+            super(file);
+        }
+
+        @Override
+        void write(ParsedRecordChunkEntity chunk) {
+            pending.add(chunk);
+            pendingSize += chunk.getStoredSize();
+            if (pending.size() >= insertBatchSize || pendingSize >= maxInsertSize.toBytes()) {
+                flush();
+            }
         }
 
+        private void flush() {
+            chunkJdbcRepository.insertAll(pending);
+            pending.clear();
+            pendingSize = 0;
+        }
     }
 
+    /**
+     * 청크를 LOAD DATA 가 읽는 스트림에 TSV 한 줄로 쓴다.
+     */
+    private final class BulkLoadChunkWriter extends ChunkWriter {
 
+        private Writer out;
 
+        private BulkLoadChunkWriter(FileEntity file) {
+            super(file);
+        }
+
+        @Override
+        void write(ParsedRecordChunkEntity chunk) {
+            try {
+                ParsedRecordChunkBulkLoader.writeRow(out, chunk);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
@@ -0,0 +1,100 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataStats;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.model.RecordQuery;
+import com.core.data_pipeline_platform.domain.parse.model.SensorBloomFilter;
+import com.core.data_pipeline_platform.domain.parse.model.SensorFields;
+
+/**
+ * 파일 통계만 보고 RecordQuery 를 만족하는 레코드가 있을 수 없는 파일을 가린다. 레코드는 읽지 않는다.
+ *
+ * - sensorId = x: sensorId Bloom filter 에 x 가 없으면 건너뛴다.
+ * - value, timestamp 비교: 파일의 최소/최대(zone map) 구간이 조건과 겹치지 않으면 건너뛴다.
+ *   모든 레코드의 값이 숫자/시각으로 읽힌 파일만 해당한다. 문자열 값은 문자열 비교로 조건을 만족할 수 있기 때문이다.
+ * 통계가 없는 파일(통계 기능 이전에 파싱된 파일)은 건너뛰지 않는다.
+ */
+final class FilePruner {
+
+    private FilePruner() {
+    }
+
+    /**
+     * @return 조건을 만족하는 레코드가 있을 수 있으면 true
+     */
+    static boolean mayMatch(ParsedDataEntity parsedData, RecordQuery query) {
+        ParsedDataStats stats = parsedData.getStats();
+        if (stats == null || !query.hasConditions()) {
+            return true;
+        }
+        SensorBloomFilter sensors = null;
+        for (RecordQuery.Condition condition : query.getConditions()) {
+            switch (condition.field()) {
+                case SensorFields.SENSOR_ID -> {
+                    // 숫자 피연산자는 "007" 같은 값과 숫자로 같을 수 있으므로 Bloom filter 로 거르지 않는다.
+                    if (condition.operator() != RecordQuery.Operator.EQ || isNumber(condition.operand())) {
+                        continue;
+                    }
+                    if (sensors == null) {
+                        sensors = SensorBloomFilter.fromBytes(stats.getSensorBloom());
+                    }
+                    if (sensors != null && !sensors.mightContain(condition.operand())) {
+                        return false;
+                    }
+                }
+                case SensorFields.VALUE -> {
+                    if (!isNumber(condition.operand()) || !coversAll(stats.getValueCount(), parsedData)
+                            || stats.getValueMin() == null) {
+                        continue;
+                    }
+                    double operand = Double.parseDouble(condition.operand().trim());
+                    if (!overlaps(condition.operator(), Double.compare(stats.getValueMin(), operand),
+                            Double.compare(stats.getValueMax(), operand))) {
+                        return false;
+                    }
+                }
+                case SensorFields.TIMESTAMP -> {
+                    long operand = EpochMicros.parse(condition.operand());
+                    if (operand == EpochMicros.NONE || !coversAll(stats.getTimestampCount(), parsedData)
+                            || stats.getTimestampMin() == null) {
+                        continue;
+                    }
+                    if (!overlaps(condition.operator(), Long.compare(stats.getTimestampMin(), operand),
+                            Long.compare(stats.getTimestampMax(), operand))) {
+                        return false;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * [min, max] 안에 연산자를 만족하는 값이 있을 수 있는지. (min, max 를 피연산자와 비교한 결과로 판단)
+     */
+    private static boolean overlaps(RecordQuery.Operator operator, int minCompared, int maxCompared) {
+        return switch (operator) {
+            case EQ -> minCompared <= 0 && maxCompared >= 0;
+            case NE -> minCompared != 0 || maxCompared != 0;
+            case GT -> maxCompared > 0;
+            case GE -> maxCompared >= 0;
+            case LT -> minCompared < 0;
+            case LE -> minCompared <= 0;
+        };
+    }
+
+    private static boolean coversAll(Long count, ParsedDataEntity parsedData) {
+        return count != null && count == parsedData.getRecordCount();
+    }
+
+    private static boolean isNumber(String text) {
+        try {
+            return !Double.isNaN(Double.parseDouble(text.trim()));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.core.data_pipeline_platform.domain.parse.service;
 
 import com.core.data_pipeline_platform.domain.file.enums.FileType;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import com.core.data_pipeline_platform.domain.parse.model.RecordQuery;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -10,9 +13,11 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.List;
-import java.util.Map;
 
+/**
+ * 최상위 배열을 토큰 단위로 읽어 배치의 행으로 쓴다.
+ * 스칼라는 토큰에서 바로 원시 값으로 꺼내고, 중첩 객체/배열만 ObjectMapper 로 읽는다.
+ */
 @Service
 @RequiredArgsConstructor
 public class JsonDataParser implements DataParser {
@@ -20,7 +25,7 @@ public class JsonDataParser implements DataParser {
     private final ObjectMapper objectMapper;
 
     @Override
-    public List<Map<String, Object>> parseData(FileType fileType, InputStream inputStream) {
+    public void parse(FileType fileType, InputStream inputStream, RecordQuery query, RecordSink sink) {
 
         if (fileType != FileType.JSON) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일 타입 불일치: JSON이어야 합니다.");
@@ -30,12 +35,25 @@ public class JsonDataParser implements DataParser {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "입력 스트림이 null 입니다.");
         }
 
-        try {
-            return objectMapper.readValue(
-                    inputStream,
-                    new TypeReference<>() {
-                    }
-            );
+        try (ParserResources resources = ParserResources.acquire();
+             JsonParser parser = objectMapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Json 파싱 실패");
+            }
+
+            RecordBatcher batcher = new RecordBatcher(sink, resources.batch());
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                RecordBatch batch = batcher.row();
+                readRecord(parser, batch, query);
+                if (!query.matches(batch, batch.size() - 1)) {
+                    batcher.discard();
+                }
+            }
+
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Json 파싱 실패");
+            }
+            batcher.complete();
         } catch (IOException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Json 파싱 실패");
         }
@@ -45,4 +63,37 @@ public class JsonDataParser implements DataParser {
     public FileType getSupportedFileType() {
         return FileType.JSON;
     }
+
+    /**
+     * START_OBJECT 에 위치한 parser 에서 객체 하나를 읽어 현재 행에 쓰고 END_OBJECT 에서 멈춘다.
+     * (Jackson 의 기본 Map 바인딩과 같은 값: 정수는 int/long 범위를 넘으면 BigInteger, 중첩은 LinkedHashMap/ArrayList)
+     * query 가 읽지 않는 필드는 값을 만들지 않고 건너뛴다.
+     */
+    private void readRecord(JsonParser parser, RecordBatch batch, RecordQuery query) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            if (!query.reads(name)) {
+                parser.nextToken();
+                parser.skipChildren();
+                continue;
+            }
+            int column = batch.column(name);
+
+            switch (parser.nextToken()) {
+                case VALUE_STRING -> batch.putString(column, parser.getText());
+                case VALUE_NUMBER_INT -> {
+                    if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                        batch.putValue(column, parser.getBigIntegerValue());
+                    } else {
+                        batch.putLong(column, parser.getLongValue());
+                    }
+                }
+                case VALUE_NUMBER_FLOAT -> batch.putDouble(column, parser.getDoubleValue());
+                case VALUE_TRUE -> batch.putBoolean(column, true);
+                case VALUE_FALSE -> batch.putBoolean(column, false);
+                case VALUE_NULL -> batch.putNull(column);
+                default -> batch.putValue(column, objectMapper.readValue(parser, Object.class));
+            }
+        }
+    }
 }
@@ -0,0 +1,170 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
+import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.file.repository.FileRepository;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedDataRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * 청크 저장 이전 버전이 parsed_data_entity.data 에 파일 전체를 JSON 배열로 넣어 둔 결과를 parsed_record_chunk 로 옮긴다.
+ * - 시작할 때 data 컬럼이 남아 있으면 NOT NULL 을 풀어 새 행이 들어갈 수 있게 하고, 옮길 행이 있는지 기록한다.
+ * - 백그라운드로 한 행씩 옮기며(행마다 따로 커밋), 아직 옮기지 않은 행을 조회하면 그 자리에서 먼저 옮긴다.
+ * 모두 옮긴 뒤의 data 컬럼은 비어 있으므로 운영자가 지워도 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyParsedDataMigrationJob implements SmartInitializingSingleton {
+
+    static final String TABLE = "parsed_data_entity";
+    static final String COLUMN = "data";
+
+    static final String SELECT_PENDING_IDS =
+            "SELECT id FROM parsed_data_entity WHERE data IS NOT NULL AND id > ? ORDER BY id LIMIT ?";
+    static final String COUNT_PENDING = "SELECT COUNT(*) FROM parsed_data_entity WHERE data IS NOT NULL";
+    static final String IS_PENDING = "SELECT COUNT(*) FROM parsed_data_entity WHERE id = ? AND data IS NOT NULL";
+    static final String SELECT_FOR_UPDATE =
+            "SELECT file_id, data FROM parsed_data_entity WHERE id = ? AND data IS NOT NULL FOR UPDATE";
+    static final String DELETE = "DELETE FROM parsed_data_entity WHERE id = ?";
+
+    private static final RowMapper<LegacyRow> ROW_MAPPER =
+            (rs, rowNum) -> new LegacyRow(rs.getLong("file_id"), rs.getString("data"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DataParsingService dataParsingService;
+    private final ParsedDataRepository parsedDataRepository;
+    private final SensorIndexService sensorIndexService;
+    private final FileRepository fileRepository;
+
+    // 조회 시 변환은 켜고 끌 수 없다. 이 설정은 백그라운드 작업만 멈춘다.
+    @Value("${parse.store.legacy-migration.enabled:true}")
+    private boolean enabled = true;
+
+    // 백그라운드 작업이 한 번에 읽는 행 id 수
+    @Value("${parse.store.legacy-migration.batch-size:100}")
+    private int batchSize = 100;
+
+    // 옮길 행이 남아 있는지. false 면 조회 경로에서 추가 쿼리를 하지 않는다.
+    private volatile boolean pending;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Boolean nullable = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean upper = metaData.storesUpperCaseIdentifiers();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null,
+                    upper ? TABLE.toUpperCase() : TABLE, upper ? COLUMN.toUpperCase() : COLUMN)) {
+                return columns.next() ? columns.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls : null;
+            }
+        });
+        if (nullable == null) {
+            return;
+        }
+        if (!nullable) {
+            // 이전 버전의 컬럼(MariaDB json). 새 행은 이 컬럼을 채우지 않는다.
+            jdbcTemplate.execute("ALTER TABLE parsed_data_entity MODIFY COLUMN data JSON NULL");
+        }
+        Long count = jdbcTemplate.queryForObject(COUNT_PENDING, Long.class);
+        pending = count != null && count > 0;
+        if (pending) {
+            log.info("청크로 옮길 기존 파싱 결과: {}건", count);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${parse.store.legacy-migration.initial-delay-ms:30000}",
+            fixedDelayString = "${parse.store.legacy-migration.interval-ms:600000}")
+    public void run() {
+        if (!enabled || !pending) {
+            return;
+        }
+        long migrated = migrate();
+        if (migrated > 0) {
+            log.info("기존 파싱 결과 청크 변환 완료: {}건", migrated);
+        }
+    }
+
+    /**
+     * 남은 행을 모두 옮긴다. 변환에 실패한 행은 로그를 남기고 건너뛰며, 다음 실행에서 다시 시도한다.
+     *
+     * @return 옮긴 행 수
+     */
+    public long migrate() {
+        long migrated = 0;
+        long afterId = 0;
+        List<Long> ids;
+        while (!(ids = jdbcTemplate.queryForList(SELECT_PENDING_IDS, Long.class, afterId, batchSize)).isEmpty()) {
+            for (Long id : ids) {
+                try {
+                    if (migrateRow(id)) {
+                        migrated++;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("기존 파싱 결과 청크 변환 실패: id={}", id, e);
+                }
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+        Long remaining = jdbcTemplate.queryForObject(COUNT_PENDING, Long.class);
+        pending = remaining != null && remaining > 0;
+        return migrated;
+    }
+
+    /**
+     * 조회 경로에서 부른다. 아직 data 컬럼에 있는 결과면 청크로 옮긴다.
+     *
+     * @return 옮겼으면 true. 호출자는 새로 저장된 결과를 다시 읽어야 한다.
+     */
+    public boolean migrateIfLegacy(Long parsedDataId) {
+        if (!pending) {
+            return false;
+        }
+        Long count = jdbcTemplate.queryForObject(IS_PENDING, Long.class, parsedDataId);
+        return count != null && count > 0 && migrateRow(parsedDataId);
+    }
+
+    /**
+     * 한 행을 잠그고 JSON 배열을 다시 파싱해 청크로 저장한 뒤, 옛 행을 새 요약 행으로 바꾼다. 이미 옮겨졌으면 false.
+     */
+    boolean migrateRow(Long parsedDataId) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            List<LegacyRow> rows = jdbcTemplate.query(SELECT_FOR_UPDATE, ROW_MAPPER, parsedDataId);
+            if (rows.isEmpty()) {
+                return false;
+            }
+            LegacyRow row = rows.getFirst();
+            FileEntity file = fileRepository.findById(row.fileId())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found: " + row.fileId()));
+
+            // 저장된 값은 파서가 만든 레코드 목록을 직렬화한 JSON 배열이므로 원본 형식과 관계없이 JSON 으로 읽는다.
+            ParsedDataEntity parsedData = dataParsingService.parseToEntity(FileType.JSON,
+                    new ByteArrayInputStream(row.data().getBytes(StandardCharsets.UTF_8)), file);
+            jdbcTemplate.update(DELETE, parsedDataId);
+            parsedDataRepository.save(parsedData);
+            sensorIndexService.index(parsedData);
+            return true;
+        }));
+    }
+
+    record LegacyRow(Long fileId, String data) {
+    }
+}
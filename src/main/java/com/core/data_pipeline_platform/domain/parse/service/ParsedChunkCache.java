@@ -0,0 +1,115 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 역직렬화한 청크(레코드 목록)를 (fileId, firstRecord) 로 보관하는 캐시.
+ *
+ * - 추정한 힙 크기(바이트)의 합이 maxSize 를 넘지 않도록 자주 쓰이지 않는 청크부터 내보낸다.
+ * - 같은 청크를 동시에 요청하면 먼저 온 요청 하나만 읽고 나머지는 그 결과를 기다린다.
+ *   로딩은 요청한 스레드에서 하며, 실패하면 캐시에 남기지 않는다.
+ * - 적중/실패/제거 통계는 actuator 의 cache.* 메트릭(cache=parsed.chunks)으로 노출된다.
+ */
+@Component
+public class ParsedChunkCache {
+
+    static final String CACHE_NAME = "parsed.chunks";
+
+    // 추정 크기: Jackson 이 만든 LinkedHashMap/엔트리/값 객체. 키 문자열은 Jackson 이 intern 해 레코드 간에 공유된다.
+    private static final int LIST_OVERHEAD = 40;
+    private static final int MAP_OVERHEAD = 80;
+    private static final int ENTRY_OVERHEAD = 40;
+    private static final int STRING_OVERHEAD = 40;
+    private static final int BOXED_SIZE = 24;
+
+    private final AsyncCache<ChunkKey, List<Map<String, Object>>> cache;
+
+    public ParsedChunkCache(MeterRegistry meterRegistry,
+                            @Value("${parse.cache.max-size:256MB}") DataSize maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((ChunkKey key, List<Map<String, Object>> records) -> estimateSize(records))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 청크를 돌려주고, 없으면 loader 로 읽어 넣는다.
+     */
+    public List<Map<String, Object>> get(Long fileId, long firstRecord, Supplier<List<Map<String, Object>>> loader) {
+        CompletableFuture<List<Map<String, Object>>> created = new CompletableFuture<>();
+        CompletableFuture<List<Map<String, Object>>> future =
+                cache.get(new ChunkKey(fileId, firstRecord), (key, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(loader.get());
+            } catch (RuntimeException | Error e) {
+                created.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 파일의 청크를 모두 버린다. (삭제, 재파싱)
+     */
+    public void invalidateFile(Long fileId) {
+        cache.asMap().keySet().removeIf(key -> key.fileId().equals(fileId));
+    }
+
+    static int estimateSize(List<Map<String, Object>> records) {
+        long size = LIST_OVERHEAD + (long) Integer.BYTES * records.size();
+        for (Map<String, Object> record : records) {
+            size += estimateValue(record);
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    private static long estimateValue(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            return STRING_OVERHEAD + string.length();
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = MAP_OVERHEAD;
+            for (Object nested : map.values()) {
+                size += ENTRY_OVERHEAD + estimateValue(nested);
+            }
+            return size;
+        }
+        if (value instanceof List<?> list) {
+            long size = LIST_OVERHEAD + (long) Integer.BYTES * list.size();
+            for (Object nested : list) {
+                size += estimateValue(nested);
+            }
+            return size;
+        }
+        return BOXED_SIZE;
+    }
+
+    private record ChunkKey(Long fileId, long firstRecord) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import com.core.data_pipeline_platform.domain.parse.enums.ChunkEncoding;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedRecordChunkJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * parse.store.encoding 이 DEFLATE 일 때, 그 전에 JSON 으로 저장된 청크를 배치 단위로 압축해 옮기는 백그라운드 작업.
+ * 배치마다 따로 커밋되며, 옮겨진 행은 조회 조건에서 빠지므로 중간에 멈춰도 다음 실행이 이어서 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParsedChunkMigrationJob {
+
+    private final ParsedRecordChunkJdbcRepository chunkJdbcRepository;
+
+    @Value("${parse.store.encoding:JSON}")
+    private ChunkEncoding encoding = ChunkEncoding.JSON;
+
+    @Value("${parse.store.migration.enabled:true}")
+    private boolean enabled = true;
+
+    // 한 번에 읽어 압축하는 청크 수 (청크 하나가 파싱 배치 하나)
+    @Value("${parse.store.migration.batch-size:100}")
+    private int batchSize = 100;
+
+    @Scheduled(initialDelayString = "${parse.store.migration.initial-delay-ms:30000}",
+            fixedDelayString = "${parse.store.migration.interval-ms:600000}")
+    public void run() {
+        if (!enabled || encoding != ChunkEncoding.DEFLATE) {
+            return;
+        }
+        long migrated = migrate();
+        if (migrated > 0) {
+            log.info("청크 압축 마이그레이션 완료: {}건", migrated);
+        }
+    }
+
+    /**
+     * 남은 JSON 청크를 모두 압축한다.
+     *
+     * @return 압축으로 바뀐 청크 수
+     */
+    public long migrate() {
+        long migrated = 0;
+        long afterId = 0;
+        List<ParsedRecordChunkEntity> chunks;
+        while (!(chunks = chunkJdbcRepository.findJsonChunks(afterId, batchSize)).isEmpty()) {
+            List<ParsedRecordChunkEntity> deflated = new ArrayList<>(chunks.size());
+            for (ParsedRecordChunkEntity chunk : chunks) {
+                deflated.add(ParsedRecordChunkEntity.builder()
+                        .id(chunk.getId())
+                        .encoding(ChunkEncoding.DEFLATE)
+                        .data("")
+                        .payload(ChunkCodec.deflate(chunk.getData()))
+                        .build());
+            }
+            migrated += chunkJdbcRepository.updateEncoded(deflated);
+            afterId = chunks.get(chunks.size() - 1).getId();
+        }
+        return migrated;
+    }
+}
@@ -0,0 +1,147 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.parse.dto.AggregationGroup;
+import com.core.data_pipeline_platform.domain.parse.dto.AggregationResponse;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import com.core.data_pipeline_platform.domain.parse.enums.AggregationGroupBy;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedRecordChunkJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 파일의 레코드를 서버에서 집계한다. 레코드를 Map 으로 만들거나 클라이언트로 보내지 않는다.
+ *
+ * 저장된 청크를 순서대로 읽는 스레드 하나가 청크를 작업으로 넘기면, 작업은 청크를 컬럼형 배치로 파싱해
+ * 워커 수만큼 둔 RecordAggregator 중 쉬고 있는 것에 누적한다. 끝나면 집계기들을 하나로 합친다.
+ * 동시에 메모리에 올라가는 청크는 워커 수의 두 배로 제한된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ParsedDataAggregationService {
+
+    private final ParsedDataService parsedDataService;
+    private final ParsedRecordChunkJdbcRepository chunkJdbcRepository;
+    private final JsonDataParser jsonDataParser;
+
+    // 집계 워커 수. 0 이면 CPU 코어 수
+    @Value("${parse.aggregate.parallelism:0}")
+    private int parallelism = 0;
+
+    // 결과 그룹 수 상한 (sensorId × status × 시간 구간)
+    @Value("${parse.aggregate.max-groups:100000}")
+    private int maxGroups = 100_000;
+
+    /**
+     * groupBy 별, interval 이 있으면 timestamp 의 시간 구간별로 레코드 수와 value 의 합/최소/최대/평균을 계산한다.
+     */
+    public AggregationResponse aggregate(Long fileId, Collection<AggregationGroupBy> groupBy, Duration interval) {
+        long intervalMicros = toMicros(interval);
+        Set<AggregationGroupBy> keys = groupBy == null || groupBy.isEmpty()
+                ? EnumSet.noneOf(AggregationGroupBy.class)
+                : EnumSet.copyOf(groupBy);
+        ParsedDataEntity parsedData = parsedDataService.getParsedDataByFileId(fileId);
+
+        // 다른 파일의 파싱 결과에 연결된 파일이면 청크는 그 파일의 id 로 저장되어 있다.
+        RecordAggregator result = aggregateChunks(parsedData.getFile().getId(), keys, intervalMicros);
+        List<AggregationGroup> groups = result.groups();
+
+        return AggregationResponse.builder()
+                .fileId(fileId)
+                .groupBy(keys)
+                .interval(interval != null ? interval.toString() : null)
+                .recordCount(result.getRecordCount())
+                .groupCount(groups.size())
+                .groups(groups)
+                .build();
+    }
+
+    private RecordAggregator aggregateChunks(Long fileId, Set<AggregationGroupBy> keys, long intervalMicros) {
+        int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        BlockingQueue<RecordAggregator> idle = new ArrayBlockingQueue<>(workers);
+        for (int i = 0; i < workers; i++) {
+            idle.add(new RecordAggregator(keys.contains(AggregationGroupBy.SENSOR_ID),
+                    keys.contains(AggregationGroupBy.STATUS), intervalMicros, maxGroups));
+        }
+        Semaphore inFlight = new Semaphore(workers * 2);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            chunkJdbcRepository.forEachChunk(fileId, chunk -> {
+                throwIfFailed(failure);
+                inFlight.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        RecordAggregator aggregator = idle.take();
+                        try {
+                            jsonDataParser.parse(FileType.JSON, open(chunk), aggregator);
+                        } finally {
+                            idle.add(aggregator);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        failure.compareAndSet(null, new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "집계 중단"));
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            });
+        }
+        throwIfFailed(failure);
+
+        List<RecordAggregator> aggregators = new ArrayList<>(idle);
+        RecordAggregator result = aggregators.getFirst();
+        for (RecordAggregator aggregator : aggregators.subList(1, aggregators.size())) {
+            result.merge(aggregator);
+        }
+        return result;
+    }
+
+    private static InputStream open(ParsedRecordChunkEntity chunk) {
+        if (chunk.isDeflated()) {
+            return ChunkCodec.inflate(chunk.getPayload());
+        }
+        return new ByteArrayInputStream(chunk.getData().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long toMicros(Duration interval) {
+        if (interval == null) {
+            return 0;
+        }
+        long micros = TimeUnit.MICROSECONDS.convert(interval);
+        if (micros < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "interval 은 1 마이크로초 이상이어야 합니다.");
+        }
+        return micros;
+    }
+
+    private static void throwIfFailed(AtomicReference<RuntimeException> failure) {
+        RuntimeException e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+}
@@ -1,16 +1,35 @@
 package com.core.data_pipeline_platform.domain.parse.service;
 
+import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
+import com.core.data_pipeline_platform.domain.file.repository.FileRepository;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedDataStatsResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedDataSummary;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedRecordsResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.RecordCursor;
 import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import com.core.data_pipeline_platform.domain.parse.enums.RecordStreamFormat;
 import com.core.data_pipeline_platform.domain.parse.repository.ParsedDataRepository;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedRecordChunkJdbcRepository;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedRecordChunkRepository;
+import com.core.data_pipeline_platform.domain.parse.repository.SensorRecordRangeJdbcRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -18,43 +37,186 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ParsedDataService {
 
+    private static final TypeReference<List<Map<String, Object>>> RECORDS_TYPE = new TypeReference<>() {};
+
+    // 레코드 범위 조회 한 번의 최대 레코드 수
+    public static final int MAX_RECORDS_LIMIT = 10_000;
+
     private final ParsedDataRepository parsedDataRepository;
+    private final ParsedRecordChunkRepository parsedRecordChunkRepository;
+    private final ParsedRecordChunkJdbcRepository parsedRecordChunkJdbcRepository;
+    private final SensorRecordRangeJdbcRepository sensorRecordRangeJdbcRepository;
+    private final FileRepository fileRepository;
+    private final ParsedChunkCache chunkCache;
     private final ObjectMapper objectMapper;
+    private final LegacyParsedDataMigrationJob legacyMigrationJob;
 
     /**
-     * 모든 파싱된 데이터 조회 (페이징)
+     * 모든 파싱된 데이터의 메타데이터 조회 (페이징)
      */
-    public Page<ParsedDataEntity> getAllParsedData(Pageable pageable) {
-        return parsedDataRepository.findAll(pageable);
+    public Page<ParsedDataSummary> getAllParsedData(Pageable pageable) {
+        return parsedDataRepository.findAllSummaries(pageable);
     }
 
     /**
-     * 파일 ID로 파싱된 데이터 조회
+     * 파일 ID로 파싱된 데이터 조회. 내용이 같은 파일에 연결된 파일이면 원본 파일의 결과를 돌려준다.
+     * 청크는 결과의 file id 로 저장되어 있으므로 레코드는 getFile().getId() 로 읽는다.
+     * 청크 저장 이전 버전의 결과(data 컬럼)면 먼저 청크로 옮긴 뒤 새 결과를 돌려준다.
      */
     public ParsedDataEntity getParsedDataByFileId(Long fileId) {
+        ParsedDataEntity parsedData = findParsedData(fileId);
+        if (legacyMigrationJob.migrateIfLegacy(parsedData.getId())) {
+            return findParsedData(fileId);
+        }
+        return parsedData;
+    }
+
+    private ParsedDataEntity findParsedData(Long fileId) {
         return parsedDataRepository.findByFileId(fileId)
+            .or(() -> fileRepository.findById(fileId)
+                .map(FileEntity::getSourceFileId)
+                .flatMap(parsedDataRepository::findByFileId))
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "파싱된 데이터를 찾을 수 없습니다."));
     }
 
     /**
-     * 파싱된 데이터의 JSON 데이터를 List<Map>으로 변환하여 반환
+     * 응답에 쓸 요청한 파일. 연결된 파일이면 결과의 파일(원본)이 아니라 요청한 파일의 id, 이름, 상태를 보여준다.
      */
-    public List<Map<String, Object>> getParsedDataAsMap(Long fileId) {
+    public FileEntity getRequestedFile(Long fileId, ParsedDataEntity parsedData) {
+        if (parsedData.getFile().getId().equals(fileId)) {
+            return parsedData.getFile();
+        }
+        return fileRepository.findById(fileId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found: " + fileId));
+    }
+
+    /**
+     * 파싱할 때 함께 계산해 저장한 파일 통계 조회. 레코드 청크는 읽지 않는다.
+     */
+    public ParsedDataStatsResponse getStats(Long fileId) {
         ParsedDataEntity parsedData = getParsedDataByFileId(fileId);
-        
+        return ParsedDataStatsResponse.from(getRequestedFile(fileId, parsedData), parsedData);
+    }
+
+    /**
+     * 파일의 레코드를 페이지 단위로 조회. 페이지와 겹치는 청크만 읽어 역직렬화한다.
+     */
+    public Page<Map<String, Object>> getParsedDataAsMap(Long fileId, Pageable pageable) {
+        ParsedDataEntity parsedData = getParsedDataByFileId(fileId);
+        List<Map<String, Object>> records = readRange(parsedData.getFile().getId(), pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(records, pageable, parsedData.getRecordCount());
+    }
+
+    /**
+     * 파일의 offset 번째부터 limit 개 레코드를 조회. 레코드 번호로 청크를 바로 찾으므로 깊은 위치도 limit 에 비례하는 비용이다.
+     */
+    public ParsedRecordsResponse getRecords(Long fileId, long offset, int limit) {
+        if (offset < 0 || limit < 1 || limit > MAX_RECORDS_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "offset 은 0 이상, limit 은 1~" + MAX_RECORDS_LIMIT + " 이어야 합니다.");
+        }
+        ParsedDataEntity parsedData = getParsedDataByFileId(fileId);
+        return ParsedRecordsResponse.of(fileId, parsedData, offset, readRange(parsedData.getFile().getId(), offset, limit));
+    }
+
+    /**
+     * 이전 응답의 nextCursor 다음부터 limit 개 레코드를 조회
+     */
+    public ParsedRecordsResponse getRecordsAfter(Long fileId, String cursor, int limit) {
+        return getRecords(fileId, RecordCursor.decode(fileId, cursor), limit);
+    }
+
+    /**
+     * [start, start + limit) 와 겹치는 청크만 골라 범위 밖 레코드는 잘라낸다.
+     * 청크 위치만 조회한 뒤 역직렬화된 청크는 캐시에서 꺼내고, 없을 때만 본문을 읽는다.
+     */
+    private List<Map<String, Object>> readRange(Long fileId, long start, int limit) {
+        long end = start + limit;
+        List<Map<String, Object>> records = new ArrayList<>(limit);
+
         try {
-            return objectMapper.readValue(parsedData.getData(), new TypeReference<>() {});
+            for (Long firstRecord : parsedRecordChunkRepository.findOverlappingFirstRecords(fileId, start, end)) {
+                List<Map<String, Object>> chunkRecords = chunkCache.get(fileId, firstRecord, () -> loadChunk(fileId, firstRecord));
+                int from = (int) Math.max(0, start - firstRecord);
+                int to = (int) Math.min(chunkRecords.size(), end - firstRecord);
+                if (from < to) {
+                    records.addAll(chunkRecords.subList(from, to));
+                }
+            }
+        } catch (ResponseStatusException e) {
+            // 조회 뒤 지워진 청크(NOT_FOUND) 등은 상태를 그대로 전달
+            throw e;
         } catch (Exception e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "데이터 변환 실패");
         }
+        return records;
+    }
+
+    /**
+     * 파일의 모든 레코드를 저장된 청크에서 바로 out 에 쓴다. 레코드를 모으지 않으므로 파일 크기와 무관한 메모리로 응답한다.
+     *
+     * @return 쓴 레코드 수
+     */
+    public long writeRecords(Long fileId, RecordStreamFormat format, OutputStream out) throws IOException {
+        ParsedRecordStreamer streamer = new ParsedRecordStreamer(objectMapper, format, out);
+        streamer.start();
+        parsedRecordChunkJdbcRepository.forEachChunk(fileId, streamer);
+        return streamer.finish();
+    }
+
+    private List<Map<String, Object>> loadChunk(Long fileId, long firstRecord) {
+        ParsedRecordChunkEntity chunk = parsedRecordChunkRepository.findByFileIdAndFirstRecord(fileId, firstRecord)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "파싱된 데이터를 찾을 수 없습니다."));
+        try {
+            return readRecords(chunk);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 청크 인코딩에 맞게 본문을 읽는다. 압축된 청크는 문자열로 풀지 않고 스트림으로 바로 역직렬화한다.
+     */
+    private List<Map<String, Object>> readRecords(ParsedRecordChunkEntity chunk) throws IOException {
+        if (chunk.isDeflated()) {
+            return objectMapper.readValue(ChunkCodec.inflate(chunk.getPayload()), RECORDS_TYPE);
+        }
+        return objectMapper.readValue(chunk.getData(), RECORDS_TYPE);
     }
 
     /**
-     * 파싱된 데이터 삭제
+     * 파싱된 데이터 삭제 (청크, 센서 역색인 항목 포함)
+     * 다른 파일이 이 결과에 연결되어 있으면 그 파일들의 조회가 깨지므로 지우지 않는다.
+     * 캐시는 커밋 뒤에 비운다. 커밋 전에 비우면 동시에 읽은 요청이 지워질 청크를 다시 넣을 수 있다.
      */
+    @Transactional
     public void deleteParsedData(Long fileId) {
         ParsedDataEntity parsedData = getParsedDataByFileId(fileId);
+        if (!parsedData.getFile().getId().equals(fileId)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "다른 파일과 함께 쓰는 파싱 결과입니다. 원본 파일(" + parsedData.getFile().getId() + ")에서 삭제하세요.");
+        }
+        if (fileRepository.existsBySourceFileId(fileId)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "같은 내용으로 올린 다른 파일이 이 파싱 결과를 함께 쓰고 있어 삭제할 수 없습니다.");
+        }
+        parsedRecordChunkRepository.deleteByFileId(fileId);
+        sensorRecordRangeJdbcRepository.deleteByFileId(fileId);
         parsedDataRepository.delete(parsedData);
+        invalidateCacheAfterCommit(fileId);
+    }
+
+    private void invalidateCacheAfterCommit(Long fileId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            chunkCache.invalidateFile(fileId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                chunkCache.invalidateFile(fileId);
+            }
+        });
     }
 
     /**
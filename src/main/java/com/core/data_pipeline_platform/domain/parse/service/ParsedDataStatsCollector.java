@@ -0,0 +1,224 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataStats;
+import com.core.data_pipeline_platform.domain.parse.model.ColumnType;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import com.core.data_pipeline_platform.domain.parse.model.SensorBloomFilter;
+import com.core.data_pipeline_platform.domain.parse.model.SensorFields;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 파싱 중 배치를 저장하기 전에 넘겨받아 파일 통계를 누적한다. 레코드를 Map 으로 만들지 않는다.
+ *
+ * - value, timestamp: SensorColumns 로 원시 배열에 읽는다. 숫자/시각으로 읽을 수 없는 값은 건너뛴다.
+ *   마지막 배치의 timestamp 범위는 청크 시간 인덱스용으로 따로 남긴다.
+ * - sensorId: 서로 다른 값을 maxTrackedSensors 개까지 센다. 넘으면 그 수를 하한으로 남긴다.
+ *   끝나면 센 값으로 Bloom filter 를 만든다. (상한을 넘으면 만들지 않는다)
+ * - status: 배치 안에서는 사전 코드별로 세고, 배치가 끝날 때 값별 합계에 더한다.
+ */
+final class ParsedDataStatsCollector {
+
+    static final int DEFAULT_MAX_TRACKED_SENSORS = 100_000;
+    // sensorId Bloom filter 의 오탐률 (센서당 약 10비트)
+    static final double SENSOR_BLOOM_FALSE_POSITIVE_RATE = 0.01;
+
+    private final int maxTrackedSensors;
+
+    private long valueCount;
+    private double valueMin = Double.POSITIVE_INFINITY;
+    private double valueMax = Double.NEGATIVE_INFINITY;
+    private double valueSum;
+
+    private long timestampCount;
+    private long timestampMin = Long.MAX_VALUE;
+    private long timestampMax = Long.MIN_VALUE;
+    // 마지막 accept 한 배치의 범위. 시각이 없으면 min > max
+    private long batchTimestampMin;
+    private long batchTimestampMax;
+
+    private boolean sensorSeen;
+    private final Set<String> sensors = new HashSet<>();
+    private boolean sensorOverflow;
+
+    private boolean statusSeen;
+    private final TreeMap<String, Long> statusCounts = new TreeMap<>();
+
+    // 행별/사전 코드별 임시 값. 배치마다 덮어쓴다.
+    private double[] values;
+    private long[] timestamps;
+    private long[] codeCounts = new long[16];
+
+    ParsedDataStatsCollector() {
+        this(DEFAULT_MAX_TRACKED_SENSORS);
+    }
+
+    ParsedDataStatsCollector(int maxTrackedSensors) {
+        this.maxTrackedSensors = maxTrackedSensors;
+    }
+
+    void accept(RecordBatch batch) {
+        batchTimestampMin = Long.MAX_VALUE;
+        batchTimestampMax = Long.MIN_VALUE;
+        int column = batch.columnIndex(SensorFields.VALUE);
+        if (column >= 0 && batch.columnType(column) != null) {
+            acceptValues(batch, column);
+        }
+        column = batch.columnIndex(SensorFields.TIMESTAMP);
+        if (column >= 0 && batch.columnType(column) != null) {
+            acceptTimestamps(batch, column);
+        }
+        column = batch.columnIndex(SensorFields.SENSOR_ID);
+        if (column >= 0 && batch.columnType(column) != null) {
+            sensorSeen = true;
+            acceptSensors(batch, column);
+        }
+        column = batch.columnIndex(SensorFields.STATUS);
+        if (column >= 0 && batch.columnType(column) != null) {
+            statusSeen = true;
+            acceptStatuses(batch, column);
+        }
+    }
+
+    /**
+     * 마지막 accept 한 배치의 timestamp 최솟값 (UTC epoch 마이크로초). 시각이 없으면 null
+     */
+    Long batchTimestampMin() {
+        return batchTimestampMin <= batchTimestampMax ? batchTimestampMin : null;
+    }
+
+    Long batchTimestampMax() {
+        return batchTimestampMin <= batchTimestampMax ? batchTimestampMax : null;
+    }
+
+    ParsedDataStats toStats() {
+        boolean hasValue = valueCount > 0;
+        boolean hasTimestamp = timestampMin <= timestampMax;
+        return ParsedDataStats.builder()
+                .valueCount(valueCount)
+                .valueMin(hasValue ? valueMin : null)
+                .valueMax(hasValue ? valueMax : null)
+                .valueSum(hasValue ? valueSum : null)
+                .timestampCount(timestampCount)
+                .timestampMin(hasTimestamp ? timestampMin : null)
+                .timestampMax(hasTimestamp ? timestampMax : null)
+                .sensorCount(sensorSeen ? sensors.size() : null)
+                .sensorCountExact(sensorSeen ? !sensorOverflow : null)
+                .sensorBloom(sensorSeen && !sensorOverflow ? sensorBloom() : null)
+                .statusCounts(statusSeen ? statusCounts : null)
+                .build();
+    }
+
+    private byte[] sensorBloom() {
+        SensorBloomFilter filter = SensorBloomFilter.create(sensors.size(), SENSOR_BLOOM_FALSE_POSITIVE_RATE);
+        for (String sensor : sensors) {
+            filter.add(sensor);
+        }
+        return filter.toBytes();
+    }
+
+    private void acceptValues(RecordBatch batch, int column) {
+        values = SensorColumns.values(batch, column, values);
+        for (int row = 0, size = batch.size(); row < size; row++) {
+            addValue(values[row]);
+        }
+    }
+
+    private void acceptTimestamps(RecordBatch batch, int column) {
+        timestamps = SensorColumns.timestamps(batch, column, timestamps);
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int row = 0, size = batch.size(); row < size; row++) {
+            long epochMicros = timestamps[row];
+            if (epochMicros == EpochMicros.NONE) {
+                continue;
+            }
+            timestampCount++;
+            if (epochMicros < min) {
+                min = epochMicros;
+            }
+            if (epochMicros > max) {
+                max = epochMicros;
+            }
+        }
+        batchTimestampMin = min;
+        batchTimestampMax = max;
+        if (min <= max) {
+            timestampMin = Math.min(timestampMin, min);
+            timestampMax = Math.max(timestampMax, max);
+        }
+    }
+
+    private void acceptSensors(RecordBatch batch, int column) {
+        if (batch.columnType(column) == ColumnType.STRING) {
+            // 사전에는 이 배치에 실제로 나온 값만 들어 있다.
+            int dictionarySize = batch.dictionarySize(column);
+            for (int code = 0; code < dictionarySize; code++) {
+                addSensor(batch.dictionaryValue(column, code));
+            }
+            return;
+        }
+        for (int row = 0; row < batch.size(); row++) {
+            Object value = batch.getValue(column, row);
+            if (value != null) {
+                addSensor(String.valueOf(value));
+            }
+        }
+    }
+
+    private void acceptStatuses(RecordBatch batch, int column) {
+        int size = batch.size();
+        if (batch.columnType(column) == ColumnType.STRING) {
+            int dictionarySize = batch.dictionarySize(column);
+            codeCounts = ensure(codeCounts, dictionarySize);
+            Arrays.fill(codeCounts, 0, dictionarySize, 0);
+            for (int row = 0; row < size; row++) {
+                if (!batch.isNull(column, row)) {
+                    codeCounts[batch.getCode(column, row)]++;
+                }
+            }
+            for (int code = 0; code < dictionarySize; code++) {
+                if (codeCounts[code] > 0) {
+                    statusCounts.merge(batch.dictionaryValue(column, code), codeCounts[code], Long::sum);
+                }
+            }
+            return;
+        }
+        for (int row = 0; row < size; row++) {
+            Object value = batch.getValue(column, row);
+            if (value != null) {
+                statusCounts.merge(String.valueOf(value), 1L, Long::sum);
+            }
+        }
+    }
+
+    private void addValue(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        valueCount++;
+        valueSum += value;
+        if (value < valueMin) {
+            valueMin = value;
+        }
+        if (value > valueMax) {
+            valueMax = value;
+        }
+    }
+
+    private void addSensor(String sensorId) {
+        if (sensors.size() < maxTrackedSensors) {
+            sensors.add(sensorId);
+        } else if (!sensors.contains(sensorId)) {
+            sensorOverflow = true;
+        }
+    }
+
+    private static long[] ensure(long[] array, int size) {
+        return size <= array.length ? array : new long[Math.max(array.length * 2, size)];
+    }
+}
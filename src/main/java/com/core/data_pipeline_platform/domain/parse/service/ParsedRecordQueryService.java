@@ -0,0 +1,246 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
+import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.file.service.FileStorageService;
+import com.core.data_pipeline_platform.domain.parse.dto.CrossFileQueryResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.FileRecord;
+import com.core.data_pipeline_platform.domain.parse.dto.RecordQueryResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.TimeRangeResponse;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import com.core.data_pipeline_platform.domain.parse.model.RecordQuery;
+import com.core.data_pipeline_platform.domain.parse.model.SensorFields;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedDataRepository;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedRecordChunkJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 필터/프로젝션을 파서에 넘겨 읽으면서 적용한다. (RecordQuery)
+ *
+ * 업로드된 원본 파일이 남아 있으면 원본을 파일 타입의 파서로 다시 읽는다. CSV/BIN 파서는 읽지 않는 컬럼을 디코딩하지 않고,
+ * BIN 은 value 조건을 문자열 디코딩 전에 검사한다. 원본이 없으면 저장된 청크를 JSON 파서로 읽는다.
+ * limit 건을 채우면 더 읽지 않는다.
+ *
+ * 시간 범위 조회는 원본 대신 저장된 청크를 읽으며, 청크별 timestamp 범위(ChunkTimeIndex)로 겹치는 청크만 고른다.
+ * 파일 간 조회는 파일 통계(FilePruner)로 조건을 만족할 수 없는 파일을 읽지 않고 건너뛴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ParsedRecordQueryService {
+
+    // 파일 간 조회에서 한 번에 읽어 오는 파일(통계 포함) 수
+    private static final int FILE_PAGE_SIZE = 100;
+
+    private final ParsedDataService parsedDataService;
+    private final ParsedDataRepository parsedDataRepository;
+    private final ParsedRecordChunkJdbcRepository chunkJdbcRepository;
+    private final FileStorageService fileStorageService;
+    private final ParserFactory parserFactory;
+    private final JsonDataParser jsonDataParser;
+
+    /**
+     * @param fields  쉼표로 구분한 필드 이름. 비어 있으면 모든 필드
+     * @param filters "필드 연산자 값" 조건 (AND). 예) value>=10, status=ERROR
+     */
+    public RecordQueryResponse query(Long fileId, String fields, List<String> filters, int limit) {
+        validateLimit(limit);
+        RecordQuery query = parseQuery(fields, filters);
+        ParsedDataEntity parsedData = parsedDataService.getParsedDataByFileId(fileId);
+
+        Collector collector = new Collector(query, limit);
+        try {
+            scan(parsedData.getFile(), query, collector);
+        } catch (LimitReached e) {
+            // limit 건을 채웠으므로 읽기를 멈춘다.
+        }
+
+        return RecordQueryResponse.builder()
+                .fileId(fileId)
+                .fields(query.getFields())
+                .filters(query.getConditions().stream().map(RecordQuery.Condition::toString).toList())
+                .count(collector.records.size())
+                .truncated(collector.truncated)
+                .records(collector.records)
+                .build();
+    }
+
+    /**
+     * 모든 파일에서 조건에 맞는 레코드를 파일 id 순으로 조회한다. 파일 통계로 조건을 만족할 수 없는 파일은 읽지 않는다.
+     */
+    public CrossFileQueryResponse queryFiles(String fields, List<String> filters, int limit) {
+        validateLimit(limit);
+        RecordQuery query = parseQuery(fields, filters);
+
+        Collector collector = new Collector(query, limit);
+        List<FileRecord> records = new ArrayList<>();
+        int scannedFiles = 0;
+        int skippedFiles = 0;
+        try {
+            Pageable pageable = PageRequest.of(0, FILE_PAGE_SIZE, Sort.by("id"));
+            while (pageable != null) {
+                Slice<ParsedDataEntity> files = parsedDataRepository.findSliceBy(pageable);
+                for (ParsedDataEntity parsedData : files) {
+                    if (!FilePruner.mayMatch(parsedData, query)) {
+                        skippedFiles++;
+                        continue;
+                    }
+                    scannedFiles++;
+                    int start = collector.records.size();
+                    try {
+                        scan(parsedData.getFile(), query, collector);
+                    } finally {
+                        for (Map<String, Object> record : collector.records.subList(start, collector.records.size())) {
+                            records.add(FileRecord.builder().fileId(parsedData.getFile().getId()).record(record).build());
+                        }
+                    }
+                }
+                pageable = files.hasNext() ? files.nextPageable() : null;
+            }
+        } catch (LimitReached e) {
+            // limit 건을 채웠으므로 남은 파일은 읽지 않는다.
+        }
+
+        return CrossFileQueryResponse.builder()
+                .fields(query.getFields())
+                .filters(query.getConditions().stream().map(RecordQuery.Condition::toString).toList())
+                .scannedFiles(scannedFiles)
+                .skippedFiles(skippedFiles)
+                .count(records.size())
+                .truncated(collector.truncated)
+                .records(records)
+                .build();
+    }
+
+    /**
+     * timestamp 가 [from, to) 인 레코드를 레코드 순서대로 조회한다. from/to 는 ISO-8601 이며 오프셋이 없으면 UTC 로 본다.
+     */
+    public TimeRangeResponse queryTimeRange(Long fileId, String from, String to, String fields, int limit) {
+        validateLimit(limit);
+        long fromMicros = EpochMicros.parse(from);
+        long toMicros = EpochMicros.parse(to);
+        if (fromMicros == EpochMicros.NONE || toMicros == EpochMicros.NONE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from, to 는 ISO-8601 시각이어야 합니다.");
+        }
+        if (fromMicros >= toMicros) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from 은 to 보다 앞서야 합니다.");
+        }
+        RecordQuery query = parseQuery(fields, List.of(
+                SensorFields.TIMESTAMP + ">=" + EpochMicros.format(fromMicros),
+                SensorFields.TIMESTAMP + "<" + EpochMicros.format(toMicros)));
+        ParsedDataEntity parsedData = parsedDataService.getParsedDataByFileId(fileId);
+        // 다른 파일의 파싱 결과에 연결된 파일이면 청크는 그 파일의 id 로 저장되어 있다.
+        Long resultFileId = parsedData.getFile().getId();
+
+        ChunkTimeIndex index = ChunkTimeIndex.of(chunkJdbcRepository.findTimeIndex(resultFileId));
+        List<ChunkTimeIndex.Range> ranges = index.select(fromMicros, toMicros);
+        Collector collector = new Collector(query, limit);
+        int scannedChunks = 0;
+        try {
+            for (ChunkTimeIndex.Range range : ranges) {
+                scannedChunks += range.chunkCount();
+                chunkJdbcRepository.forEachChunk(resultFileId, range.fromRecord(), range.toRecord(),
+                        chunk -> jsonDataParser.parse(FileType.JSON, open(chunk), query, collector));
+            }
+        } catch (LimitReached e) {
+            // limit 건을 채웠으므로 남은 청크는 읽지 않는다.
+        }
+
+        return TimeRangeResponse.builder()
+                .fileId(fileId)
+                .from(EpochMicros.format(fromMicros))
+                .to(EpochMicros.format(toMicros))
+                .fields(query.getFields())
+                .chunkCount(index.size())
+                .scannedChunks(scannedChunks)
+                .count(collector.records.size())
+                .truncated(collector.truncated)
+                .records(collector.records)
+                .build();
+    }
+
+    private static void validateLimit(int limit) {
+        if (limit < 1 || limit > ParsedDataService.MAX_RECORDS_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "limit 은 1~" + ParsedDataService.MAX_RECORDS_LIMIT + " 이어야 합니다.");
+        }
+    }
+
+    private static RecordQuery parseQuery(String fields, List<String> filters) {
+        try {
+            return RecordQuery.parse(fields, filters);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private void scan(FileEntity file, RecordQuery query, RecordSink sink) {
+        Path path = fileStorageService.getStoredPath(file);
+        if (Files.isRegularFile(path)) {
+            FileType fileType = file.getFileType();
+            parserFactory.getParser(fileType).parse(fileType, path, query, sink);
+            return;
+        }
+        chunkJdbcRepository.forEachChunk(file.getId(),
+                chunk -> jsonDataParser.parse(FileType.JSON, open(chunk), query, sink));
+    }
+
+    private static InputStream open(ParsedRecordChunkEntity chunk) {
+        if (chunk.isDeflated()) {
+            return ChunkCodec.inflate(chunk.getPayload());
+        }
+        return new ByteArrayInputStream(chunk.getData().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 조건을 통과한 행에서 프로젝션 필드만 Map 으로 모은다. limit 을 넘는 행이 오면 LimitReached 로 파싱을 멈춘다.
+     */
+    private static final class Collector implements RecordSink {
+
+        private final RecordQuery query;
+        private final int limit;
+        private final List<Map<String, Object>> records = new ArrayList<>();
+        private boolean truncated;
+
+        private Collector(RecordQuery query, int limit) {
+            this.query = query;
+            this.limit = limit;
+        }
+
+        @Override
+        public void onBatch(RecordBatch batch) {
+            for (int row = 0; row < batch.size(); row++) {
+                if (records.size() == limit) {
+                    truncated = true;
+                    throw new LimitReached();
+                }
+                records.add(query.select(batch, row));
+            }
+        }
+    }
+
+    private static final class LimitReached extends RuntimeException {
+
+        private LimitReached() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import com.core.data_pipeline_platform.domain.parse.enums.RecordStreamFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 레코드 순서대로 넘겨받은 청크를 응답 스트림에 이어 쓴다. 한 번에 청크 하나만 다룬다.
+ *
+ * - JSON: 저장된 JSON 배열의 대괄호 안쪽을 역직렬화 없이 그대로 이어 붙여 하나의 배열로 만든다.
+ * - NDJSON: 레코드 경계를 알아야 하므로 토큰 단위로 복사하며 레코드마다 줄을 나눈다. (Map 으로 만들지 않는다)
+ */
+final class ParsedRecordStreamer implements Consumer<ParsedRecordChunkEntity> {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final RecordStreamFormat format;
+    private final Writer writer;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private JsonGenerator generator;
+    private long written;
+
+    ParsedRecordStreamer(ObjectMapper objectMapper, RecordStreamFormat format, OutputStream out) {
+        this.objectMapper = objectMapper;
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    void start() throws IOException {
+        if (format == RecordStreamFormat.JSON) {
+            writer.write('[');
+        } else {
+            generator = objectMapper.createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        }
+    }
+
+    @Override
+    public void accept(ParsedRecordChunkEntity chunk) {
+        if (chunk.getRecordCount() == 0) {
+            return;
+        }
+        try (Reader reader = open(chunk)) {
+            if (format == RecordStreamFormat.JSON) {
+                appendArrayBody(reader);
+            } else {
+                appendLines(reader);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        written += chunk.getRecordCount();
+    }
+
+    /**
+     * @return 쓴 레코드 수
+     */
+    long finish() throws IOException {
+        if (format == RecordStreamFormat.JSON) {
+            writer.write(']');
+        } else {
+            generator.flush();
+            if (written > 0) {
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+        return written;
+    }
+
+    private Reader open(ParsedRecordChunkEntity chunk) {
+        if (chunk.isDeflated()) {
+            return new InputStreamReader(ChunkCodec.inflate(chunk.getPayload()), StandardCharsets.UTF_8);
+        }
+        return new StringReader(chunk.getData());
+    }
+
+    /**
+     * "[a,b]" 에서 "a,b" 만 복사한다. 마지막 ']' 를 알아보기 위해 한 글자씩 늦게 쓴다.
+     */
+    private void appendArrayBody(Reader reader) throws IOException {
+        if (reader.read() != '[') {
+            throw new IOException("청크가 JSON 배열이 아닙니다.");
+        }
+        if (written > 0) {
+            writer.write(',');
+        }
+        int pending = -1;
+        int read;
+        while ((read = reader.read(buffer)) > 0) {
+            if (pending >= 0) {
+                writer.write(pending);
+            }
+            writer.write(buffer, 0, read - 1);
+            pending = buffer[read - 1];
+        }
+        if (pending != ']') {
+            throw new IOException("청크가 JSON 배열이 아닙니다.");
+        }
+    }
+
+    private void appendLines(Reader reader) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(reader)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("청크가 JSON 배열이 아닙니다.");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+    }
+}
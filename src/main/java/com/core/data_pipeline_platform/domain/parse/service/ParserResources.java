@@ -0,0 +1,113 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+
+import javax.xml.stream.XMLInputFactory;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 파일마다 새로 만들던 파서 작업 객체(배치, CSV 토크나이저/필드 변환기, 디코딩용 scratch 배열)를 재사용하는 풀.
+ *
+ * - acquire 로 빌리고 close 로 돌려준다. 빌린 동안에는 한 스레드만 사용한다.
+ * - 풀이 비어 있으면 새로 만들고, 가득 차 있으면 돌려받은 것을 버리므로 스레드 수와 무관하게 보관량이 제한된다.
+ * - 스레드 안전한 공유 객체(XMLInputFactory)는 상수로 둔다. JSON 은 Jackson 이 자체적으로 버퍼를 재활용한다.
+ */
+final class ParserResources implements AutoCloseable {
+
+    // 설정이 끝난 팩토리는 여러 스레드에서 reader 를 만들어도 안전하다.
+    static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private static final int MAX_POOLED = Runtime.getRuntime().availableProcessors() * 2;
+    private static final BlockingQueue<ParserResources> POOL = new ArrayBlockingQueue<>(MAX_POOLED);
+
+    // 이보다 큰 scratch 배열은 돌려받을 때 버린다.
+    private static final int MAX_RETAINED_SCRATCH = 1024 * 1024;
+
+    private final RecordBatch batch = new RecordBatch();
+    private final CsvFieldParser fieldParser = new CsvFieldParser();
+    private CsvTokenizer tokenizer;
+    private byte[] scratch = new byte[256];
+    private final int[][] intBlocks = new int[2][];
+    private long[] longBlock;
+
+    private ParserResources() {
+    }
+
+    static ParserResources acquire() {
+        ParserResources resources = POOL.poll();
+        return resources != null ? resources : new ParserResources();
+    }
+
+    /**
+     * 행과 컬럼 정의를 비운 배치. RecordBatcher 에 넘겨 쓴다.
+     */
+    RecordBatch batch() {
+        return batch;
+    }
+
+    CsvFieldParser fieldParser() {
+        return fieldParser;
+    }
+
+    /**
+     * 읽기 버퍼를 재사용해 in 을 처음부터 읽는 토크나이저.
+     */
+    CsvTokenizer tokenizer(InputStream in) {
+        if (tokenizer == null) {
+            tokenizer = new CsvTokenizer(in);
+        } else {
+            tokenizer.reset(in);
+        }
+        return tokenizer;
+    }
+
+    /**
+     * 길이 이상인 byte 배열. 내용은 보장하지 않는다.
+     */
+    byte[] scratch(int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        return scratch;
+    }
+
+    /**
+     * 컬럼 블록용 int 배열. slot 마다 다른 배열이다. (0, 1)
+     */
+    int[] intBlock(int slot, int capacity) {
+        if (intBlocks[slot] == null || intBlocks[slot].length < capacity) {
+            intBlocks[slot] = new int[capacity];
+        }
+        return intBlocks[slot];
+    }
+
+    long[] longBlock(int capacity) {
+        if (longBlock == null || longBlock.length < capacity) {
+            longBlock = new long[capacity];
+        }
+        return longBlock;
+    }
+
+    @Override
+    public void close() {
+        batch.reset();
+        if (tokenizer != null) {
+            // 다 읽은 입력을 붙잡고 있지 않도록 끊는다.
+            tokenizer.reset(null);
+        }
+        if (scratch.length > MAX_RETAINED_SCRATCH) {
+            scratch = new byte[256];
+        }
+        POOL.offer(this);
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // 외부 엔티티/DTD 차단 (XXE)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
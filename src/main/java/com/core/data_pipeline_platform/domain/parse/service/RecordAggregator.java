@@ -0,0 +1,280 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.dto.AggregationGroup;
+import com.core.data_pipeline_platform.domain.parse.model.ColumnType;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import com.core.data_pipeline_platform.domain.parse.model.SensorFields;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (sensorId, status, 시간 구간) 별 레코드 수와 value 의 합/최소/최대를 누적하는 집계기. 한 스레드에서만 쓴다.
+ *
+ * - 배치마다 그룹 키 컬럼과 value/timestamp 를 먼저 원시 배열로 풀고, 행 루프에서는 배열만 읽어 누적한다.
+ * - 문자열 키는 배치 사전 코드마다 한 번만 이 집계기 안의 정수 id 로 바꾼다.
+ * - 그룹은 정수 키 (sensorId id, status id, 구간 번호) 의 open addressing 해시로 찾고, 누적값은 그룹 번호로 인덱싱하는 원시 배열에 둔다.
+ * - 병렬 집계는 작업마다 집계기를 따로 두고 끝에 merge 한다.
+ */
+final class RecordAggregator implements RecordSink {
+
+    private static final int NO_KEY = -1;
+    private static final int INITIAL_GROUPS = 64;
+
+    private final boolean bySensor;
+    private final boolean byStatus;
+    // 0 이면 시간 구간으로 나누지 않는다.
+    private final long intervalMicros;
+    private final int maxGroups;
+
+    private final Keys sensors = new Keys();
+    private final Keys statuses = new Keys();
+    private long recordCount;
+
+    // 해시 슬롯: 그룹 번호 + 1 (0 은 빈 슬롯)
+    private int[] slots = new int[INITIAL_GROUPS * 2];
+    private int groupCount;
+    private int[] groupSensors = new int[INITIAL_GROUPS];
+    private int[] groupStatuses = new int[INITIAL_GROUPS];
+    private long[] groupBuckets = new long[INITIAL_GROUPS];
+    private long[] counts = new long[INITIAL_GROUPS];
+    private long[] valueCounts = new long[INITIAL_GROUPS];
+    private double[] sums = new double[INITIAL_GROUPS];
+    private double[] mins = new double[INITIAL_GROUPS];
+    private double[] maxs = new double[INITIAL_GROUPS];
+
+    // 행별 임시 값. 배치마다 덮어쓴다.
+    private int[] rowSensors = new int[16];
+    private int[] rowStatuses = new int[16];
+    private long[] rowTimestamps;
+    private double[] rowValues;
+
+    RecordAggregator(boolean bySensor, boolean byStatus, long intervalMicros, int maxGroups) {
+        this.bySensor = bySensor;
+        this.byStatus = byStatus;
+        this.intervalMicros = intervalMicros;
+        this.maxGroups = maxGroups;
+    }
+
+    @Override
+    public void onBatch(RecordBatch batch) {
+        int size = batch.size();
+        recordCount += size;
+        rowSensors = resolveKeys(batch, bySensor ? batch.columnIndex(SensorFields.SENSOR_ID) : -1, sensors, rowSensors);
+        rowStatuses = resolveKeys(batch, byStatus ? batch.columnIndex(SensorFields.STATUS) : -1, statuses, rowStatuses);
+        rowValues = SensorColumns.values(batch, batch.columnIndex(SensorFields.VALUE), rowValues);
+        if (intervalMicros > 0) {
+            rowTimestamps = SensorColumns.timestamps(batch, batch.columnIndex(SensorFields.TIMESTAMP), rowTimestamps);
+        }
+
+        int[] sensorKeys = rowSensors;
+        int[] statusKeys = rowStatuses;
+        double[] values = rowValues;
+        long[] timestamps = rowTimestamps;
+        for (int row = 0; row < size; row++) {
+            long bucket = 0;
+            if (intervalMicros > 0) {
+                if (timestamps[row] == EpochMicros.NONE) {
+                    continue;
+                }
+                bucket = Math.floorDiv(timestamps[row], intervalMicros);
+            }
+            int group = group(sensorKeys[row], statusKeys[row], bucket);
+            counts[group]++;
+            double value = values[row];
+            if (!Double.isNaN(value)) {
+                valueCounts[group]++;
+                sums[group] += value;
+                if (value < mins[group]) {
+                    mins[group] = value;
+                }
+                if (value > maxs[group]) {
+                    maxs[group] = value;
+                }
+            }
+        }
+    }
+
+    /**
+     * other 의 그룹을 이 집계기에 더한다. other 는 이후 쓰지 않는다.
+     */
+    void merge(RecordAggregator other) {
+        recordCount += other.recordCount;
+        for (int source = 0; source < other.groupCount; source++) {
+            int sensor = other.groupSensors[source] == NO_KEY
+                    ? NO_KEY : sensors.id(other.sensors.value(other.groupSensors[source]));
+            int status = other.groupStatuses[source] == NO_KEY
+                    ? NO_KEY : statuses.id(other.statuses.value(other.groupStatuses[source]));
+            int group = group(sensor, status, other.groupBuckets[source]);
+            counts[group] += other.counts[source];
+            valueCounts[group] += other.valueCounts[source];
+            sums[group] += other.sums[source];
+            mins[group] = Math.min(mins[group], other.mins[source]);
+            maxs[group] = Math.max(maxs[group], other.maxs[source]);
+        }
+    }
+
+    long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * 그룹을 (구간, sensorId, status) 순으로 정렬해 돌려준다.
+     */
+    List<AggregationGroup> groups() {
+        Comparator<String> nullsFirst = Comparator.nullsFirst(Comparator.naturalOrder());
+        Integer[] order = new Integer[groupCount];
+        for (int group = 0; group < groupCount; group++) {
+            order[group] = group;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingLong(group -> groupBuckets[group])
+                .thenComparing(group -> keyValue(sensors, groupSensors[group]), nullsFirst)
+                .thenComparing(group -> keyValue(statuses, groupStatuses[group]), nullsFirst));
+
+        List<AggregationGroup> groups = new ArrayList<>(groupCount);
+        for (int group : order) {
+            boolean hasValue = valueCounts[group] > 0;
+            groups.add(AggregationGroup.builder()
+                    .sensorId(keyValue(sensors, groupSensors[group]))
+                    .status(keyValue(statuses, groupStatuses[group]))
+                    .bucketStart(intervalMicros > 0 ? EpochMicros.format(groupBuckets[group] * intervalMicros) : null)
+                    .count(counts[group])
+                    .valueCount(valueCounts[group])
+                    .sum(hasValue ? sums[group] : null)
+                    .min(hasValue ? mins[group] : null)
+                    .max(hasValue ? maxs[group] : null)
+                    .avg(hasValue ? sums[group] / valueCounts[group] : null)
+                    .build());
+        }
+        return groups;
+    }
+
+    private static String keyValue(Keys keys, int id) {
+        return id == NO_KEY ? null : keys.value(id);
+    }
+
+    /**
+     * 행마다 키 id 를 out 에 채운다. 컬럼이 없거나 값이 null 이면 NO_KEY.
+     */
+    private static int[] resolveKeys(RecordBatch batch, int column, Keys keys, int[] out) {
+        int size = batch.size();
+        if (out.length < size) {
+            out = new int[size];
+        }
+        if (column < 0 || batch.columnType(column) == null) {
+            Arrays.fill(out, 0, size, NO_KEY);
+            return out;
+        }
+        if (batch.columnType(column) == ColumnType.STRING) {
+            int[] codeKeys = new int[batch.dictionarySize(column)];
+            for (int code = 0; code < codeKeys.length; code++) {
+                codeKeys[code] = keys.id(batch.dictionaryValue(column, code));
+            }
+            for (int row = 0; row < size; row++) {
+                out[row] = batch.isNull(column, row) ? NO_KEY : codeKeys[batch.getCode(column, row)];
+            }
+            return out;
+        }
+        for (int row = 0; row < size; row++) {
+            Object value = batch.getValue(column, row);
+            out[row] = value == null ? NO_KEY : keys.id(String.valueOf(value));
+        }
+        return out;
+    }
+
+    private int group(int sensor, int status, long bucket) {
+        int mask = slots.length - 1;
+        int slot = hash(sensor, status, bucket) & mask;
+        while (slots[slot] != 0) {
+            int group = slots[slot] - 1;
+            if (groupSensors[group] == sensor && groupStatuses[group] == status && groupBuckets[group] == bucket) {
+                return group;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return addGroup(slot, sensor, status, bucket);
+    }
+
+    private int addGroup(int slot, int sensor, int status, long bucket) {
+        if (groupCount >= maxGroups) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "집계 그룹이 " + maxGroups + "개를 넘습니다. groupBy 를 줄이거나 interval 을 늘려 주세요.");
+        }
+        int group = groupCount++;
+        if (group == counts.length) {
+            growGroups();
+        }
+        groupSensors[group] = sensor;
+        groupStatuses[group] = status;
+        groupBuckets[group] = bucket;
+        mins[group] = Double.POSITIVE_INFINITY;
+        maxs[group] = Double.NEGATIVE_INFINITY;
+        slots[slot] = group + 1;
+        // 적재율 1/2 를 넘지 않게 한다.
+        if (groupCount * 2 > slots.length) {
+            rehash();
+        }
+        return group;
+    }
+
+    private void growGroups() {
+        int capacity = counts.length * 2;
+        groupSensors = Arrays.copyOf(groupSensors, capacity);
+        groupStatuses = Arrays.copyOf(groupStatuses, capacity);
+        groupBuckets = Arrays.copyOf(groupBuckets, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+        valueCounts = Arrays.copyOf(valueCounts, capacity);
+        sums = Arrays.copyOf(sums, capacity);
+        mins = Arrays.copyOf(mins, capacity);
+        maxs = Arrays.copyOf(maxs, capacity);
+    }
+
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        int mask = slots.length - 1;
+        for (int group = 0; group < groupCount; group++) {
+            int slot = hash(groupSensors[group], groupStatuses[group], groupBuckets[group]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = group + 1;
+        }
+    }
+
+    private static int hash(int sensor, int status, long bucket) {
+        long h = bucket * 0x9E3779B97F4A7C15L + sensor * 0xC2B2AE3D27D4EB4FL + status;
+        h ^= h >>> 29;
+        h *= 0xBF58476D1CE4E5B9L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * 문자열 키 ↔ 이 집계기 안의 정수 id
+     */
+    private static final class Keys {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int id(String value) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = values.size();
+                values.add(value);
+                ids.put(value, id);
+            }
+            return id;
+        }
+
+        String value(int id) {
+            return values.get(id);
+        }
+    }
+}
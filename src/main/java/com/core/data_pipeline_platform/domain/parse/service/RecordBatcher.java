@@ -0,0 +1,90 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+
+/**
+ * 파서가 행을 하나씩 채우면 batchSize 단위로 RecordSink 에 전달한다.
+ * 배치는 하나를 비워 가며 재사용하므로 한 번에 메모리에 올라가는 레코드는 최대 batchSize 개다.
+ */
+public class RecordBatcher {
+
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private final RecordSink sink;
+    private final int batchSize;
+    private final RecordBatch batch;
+    private long count;
+
+    public RecordBatcher(RecordSink sink) {
+        this(sink, DEFAULT_BATCH_SIZE);
+    }
+
+    public RecordBatcher(RecordSink sink, int batchSize) {
+        this(sink, batchSize, new RecordBatch());
+    }
+
+    /**
+     * 풀에서 빌린 배치처럼 이미 있는 배치를 비워서 쓴다.
+     */
+    public RecordBatcher(RecordSink sink, RecordBatch batch) {
+        this(sink, DEFAULT_BATCH_SIZE, batch);
+    }
+
+    private RecordBatcher(RecordSink sink, int batchSize, RecordBatch batch) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize 는 1 이상이어야 합니다.");
+        }
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.batch = batch;
+        batch.reset();
+    }
+
+    /**
+     * 새 행을 시작하고 값을 채울 배치를 반환한다. 배치가 가득 찼으면 먼저 내보낸다.
+     * 컬럼 인덱스는 배치가 바뀌어도 유지된다.
+     */
+    public RecordBatch row() {
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+        batch.startRow();
+        count++;
+        return batch;
+    }
+
+    /**
+     * 방금 row() 로 시작한 행을 버린다. (RecordQuery 조건에 맞지 않는 행)
+     */
+    public void discard() {
+        batch.discardRow();
+        count--;
+    }
+
+    /**
+     * 행을 채우기 전에 컬럼 인덱스를 미리 잡을 때 쓴다.
+     */
+    public RecordBatch batch() {
+        return batch;
+    }
+
+    /**
+     * 남은 레코드를 내보내고 sink 에 완료를 알린다.
+     */
+    public void complete() {
+        flush();
+        sink.onComplete();
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        sink.onBatch(batch);
+        batch.clear();
+    }
+}
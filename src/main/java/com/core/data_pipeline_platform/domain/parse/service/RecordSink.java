@@ -0,0 +1,20 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+
+/**
+ * 파서가 읽은 레코드를 배치 단위로 밀어 넣는 대상.
+ * - onBatch 는 파서 스레드에서 동기 호출되며, 반환될 때까지 파서는 다음 입력을 읽지 않는다. (backpressure)
+ * - 전달된 batch 는 호출이 끝나면 재사용되므로, 보관하려면 복사해야 한다.
+ */
+@FunctionalInterface
+public interface RecordSink {
+
+    void onBatch(RecordBatch batch);
+
+    /**
+     * 모든 레코드를 전달한 뒤 한 번 호출된다.
+     */
+    default void onComplete() {
+    }
+}
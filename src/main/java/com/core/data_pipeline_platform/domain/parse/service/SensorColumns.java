@@ -0,0 +1,115 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+
+import java.util.Arrays;
+
+/**
+ * 배치의 value/timestamp 컬럼을 저장 타입과 무관하게 원시 배열로 읽는다. (통계, 집계)
+ * 문자열 컬럼(XML, 저장된 청크의 timestamp 등)은 행마다가 아니라 사전 코드마다 한 번만 변환한다.
+ */
+final class SensorColumns {
+
+    private SensorColumns() {
+    }
+
+    /**
+     * 행마다 숫자 값을 out 에 채운다. 값이 없거나 숫자가 아니면 NaN.
+     *
+     * @return out, 또는 배치보다 작으면 새로 만든 배열
+     */
+    static double[] values(RecordBatch batch, int column, double[] out) {
+        int size = batch.size();
+        out = ensure(out, size);
+        if (column < 0 || batch.columnType(column) == null) {
+            Arrays.fill(out, 0, size, Double.NaN);
+            return out;
+        }
+        switch (batch.columnType(column)) {
+            case DOUBLE, LONG -> {
+                for (int row = 0; row < size; row++) {
+                    out[row] = batch.isNull(column, row) ? Double.NaN : batch.getDouble(column, row);
+                }
+            }
+            case STRING -> {
+                double[] codeValues = new double[batch.dictionarySize(column)];
+                for (int code = 0; code < codeValues.length; code++) {
+                    codeValues[code] = parseDouble(batch.dictionaryValue(column, code));
+                }
+                for (int row = 0; row < size; row++) {
+                    out[row] = batch.isNull(column, row) ? Double.NaN : codeValues[batch.getCode(column, row)];
+                }
+            }
+            case OBJECT -> {
+                for (int row = 0; row < size; row++) {
+                    Object value = batch.getValue(column, row);
+                    if (value instanceof Number number) {
+                        out[row] = number.doubleValue();
+                    } else if (value instanceof String string) {
+                        out[row] = parseDouble(string);
+                    } else {
+                        out[row] = Double.NaN;
+                    }
+                }
+            }
+            default -> Arrays.fill(out, 0, size, Double.NaN);
+        }
+        return out;
+    }
+
+    /**
+     * 행마다 UTC epoch 마이크로초를 out 에 채운다. 값이 없거나 형식이 맞지 않으면 EpochMicros.NONE.
+     *
+     * @return out, 또는 배치보다 작으면 새로 만든 배열
+     */
+    static long[] timestamps(RecordBatch batch, int column, long[] out) {
+        int size = batch.size();
+        out = ensure(out, size);
+        if (column < 0 || batch.columnType(column) == null) {
+            Arrays.fill(out, 0, size, EpochMicros.NONE);
+            return out;
+        }
+        switch (batch.columnType(column)) {
+            case TIMESTAMP -> {
+                for (int row = 0; row < size; row++) {
+                    out[row] = batch.isNull(column, row) ? EpochMicros.NONE : batch.getLong(column, row);
+                }
+            }
+            case STRING -> {
+                long[] codeTimestamps = new long[batch.dictionarySize(column)];
+                for (int code = 0; code < codeTimestamps.length; code++) {
+                    codeTimestamps[code] = EpochMicros.parse(batch.dictionaryValue(column, code));
+                }
+                for (int row = 0; row < size; row++) {
+                    out[row] = batch.isNull(column, row) ? EpochMicros.NONE : codeTimestamps[batch.getCode(column, row)];
+                }
+            }
+            case OBJECT -> {
+                for (int row = 0; row < size; row++) {
+                    out[row] = batch.getValue(column, row) instanceof String string
+                            ? EpochMicros.parse(string)
+                            : EpochMicros.NONE;
+                }
+            }
+            default -> Arrays.fill(out, 0, size, EpochMicros.NONE);
+        }
+        return out;
+    }
+
+    private static double parseDouble(String text) {
+        try {
+            return Double.parseDouble(text.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static double[] ensure(double[] array, int size) {
+        return array != null && size <= array.length ? array : new double[Math.max(16, size)];
+    }
+
+    private static long[] ensure(long[] array, int size) {
+        return array != null && size <= array.length ? array : new long[Math.max(16, size)];
+    }
+}
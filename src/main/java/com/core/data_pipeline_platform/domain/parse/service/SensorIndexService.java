@@ -0,0 +1,269 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.parse.dto.SensorSeriesPoint;
+import com.core.data_pipeline_platform.domain.parse.dto.SensorSeriesResponse;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.SensorRecordRangeEntity;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import com.core.data_pipeline_platform.domain.parse.model.RecordQuery;
+import com.core.data_pipeline_platform.domain.parse.model.SensorFields;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedRecordChunkJdbcRepository;
+import com.core.data_pipeline_platform.domain.parse.repository.SensorRecordRangeJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 파일을 가로지르는 센서 역색인 (sensorId → 파일 + 레코드 구간).
+ *
+ * 파싱이 끝난 파일의 항목을 저장하고, 센서 시계열 조회에서는 역색인이 가리키는 파일의 구간에 있는 청크만 읽는다.
+ * 파일마다 그 센서의 레코드를 timestamp 순으로 정렬한 뒤, 파일들을 k-way merge 로 합쳐 limit 건을 돌려준다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SensorIndexService {
+
+    private static final Comparator<Cursor> CURSOR_ORDER = Comparator.<Cursor>comparingLong(Cursor::timestamp)
+            .thenComparingLong(cursor -> cursor.series.fileId);
+
+    private final SensorRecordRangeJdbcRepository sensorRangeRepository;
+    private final ParsedRecordChunkJdbcRepository chunkJdbcRepository;
+    private final JsonDataParser jsonDataParser;
+
+    /**
+     * 파싱한 파일의 역색인 항목을 저장한다. 다시 파싱한 파일이면 이전 항목을 바꾼다.
+     */
+    public void index(ParsedDataEntity parsedData) {
+        Long fileId = parsedData.getFile().getId();
+        sensorRangeRepository.deleteByFileId(fileId);
+        if (parsedData.getSensorRanges() != null) {
+            sensorRangeRepository.insertAll(parsedData.getSensorRanges());
+        }
+    }
+
+    /**
+     * sensorId 의 레코드를 모든 파일에서 timestamp 순으로 조회한다. timestamp 가 없는 레코드는 빠진다.
+     *
+     * @param from ISO-8601 (오프셋이 없으면 UTC). 없으면 처음부터
+     * @param to   ISO-8601, 이 시각은 포함하지 않는다. 없으면 끝까지
+     */
+    public SensorSeriesResponse getSeries(String sensorId, String from, String to, int limit) {
+        if (limit < 1 || limit > ParsedDataService.MAX_RECORDS_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "limit 은 1~" + ParsedDataService.MAX_RECORDS_LIMIT + " 이어야 합니다.");
+        }
+        long fromMicros = from != null ? parseTime(from) : Long.MIN_VALUE;
+        long toMicros = to != null ? parseTime(to) : Long.MAX_VALUE;
+        if (fromMicros >= toMicros) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from 은 to 보다 앞서야 합니다.");
+        }
+        RecordQuery query = seriesQuery(sensorId, from != null ? fromMicros : null, to != null ? toMicros : null);
+
+        // 구간의 시간 범위가 조회 구간과 겹치지 않으면 읽지 않는다.
+        Map<Long, List<SensorRecordRangeEntity>> rangesByFile = new LinkedHashMap<>();
+        for (SensorRecordRangeEntity range : sensorRangeRepository.findBySensorId(sensorId)) {
+            if (range.getTimestampMin() != null
+                    && (range.getTimestampMax() < fromMicros || range.getTimestampMin() >= toMicros)) {
+                continue;
+            }
+            rangesByFile.computeIfAbsent(range.getFileId(), fileId -> new ArrayList<>()).add(range);
+        }
+
+        List<FileSeries> files = new ArrayList<>(rangesByFile.size());
+        int scannedRanges = 0;
+        for (Map.Entry<Long, List<SensorRecordRangeEntity>> entry : rangesByFile.entrySet()) {
+            FileSeries series = new FileSeries(entry.getKey(), query, limit);
+            for (SensorRecordRangeEntity range : entry.getValue()) {
+                scannedRanges++;
+                chunkJdbcRepository.forEachChunk(entry.getKey(), range.getFirstRecord(), range.getEndRecord(),
+                        chunk -> jsonDataParser.parse(FileType.JSON, open(chunk), query, series));
+            }
+            series.finish();
+            files.add(series);
+        }
+
+        List<SensorSeriesPoint> points = new ArrayList<>();
+        boolean truncated = merge(files, limit, points);
+
+        return SensorSeriesResponse.builder()
+                .sensorId(sensorId)
+                .from(from != null ? EpochMicros.format(fromMicros) : null)
+                .to(to != null ? EpochMicros.format(toMicros) : null)
+                .fileCount(rangesByFile.size())
+                .scannedRanges(scannedRanges)
+                .count(points.size())
+                .truncated(truncated)
+                .points(points)
+                .build();
+    }
+
+    /**
+     * 파일별로 정렬된 시계열을 k-way merge 해 limit 건까지 out 에 담는다. 힙에는 파일마다 다음 레코드 하나만 둔다.
+     *
+     * @return limit 을 넘는 레코드가 더 있으면 true
+     */
+    static boolean merge(List<FileSeries> files, int limit, List<SensorSeriesPoint> out) {
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(Math.max(1, files.size()), CURSOR_ORDER);
+        boolean truncated = false;
+        for (FileSeries series : files) {
+            truncated |= series.truncated;
+            if (series.size() > 0) {
+                heap.add(new Cursor(series));
+            }
+        }
+        while (!heap.isEmpty()) {
+            if (out.size() == limit) {
+                return true;
+            }
+            Cursor cursor = heap.poll();
+            out.add(SensorSeriesPoint.builder()
+                    .fileId(cursor.series.fileId)
+                    .record(cursor.series.records.get(cursor.index))
+                    .build());
+            if (++cursor.index < cursor.series.size()) {
+                heap.add(cursor);
+            }
+        }
+        return truncated;
+    }
+
+    private static RecordQuery seriesQuery(String sensorId, Long fromMicros, Long toMicros) {
+        List<RecordQuery.Condition> conditions = new ArrayList<>();
+        conditions.add(new RecordQuery.Condition(SensorFields.SENSOR_ID, RecordQuery.Operator.EQ, sensorId));
+        if (fromMicros != null) {
+            conditions.add(new RecordQuery.Condition(SensorFields.TIMESTAMP, RecordQuery.Operator.GE,
+                    EpochMicros.format(fromMicros)));
+        }
+        if (toMicros != null) {
+            conditions.add(new RecordQuery.Condition(SensorFields.TIMESTAMP, RecordQuery.Operator.LT,
+                    EpochMicros.format(toMicros)));
+        }
+        return new RecordQuery(null, conditions);
+    }
+
+    private static long parseTime(String text) {
+        long micros = EpochMicros.parse(text);
+        if (micros == EpochMicros.NONE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from, to 는 ISO-8601 시각이어야 합니다.");
+        }
+        return micros;
+    }
+
+    private static InputStream open(ParsedRecordChunkEntity chunk) {
+        if (chunk.isDeflated()) {
+            return ChunkCodec.inflate(chunk.getPayload());
+        }
+        return new ByteArrayInputStream(chunk.getData().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 파일 하나에서 조건을 통과한 레코드를 timestamp 순으로 모은다. 합칠 때 파일마다 앞의 limit 건만 쓰므로
+     * 2 × limit 건이 쌓일 때마다 정렬해 limit 건만 남긴다.
+     */
+    static final class FileSeries implements RecordSink {
+
+        private final Long fileId;
+        private final RecordQuery query;
+        private final int limit;
+        private final List<Map<String, Object>> records = new ArrayList<>();
+        private long[] timestamps = new long[16];
+        private boolean truncated;
+
+        // 배치의 행별 timestamp. 배치마다 덮어쓴다.
+        private long[] rowTimestamps;
+
+        FileSeries(Long fileId, RecordQuery query, int limit) {
+            this.fileId = fileId;
+            this.query = query;
+            this.limit = limit;
+        }
+
+        @Override
+        public void onBatch(RecordBatch batch) {
+            rowTimestamps = SensorColumns.timestamps(batch, batch.columnIndex(SensorFields.TIMESTAMP), rowTimestamps);
+            for (int row = 0; row < batch.size(); row++) {
+                if (rowTimestamps[row] == EpochMicros.NONE) {
+                    continue;
+                }
+                if (records.size() == timestamps.length) {
+                    timestamps = Arrays.copyOf(timestamps, timestamps.length * 2);
+                }
+                timestamps[records.size()] = rowTimestamps[row];
+                records.add(query.select(batch, row));
+                if (records.size() >= 2 * limit) {
+                    sortAndTrim();
+                }
+            }
+        }
+
+        void finish() {
+            sortAndTrim();
+        }
+
+        int size() {
+            return records.size();
+        }
+
+        long timestamp(int index) {
+            return timestamps[index];
+        }
+
+        /**
+         * timestamp 순으로 (같으면 읽은 순서대로) 정렬하고 limit 건을 넘으면 자른다.
+         */
+        private void sortAndTrim() {
+            int size = records.size();
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            // 안정 정렬이므로 같은 시각이면 파일 안 순서가 유지된다.
+            Arrays.sort(order, Comparator.comparingLong(i -> timestamps[i]));
+            int keep = Math.min(size, limit);
+            List<Map<String, Object>> sorted = new ArrayList<>(keep);
+            long[] sortedTimestamps = new long[Math.max(16, 2 * keep)];
+            for (int i = 0; i < keep; i++) {
+                sorted.add(records.get(order[i]));
+                sortedTimestamps[i] = timestamps[order[i]];
+            }
+            if (size > keep) {
+                truncated = true;
+            }
+            records.clear();
+            records.addAll(sorted);
+            timestamps = sortedTimestamps;
+        }
+    }
+
+    /**
+     * 병합 중인 파일 시계열의 다음 위치
+     */
+    private static final class Cursor {
+
+        private final FileSeries series;
+        private int index;
+
+        private Cursor(FileSeries series) {
+            this.series = series;
+        }
+
+        private long timestamp() {
+            return series.timestamp(index);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.entity.SensorRecordRangeEntity;
+import com.core.data_pipeline_platform.domain.parse.model.ColumnType;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import com.core.data_pipeline_platform.domain.parse.model.SensorFields;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파싱 중 청크(배치)마다 sensorId 별 레코드 수와 timestamp 범위를 모아 센서 역색인 항목을 만든다.
+ *
+ * - 문자열 sensorId 는 배치 사전 코드별로 센 뒤 값마다 한 번만 반영한다.
+ * - 센서가 바로 앞 청크에도 있었으면 구간을 이어 붙이고, 사이에 빠진 청크가 있으면 구간을 닫고 새로 연다.
+ *   그래서 항목 수는 레코드 수가 아니라 (센서 수 × 끊긴 횟수) 에 비례한다.
+ */
+final class SensorRangeCollector {
+
+    // sensor_record_range.sensor_id 컬럼 길이. 더 긴 값은 색인하지 않는다.
+    static final int MAX_SENSOR_ID_LENGTH = 255;
+
+    private final Map<String, Range> open = new HashMap<>();
+    private final List<Range> closed = new ArrayList<>();
+
+    // 행별/사전 코드별 임시 값. 배치마다 덮어쓴다.
+    private long[] timestamps;
+    private long[] codeCounts = new long[16];
+    private long[] codeMins = new long[16];
+    private long[] codeMaxs = new long[16];
+
+    /**
+     * @param firstRecord 배치 첫 레코드의 파일 내 번호 (청크의 firstRecord)
+     */
+    void accept(RecordBatch batch, long firstRecord) {
+        int column = batch.columnIndex(SensorFields.SENSOR_ID);
+        if (column < 0 || batch.columnType(column) == null) {
+            return;
+        }
+        int size = batch.size();
+        long endRecord = firstRecord + size;
+        timestamps = SensorColumns.timestamps(batch, batch.columnIndex(SensorFields.TIMESTAMP), timestamps);
+
+        if (batch.columnType(column) == ColumnType.STRING) {
+            int dictionarySize = batch.dictionarySize(column);
+            if (codeCounts.length < dictionarySize) {
+                int capacity = Math.max(codeCounts.length * 2, dictionarySize);
+                codeCounts = new long[capacity];
+                codeMins = new long[capacity];
+                codeMaxs = new long[capacity];
+            }
+            Arrays.fill(codeCounts, 0, dictionarySize, 0);
+            Arrays.fill(codeMins, 0, dictionarySize, Long.MAX_VALUE);
+            Arrays.fill(codeMaxs, 0, dictionarySize, Long.MIN_VALUE);
+            for (int row = 0; row < size; row++) {
+                if (batch.isNull(column, row)) {
+                    continue;
+                }
+                int code = batch.getCode(column, row);
+                codeCounts[code]++;
+                long timestamp = timestamps[row];
+                if (timestamp != EpochMicros.NONE) {
+                    codeMins[code] = Math.min(codeMins[code], timestamp);
+                    codeMaxs[code] = Math.max(codeMaxs[code], timestamp);
+                }
+            }
+            for (int code = 0; code < dictionarySize; code++) {
+                if (codeCounts[code] > 0) {
+                    add(batch.dictionaryValue(column, code), firstRecord, endRecord,
+                            codeCounts[code], codeMins[code], codeMaxs[code]);
+                }
+            }
+            return;
+        }
+        for (int row = 0; row < size; row++) {
+            Object value = batch.getValue(column, row);
+            if (value != null) {
+                long timestamp = timestamps[row];
+                boolean known = timestamp != EpochMicros.NONE;
+                add(String.valueOf(value), firstRecord, endRecord, 1,
+                        known ? timestamp : Long.MAX_VALUE, known ? timestamp : Long.MIN_VALUE);
+            }
+        }
+    }
+
+    /**
+     * 모은 항목을 fileId 의 역색인 항목으로 만든다.
+     */
+    List<SensorRecordRangeEntity> toRanges(Long fileId) {
+        List<SensorRecordRangeEntity> ranges = new ArrayList<>(closed.size() + open.size());
+        for (Range range : closed) {
+            ranges.add(range.toEntity(fileId));
+        }
+        for (Range range : open.values()) {
+            ranges.add(range.toEntity(fileId));
+        }
+        return ranges;
+    }
+
+    private void add(String sensorId, long firstRecord, long endRecord, long count, long min, long max) {
+        if (sensorId.length() > MAX_SENSOR_ID_LENGTH) {
+            return;
+        }
+        Range range = open.get(sensorId);
+        // endRecord >= firstRecord: 바로 앞 청크까지 이어진 구간이거나 (행 단위로 더하는 경우) 이 배치에서 연 구간
+        if (range == null || range.endRecord < firstRecord) {
+            if (range != null) {
+                closed.add(range);
+            }
+            range = new Range(sensorId, firstRecord);
+            open.put(sensorId, range);
+        }
+        range.endRecord = endRecord;
+        range.count += count;
+        range.min = Math.min(range.min, min);
+        range.max = Math.max(range.max, max);
+    }
+
+    private static final class Range {
+
+        private final String sensorId;
+        private final long firstRecord;
+        private long endRecord;
+        private long count;
+        // 시각이 하나도 없으면 min > max
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+
+        private Range(String sensorId, long firstRecord) {
+            this.sensorId = sensorId;
+            this.firstRecord = firstRecord;
+        }
+
+        private SensorRecordRangeEntity toEntity(Long fileId) {
+            boolean hasTimestamp = min <= max;
+            return SensorRecordRangeEntity.builder()
+                    .fileId(fileId)
+                    .sensorId(sensorId)
+                    .firstRecord(firstRecord)
+                    .endRecord(endRecord)
+                    .recordCount(count)
+                    .timestampMin(hasTimestamp ? min : null)
+                    .timestampMax(hasTimestamp ? max : null)
+                    .build();
+        }
+    }
+}
@@ -1,31 +1,33 @@
 package com.core.data_pipeline_platform.domain.parse.service;
 
 import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import com.core.data_pipeline_platform.domain.parse.model.RecordQuery;
+import com.core.data_pipeline_platform.domain.parse.model.SensorFields;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
+/**
+ * StAX 로 sensorData/sensor 요소를 하나씩 읽는다.
+ * DOM 을 만들지 않으므로 메모리 사용량은 파일 크기와 무관하게 sensor 한 개 + 배치 하나 수준이다.
+ */
 @Service
 public class XmlDataParser implements DataParser {
 
-    private static final String SENSOR_ID = "sensorId";
-    private static final String VALUE = "value";
-    private static final String TIMESTAMP = "timestamp";
-    private static final String STATUS = "status";
+    private static final String ROOT = "sensorData";
+    private static final String SENSOR = "sensor";
+
+    // sensor 하위에서 읽는 필드. 배열 순서가 컬럼 순서다.
+    private static final String[] FIELDS = {SensorFields.SENSOR_ID, SensorFields.VALUE, SensorFields.TIMESTAMP, SensorFields.STATUS};
 
     @Override
-    public List<Map<String, Object>> parseData(FileType fileType, InputStream inputStream) {
+    public void parse(FileType fileType, InputStream inputStream, RecordQuery query, RecordSink sink) {
 
         if (fileType != FileType.XML) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일 타입 불일치: XML이어야 합니다.");
@@ -35,58 +37,144 @@ public class XmlDataParser implements DataParser {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "입력 스트림이 null 입니다.");
         }
 
-        List<Map<String, Object>> records = new ArrayList<>();
-
-        try {
-            // DOM 파서 생성
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document document = builder.parse(inputStream);
-            
-            // 루트 태그 검증
-            Element root = document.getDocumentElement();
-            if (!"sensorData".equals(root.getTagName())) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "올바른 XML 형식이 아닙니다. 루트 태그는 'sensorData'여야 합니다.");
+        try (ParserResources resources = ParserResources.acquire()) {
+            RecordBatcher batcher = new RecordBatcher(sink, resources.batch());
+            // query 가 읽지 않는 필드는 -1 이며, 그 요소는 텍스트를 모으지 않고 건너뛴다.
+            int[] columns = new int[FIELDS.length];
+            for (int i = 0; i < FIELDS.length; i++) {
+                columns[i] = query.reads(FIELDS[i]) ? batcher.batch().column(FIELDS[i]) : -1;
             }
-            
-            // sensor 요소들 찾기
-            NodeList sensorNodes = document.getElementsByTagName("sensor");
-            
-            // sensor 데이터 존재 검증
-            if (sensorNodes.getLength() == 0) {
+
+            long sensors = read(inputStream, batcher, columns, query);
+
+            // sensor 데이터 존재 검증 (조건에 맞는 sensor 가 없는 것과는 구분한다)
+            if (sensors == 0) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "sensor 데이터가 없습니다.");
             }
 
-            // 각 sensor 요소를 Map으로 변환
-            for (int i = 0; i < sensorNodes.getLength(); i++) {
-                Element sensorElement = (Element) sensorNodes.item(i);
-                Map<String, Object> record = new HashMap<>();
+            batcher.complete();
+        }
+    }
+
+    @Override
+    public FileType getSupportedFileType() {
+        return FileType.XML;
+    }
 
-                record.put(SENSOR_ID, getElementContent(sensorElement, SENSOR_ID));
-                record.put(VALUE, getElementContent(sensorElement, VALUE));
-                record.put(TIMESTAMP, getElementContent(sensorElement, TIMESTAMP));
-                record.put(STATUS, getElementContent(sensorElement, STATUS));
+    /**
+     * @return 읽은 sensor 요소 수 (조건에 맞지 않아 버린 것 포함)
+     */
+    private long read(InputStream inputStream, RecordBatcher batcher, int[] columns, RecordQuery query) {
+        long sensors = 0;
+        try {
+            XMLStreamReader reader = ParserResources.XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            try {
+                // 루트 태그 검증
+                if (!moveToRoot(reader) || !ROOT.equals(reader.getLocalName())) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "올바른 XML 형식이 아닙니다. 루트 태그는 'sensorData'여야 합니다.");
+                }
 
-                records.add(record);
+                // 루트 아래 어느 깊이의 sensor 요소든 하나씩 행으로 변환
+                int depth = 1;
+                while (depth > 0 && reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        if (SENSOR.equals(reader.getLocalName())) {
+                            RecordBatch batch = batcher.row();
+                            readSensor(reader, batch, columns);
+                            sensors++;
+                            if (!query.matches(batch, batch.size() - 1)) {
+                                batcher.discard();
+                            }
+                        } else {
+                            depth++;
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        depth--;
+                    }
+                }
+            } finally {
+                reader.close();
             }
-            
-            return records;
-            
-        } catch (Exception e) {
+        } catch (XMLStreamException e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "XML 파싱 실패", e);
         }
+        return sensors;
     }
 
-    @Override
-    public FileType getSupportedFileType() {
-        return FileType.XML;
+    private boolean moveToRoot(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 현재 위치한 sensor 요소의 끝까지 읽어 배치의 현재 행에 쓴다. 필드가 여러 번 나오면 첫 번째 값을, 없으면 빈 문자열을 쓴다.
+     */
+    private void readSensor(XMLStreamReader reader, RecordBatch batch, int[] columns) throws XMLStreamException {
+        int filled = 0;
+
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                int field = fieldIndex(reader.getLocalName());
+                if (field >= 0 && columns[field] >= 0 && (filled & (1 << field)) == 0) {
+                    batch.putString(columns[field], readText(reader));
+                    filled |= 1 << field;
+                } else {
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+
+        for (int field = 0; field < FIELDS.length; field++) {
+            if (columns[field] >= 0 && (filled & (1 << field)) == 0) {
+                batch.putString(columns[field], "");
+            }
+        }
+    }
+
+    /**
+     * 현재 요소의 하위 텍스트를 모두 이어 붙여 반환하고 요소 끝으로 이동한다. (DOM getTextContent 와 동일)
+     */
+    private String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = "";
+        StringBuilder builder = null;
+
+        int depth = 1;
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                    if (text.isEmpty()) {
+                        text = reader.getText();
+                    } else {
+                        if (builder == null) {
+                            builder = new StringBuilder(text);
+                        }
+                        builder.append(reader.getText());
+                    }
+                }
+                case XMLStreamConstants.START_ELEMENT -> depth++;
+                case XMLStreamConstants.END_ELEMENT -> depth--;
+                default -> {
+                }
+            }
+        }
+        return builder != null ? builder.toString() : text;
     }
 
-    private Object getElementContent(Element element, String tagName) {
-        NodeList nodes = element.getElementsByTagName(tagName);
-        if (nodes.getLength() == 0) {
-            return "";
+    private int fieldIndex(String name) {
+        for (int i = 0; i < FIELDS.length; i++) {
+            if (FIELDS[i].equals(name)) {
+                return i;
+            }
         }
-        return nodes.item(0).getTextContent();
+        return -1;
     }
-}
\ No newline at end of file
+}
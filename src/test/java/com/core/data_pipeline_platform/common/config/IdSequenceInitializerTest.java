@@ -0,0 +1,81 @@
+package com.core.data_pipeline_platform.common.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdSequenceInitializer 테스트")
+class IdSequenceInitializerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private IdSequenceInitializer initializer;
+
+    @Test
+    @DisplayName("기존 IDENTITY id 보다 뒤처진 시퀀스는 max(id) + 50 으로 다시 시작")
+    void sync_behindMaxId_restarts() {
+        // Given
+        given(jdbcTemplate.queryForObject("SELECT MAX(id) FROM file_entity", Long.class)).willReturn(120L);
+        given(jdbcTemplate.queryForObject("SELECT next_not_cached_value FROM file_entity_seq", Long.class)).willReturn(1L);
+
+        // When
+        initializer.sync("MariaDB", "file_entity", "file_entity_seq");
+
+        // Then
+        then(jdbcTemplate).should().execute("ALTER SEQUENCE file_entity_seq RESTART WITH 170");
+    }
+
+    @Test
+    @DisplayName("다음 할당 구간이 max(id) 보다 뒤면 그대로 둔다")
+    void sync_aheadOfMaxId_keepsSequence() {
+        // Given
+        given(jdbcTemplate.queryForObject("SELECT MAX(id) FROM file_entity", Long.class)).willReturn(120L);
+        given(jdbcTemplate.queryForObject(IdSequenceInitializer.H2_NEXT_VALUE, Long.class, "FILE_ENTITY_SEQ")).willReturn(170L);
+
+        // When
+        initializer.sync("H2", "file_entity", "file_entity_seq");
+
+        // Then
+        then(jdbcTemplate).should(never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("빈 테이블은 시퀀스를 읽지 않는다")
+    void sync_emptyTable_skips() {
+        // Given
+        given(jdbcTemplate.queryForObject("SELECT MAX(id) FROM parsed_data_entity", Long.class)).willReturn(null);
+
+        // When
+        initializer.sync("MariaDB", "parsed_data_entity", "parsed_data_entity_seq");
+
+        // Then
+        then(jdbcTemplate).should(never()).queryForObject("SELECT next_not_cached_value FROM parsed_data_entity_seq", Long.class);
+        then(jdbcTemplate).should(never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("시퀀스 값을 읽는 방법을 모르는 DB 는 값을 소비하지 않고 건너뛴다")
+    void sync_unknownDatabase_skips() {
+        // Given
+        given(jdbcTemplate.queryForObject("SELECT MAX(id) FROM file_entity", Long.class)).willReturn(120L);
+
+        // When
+        initializer.sync("PostgreSQL", "file_entity", "file_entity_seq");
+
+        // Then
+        then(jdbcTemplate).should(never()).queryForObject("SELECT NEXT VALUE FOR file_entity_seq", Long.class);
+        then(jdbcTemplate).should(never()).execute(anyString());
+    }
+}
@@ -0,0 +1,97 @@
+package com.core.data_pipeline_platform.domain.file.service;
+
+import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
+import com.core.data_pipeline_platform.domain.file.enums.FileProcessingStatus;
+import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.file.repository.FileRepository;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedDataRepository;
+import com.core.data_pipeline_platform.domain.parse.service.DataParsingService;
+import com.core.data_pipeline_platform.domain.parse.service.SensorIndexService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsyncFileUploadService 테스트")
+class AsyncFileUploadServiceTest {
+
+    @Mock
+    private ParsedDataRepository parsedDataRepository;
+
+    @Mock
+    private DataParsingService dataParsingService;
+
+    @Mock
+    private SensorIndexService sensorIndexService;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private AsyncFileUploadService asyncFileUploadService;
+
+    private final Path path = Path.of("stored.json");
+
+    @Test
+    @DisplayName("백그라운드 파싱 - 성공하면 COMPLETED")
+    void backgroundParse_Success() {
+        // Given
+        FileEntity file = FileEntity.builder().id(1L).fileType(FileType.JSON).originName("a.json").build();
+        ParsedDataEntity parsedData = ParsedDataEntity.builder().file(file).build();
+        given(fileRepository.findById(1L)).willReturn(Optional.of(file));
+        given(dataParsingService.parseToEntity(FileType.JSON, path, file)).willReturn(parsedData);
+
+        // When
+        asyncFileUploadService.backgroundParse(path, FileType.JSON, 1L);
+
+        // Then
+        assertThat(file.getProcessingStatus()).isEqualTo(FileProcessingStatus.COMPLETED);
+        then(parsedDataRepository).should().save(parsedData);
+        then(sensorIndexService).should().index(parsedData);
+        then(dataParsingService).should(never()).discard(any());
+    }
+
+    @Test
+    @DisplayName("백그라운드 파싱 - ResponseStatusException 이 아닌 실패도 청크를 지우고 새 트랜잭션에서 FAILED 로 기록")
+    void backgroundParse_RuntimeException_MarksFailed() {
+        // Given
+        FileEntity file = FileEntity.builder().id(1L).fileType(FileType.JSON).originName("a.json").build();
+        ParsedDataEntity parsedData = ParsedDataEntity.builder().file(file).build();
+        given(fileRepository.findById(1L)).willReturn(Optional.of(file));
+        given(dataParsingService.parseToEntity(FileType.JSON, path, file)).willReturn(parsedData);
+        given(parsedDataRepository.save(parsedData))
+            .willThrow(new DataAccessResourceFailureException("connection lost"));
+
+        // When
+        asyncFileUploadService.backgroundParse(path, FileType.JSON, 1L);
+
+        // Then
+        assertThat(file.getProcessingStatus()).isEqualTo(FileProcessingStatus.FAILED);
+        assertThat(file.getErrorMessage()).isEqualTo("파싱 실패: DataAccessResourceFailureException");
+        then(dataParsingService).should().discard(1L);
+        then(transactionTemplate).should(times(2)).executeWithoutResult(any());
+        then(sensorIndexService).should(never()).index(any());
+    }
+}
@@ -269,4 +269,48 @@ class FileStorageServiceTest {
         assertThat(result.getOriginName()).isEqualTo("테스트-파일_#1.json");
         assertThat(result.getFileType()).isEqualTo(FileType.JSON);
     }
+
+    @Test
+    @DisplayName("저장하면서 내용의 SHA-256 을 계산 - 이름이 달라도 내용이 같으면 같은 값")
+    void storeFile_ComputesContentHash() {
+        // Given
+        MultipartFile file1 = new MockMultipartFile(
+            "file1", "device-a.json", "application/json", "abc".getBytes()
+        );
+        MultipartFile file2 = new MockMultipartFile(
+            "file2", "device-b.json", "application/json", "abc".getBytes()
+        );
+
+        when(fileRepository.save(any(FileEntity.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        FileEntity result1 = fileStorageService.storeFile(file1, FileType.JSON);
+        FileEntity result2 = fileStorageService.storeFile(file2, FileType.JSON);
+
+        // Then
+        assertThat(result1.getContentHash())
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        assertThat(result2.getContentHash()).isEqualTo(result1.getContentHash());
+    }
+
+    @Test
+    @DisplayName("저장한 파일 삭제 - 파일과 디렉토리를 지운다")
+    void deleteStoredFile_Success() {
+        // Given
+        MultipartFile file = new MockMultipartFile(
+            "file", "test.json", "application/json", "content".getBytes()
+        );
+        when(fileRepository.save(any(FileEntity.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        FileEntity stored = fileStorageService.storeFile(file, FileType.JSON);
+        Path storedPath = fileStorageService.getStoredPath(stored);
+
+        // When
+        fileStorageService.deleteStoredFile(stored);
+
+        // Then
+        assertThat(Files.exists(storedPath)).isFalse();
+        assertThat(Files.exists(storedPath.getParent())).isFalse();
+    }
 }
@@ -6,6 +6,7 @@ import com.core.data_pipeline_platform.domain.file.repository.FileRepository;
 import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
 import com.core.data_pipeline_platform.domain.parse.repository.ParsedDataRepository;
 import com.core.data_pipeline_platform.domain.parse.service.DataParsingService;
+import com.core.data_pipeline_platform.domain.parse.service.SensorIndexService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -42,6 +44,9 @@ class FileUploadServiceTest {
     @Mock
     private ParsedDataRepository parsedDataRepository;
 
+    @Mock
+    private SensorIndexService sensorIndexService;
+
     @InjectMocks  // Mock 객체들을 주입받는 실제 테스트 대상
     private FileUploadService fileUploadService;
 
@@ -79,7 +84,7 @@ class FileUploadServiceTest {
         ParsedDataEntity parsedData = ParsedDataEntity.builder()
                 .id(1L)
                 .file(savedFile)
-                .data("{name : test")
+                .recordCount(1)
                 .build();
 
         given(dataParsingService.parseToEntity(any(FileType.class), any(InputStream.class), any(FileEntity.class)))
@@ -99,6 +104,51 @@ class FileUploadServiceTest {
         then(fileStorageService).should().storeFile(mockFile, FileType.JSON);
         then(dataParsingService).should().parseToEntity(any(FileType.class), any(InputStream.class), any(FileEntity.class));
         then(parsedDataRepository).should().save(any(ParsedDataEntity.class));
+        then(sensorIndexService).should().index(parsedData);
+    }
+
+    @Test
+    @DisplayName("내용이 같은 파일이 이미 파싱됨 - 사본을 지우고 기존 결과에 연결, 다시 파싱하지 않음")
+    void uploadFile_SameContent_LinksExistingResult() {
+        // Given
+        given(fileRepository.existsByOriginName("test.json"))
+            .willReturn(false);
+
+        FileEntity sourceFile = FileEntity.builder()
+            .id(1L)
+            .fileType(FileType.JSON)
+            .originName("original.json")
+            .directoryName("source-directory")
+            .storedName("source-stored")
+            .contentHash("abc123")
+            .build();
+        FileEntity savedFile = FileEntity.builder()
+            .id(2L)
+            .fileType(FileType.JSON)
+            .originName("test.json")
+            .directoryName("uuid-directory")
+            .storedName("uuid-stored")
+            .contentHash("abc123")
+            .build();
+
+        given(fileStorageService.storeFile(mockFile, FileType.JSON))
+            .willReturn(savedFile);
+        given(parsedDataRepository.findFirstByFile_ContentHashAndFile_FileTypeOrderByIdAsc("abc123", FileType.JSON))
+            .willReturn(Optional.of(ParsedDataEntity.builder().id(1L).file(sourceFile).recordCount(1).build()));
+
+        // When
+        Long result = fileUploadService.uploadFile(mockFile);
+
+        // Then
+        assertThat(result).isEqualTo(2L);
+        assertThat(savedFile.getSourceFileId()).isEqualTo(1L);
+        assertThat(savedFile.getDirectoryName()).isEqualTo("source-directory");
+        assertThat(savedFile.getStoredName()).isEqualTo("source-stored");
+
+        then(fileStorageService).should().deleteStoredFile(savedFile);
+        then(dataParsingService).should(never()).parseToEntity(any(FileType.class), any(InputStream.class), any(FileEntity.class));
+        then(parsedDataRepository).should(never()).save(any(ParsedDataEntity.class));
+        then(sensorIndexService).should(never()).index(any());
     }
 
     @Test
@@ -203,7 +253,7 @@ class FileUploadServiceTest {
         ParsedDataEntity parsedData = ParsedDataEntity.builder()
                 .id(1L)
                 .file(savedFile)
-                .data("{name : test")
+                .recordCount(1)
                 .build();
 
         given(dataParsingService.parseToEntity(any(FileType.class), any(InputStream.class), any(FileEntity.class)))
@@ -1,7 +1,7 @@
 package com.core.data_pipeline_platform.domain.generator.service;
 
 import com.core.data_pipeline_platform.domain.generator.dto.GenerateRequest;
-import com.core.data_pipeline_platform.domain.generator.model.SensorData;
+import com.core.data_pipeline_platform.domain.parse.model.BinFormat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,8 +39,8 @@ class BinFileGeneratorTest {
         assertNotNull(result, "결과가 null이 아니어야 함");
         assertTrue(result.length > 0, "결과가 비어있지 않아야 함");
         
-        // 최소한의 헤더 크기 확인 (레코드 개수 4바이트)
-        assertTrue(result.length >= 4, "최소 헤더 크기는 4바이트여야 함");
+        // 최소한의 헤더 크기 확인 (매직 + 버전 + 레코드 개수 12바이트)
+        assertTrue(result.length >= 12, "최소 헤더 크기는 12바이트여야 함");
         
         System.out.println("Generated binary size: " + result.length + " bytes");
     }
@@ -58,7 +58,10 @@ class BinFileGeneratorTest {
         // Then
         try (ByteArrayInputStream byteStream = new ByteArrayInputStream(result);
              DataInputStream dataStream = new DataInputStream(byteStream)) {
-            
+
+            assertEquals(BinFormat.MAGIC, dataStream.readInt(), "매직 넘버가 일치해야 함");
+            assertEquals(BinFormat.VERSION_2, dataStream.readInt(), "버전이 일치해야 함");
+
             // 헤더에서 레코드 개수 읽기
             int actualRecordCount = dataStream.readInt();
             assertEquals(expectedRecordCount, actualRecordCount, 
@@ -80,24 +83,30 @@ class BinFileGeneratorTest {
              DataInputStream dataStream = new DataInputStream(byteStream)) {
             
             // 헤더 읽기
+            dataStream.readInt();
+            dataStream.readInt();
             int recordCount = dataStream.readInt();
             assertEquals(2, recordCount, "레코드 개수 확인");
-            
-            // 첫 번째 레코드 검증
-            SensorData firstRecord = readRecord(dataStream);
-            assertNotNull(firstRecord, "첫 번째 레코드가 존재해야 함");
-            assertTrue(firstRecord.getSensorId().startsWith("SENSOR_"),
-                "sensorId는 SENSOR_로 시작해야 함");
-            assertTrue(firstRecord.getValue() >= 0 && firstRecord.getValue() <= 100,
-                "value는 0-100 범위여야 함");
-            assertEquals("NORMAL", firstRecord.getStatus(), "status는 NORMAL이어야 함");
-            assertNotNull(firstRecord.getTimestamp(), "timestamp는 null이 아니어야 함");
-            
-            // 두 번째 레코드 검증
-            SensorData secondRecord = readRecord(dataStream);
-            assertNotNull(secondRecord, "두 번째 레코드가 존재해야 함");
-            assertTrue(secondRecord.getSensorId().startsWith("SENSOR_"),
-                "sensorId는 SENSOR_로 시작해야 함");
+
+            // 사전 검증: sensorId 는 레코드마다 다르고 status 는 하나로 합쳐진다.
+            String[] sensorIds = readDictionary(dataStream);
+            String[] statuses = readDictionary(dataStream);
+            assertEquals(2, sensorIds.length, "sensorId 사전 크기 확인");
+            assertTrue(sensorIds[0].startsWith("SENSOR_"), "sensorId는 SENSOR_로 시작해야 함");
+            assertArrayEquals(new String[]{"NORMAL"}, statuses, "status 사전은 NORMAL 하나여야 함");
+
+            // 컬럼 블록 검증
+            assertEquals(2, dataStream.readInt(), "블록 레코드 개수 확인");
+            assertEquals(0, dataStream.readInt(), "첫 번째 sensorId 인덱스");
+            assertEquals(1, dataStream.readInt(), "두 번째 sensorId 인덱스");
+            assertEquals(0, dataStream.readInt(), "첫 번째 status 인덱스");
+            assertEquals(0, dataStream.readInt(), "두 번째 status 인덱스");
+            assertNotEquals(BinFormat.NULL_TIMESTAMP, dataStream.readLong(), "timestamp는 비어있지 않아야 함");
+            assertNotEquals(BinFormat.NULL_TIMESTAMP, dataStream.readLong(), "timestamp는 비어있지 않아야 함");
+            double firstValue = dataStream.readDouble();
+            assertTrue(firstValue >= 0 && firstValue <= 100, "value는 0-100 범위여야 함");
+            dataStream.readDouble();
+            assertEquals(-1, dataStream.read(), "블록 뒤에 남은 데이터가 없어야 함");
         }
     }
 
@@ -115,30 +124,29 @@ class BinFileGeneratorTest {
              DataInputStream dataStream = new DataInputStream(byteStream)) {
             
             // 헤더 건너뛰기
-            dataStream.readInt();
+            dataStream.skipBytes(12);
             
-            // 첫 번째 레코드의 sensorId 읽기
-            SensorData record = readRecord(dataStream);
+            // sensorId 사전의 첫 번째 항목 읽기
+            String sensorId = readDictionary(dataStream)[0];
             
             // UTF-8로 인코딩된 문자열이 올바르게 디코딩되는지 확인
             assertDoesNotThrow(() -> {
-                byte[] sensorIdBytes = record.getSensorId().getBytes(StandardCharsets.UTF_8);
+                byte[] sensorIdBytes = sensorId.getBytes(StandardCharsets.UTF_8);
                 String decoded = new String(sensorIdBytes, StandardCharsets.UTF_8);
-                assertEquals(record.getSensorId(), decoded, "UTF-8 인코딩/디코딩이 일치해야 함");
+                assertEquals(sensorId, decoded, "UTF-8 인코딩/디코딩이 일치해야 함");
             });
         }
     }
 
     /**
-     * 바이너리 스트림에서 센서 데이터 레코드 읽기
+     * 바이너리 스트림에서 사전 읽기 (항목 수 + 문자열 목록)
      */
-    private SensorData readRecord(DataInputStream dataStream) throws IOException {
-        return SensorData.builder()
-                .sensorId(readString(dataStream)) // sensorId 읽기
-                .value(dataStream.readDouble())  // value 읽기
-                .timestamp(readString(dataStream)) // timestamp 읽기
-                .status(readString(dataStream)) // status 읽기
-                .build();
+    private String[] readDictionary(DataInputStream dataStream) throws IOException {
+        String[] entries = new String[dataStream.readInt()];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = readString(dataStream);
+        }
+        return entries;
     }
     
     /**
@@ -154,4 +162,4 @@ class BinFileGeneratorTest {
         dataStream.readFully(bytes);
         return new String(bytes, StandardCharsets.UTF_8);
     }
-}
+}
\ No newline at end of file
@@ -1,9 +1,28 @@
 package com.core.data_pipeline_platform.domain.parse.controller;
 
 import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
+import com.core.data_pipeline_platform.domain.file.enums.FileProcessingStatus;
 import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.parse.dto.AggregationGroup;
+import com.core.data_pipeline_platform.domain.parse.dto.AggregationResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.CrossFileQueryResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.FileRecord;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedDataStatsResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedDataSummary;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedRecordsResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.RecordCursor;
+import com.core.data_pipeline_platform.domain.parse.dto.RecordQueryResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.SensorSeriesPoint;
+import com.core.data_pipeline_platform.domain.parse.dto.SensorSeriesResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.TimeRangeResponse;
 import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataStats;
+import com.core.data_pipeline_platform.domain.parse.enums.AggregationGroupBy;
+import com.core.data_pipeline_platform.domain.parse.enums.RecordStreamFormat;
+import com.core.data_pipeline_platform.domain.parse.service.ParsedDataAggregationService;
 import com.core.data_pipeline_platform.domain.parse.service.ParsedDataService;
+import com.core.data_pipeline_platform.domain.parse.service.ParsedRecordQueryService;
+import com.core.data_pipeline_platform.domain.parse.service.SensorIndexService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,12 +35,18 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -36,6 +61,15 @@ class ParsedDataControllerTest {
     @MockitoBean
     private ParsedDataService parsedDataService;
 
+    @MockitoBean
+    private ParsedDataAggregationService parsedDataAggregationService;
+
+    @MockitoBean
+    private ParsedRecordQueryService parsedRecordQueryService;
+
+    @MockitoBean
+    private SensorIndexService sensorIndexService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -54,7 +88,8 @@ class ParsedDataControllerTest {
         mockParsedData = ParsedDataEntity.builder()
             .id(1L)
             .file(mockFile)
-            .data("[{\"name\":\"John\",\"age\":25}]")
+            .recordCount(2)
+            .chunkCount(1)
             .build();
 
         mockData = Arrays.asList(
@@ -67,8 +102,9 @@ class ParsedDataControllerTest {
     @DisplayName("모든 파싱된 데이터 조회 - 성공")
     void getAllParsedData_Success() throws Exception {
         // Given
-        List<ParsedDataEntity> entities = Arrays.asList(mockParsedData);
-        Page<ParsedDataEntity> page = new PageImpl<>(entities, PageRequest.of(0, 10), 1);
+        List<ParsedDataSummary> summaries = List.of(
+            new ParsedDataSummary(1L, 1L, "test.json", FileType.JSON, FileProcessingStatus.COMPLETED, 2, 1));
+        Page<ParsedDataSummary> page = new PageImpl<>(summaries, PageRequest.of(0, 10), 1);
 
         given(parsedDataService.getAllParsedData(any()))
             .willReturn(page);
@@ -81,6 +117,8 @@ class ParsedDataControllerTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.content").isArray())
             .andExpect(jsonPath("$.content[0].id").value(1))
+            .andExpect(jsonPath("$.content[0].fileName").value("test.json"))
+            .andExpect(jsonPath("$.content[0].recordCount").value(2))
             .andExpect(jsonPath("$.totalElements").value(1));
     }
 
@@ -91,19 +129,244 @@ class ParsedDataControllerTest {
         Long fileId = 1L;
         given(parsedDataService.getParsedDataByFileId(fileId))
             .willReturn(mockParsedData);
-        given(parsedDataService.getParsedDataAsMap(fileId))
-            .willReturn(mockData);
+        given(parsedDataService.getRequestedFile(fileId, mockParsedData))
+            .willReturn(mockFile);
+        given(parsedDataService.getParsedDataAsMap(eq(fileId), any()))
+            .willReturn(new PageImpl<>(mockData.subList(1, 2), PageRequest.of(1, 1), 2));
 
         // When & Then
         mockMvc.perform(get("/api/parsed-data/{fileId}", fileId)
+                .param("page", "1")
+                .param("size", "1")
                 .contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.id").value(1))
             .andExpect(jsonPath("$.fileId").value(1))
             .andExpect(jsonPath("$.fileName").value("test.json"))
             .andExpect(jsonPath("$.fileType").value("JSON"))
+            .andExpect(jsonPath("$.totalRecords").value(2))
+            .andExpect(jsonPath("$.page").value(1))
             .andExpect(jsonPath("$.data").isArray())
-            .andExpect(jsonPath("$.data[0].name").value("John"));
+            .andExpect(jsonPath("$.data[0].name").value("Jane"));
+    }
+
+    @Test
+    @DisplayName("레코드 집계 - groupBy 와 interval 을 넘긴다")
+    void aggregate_Success() throws Exception {
+        // Given
+        Long fileId = 1L;
+        AggregationResponse response = AggregationResponse.builder()
+            .fileId(fileId)
+            .groupBy(Set.of(AggregationGroupBy.SENSOR_ID))
+            .interval("PT1H")
+            .recordCount(2)
+            .groupCount(1)
+            .groups(List.of(AggregationGroup.builder()
+                .sensorId("sensor-1")
+                .bucketStart("2024-01-01T00:00:00Z")
+                .count(2)
+                .valueCount(2)
+                .sum(4.0)
+                .min(1.0)
+                .max(3.0)
+                .avg(2.0)
+                .build()))
+            .build();
+        given(parsedDataAggregationService.aggregate(fileId, Set.of(AggregationGroupBy.SENSOR_ID), Duration.ofHours(1)))
+            .willReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/parsed-data/{fileId}/aggregate", fileId)
+                .param("groupBy", "SENSOR_ID")
+                .param("interval", "PT1H"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.groupCount").value(1))
+            .andExpect(jsonPath("$.groups[0].sensorId").value("sensor-1"))
+            .andExpect(jsonPath("$.groups[0].bucketStart").value("2024-01-01T00:00:00Z"))
+            .andExpect(jsonPath("$.groups[0].avg").value(2.0));
+    }
+
+    @Test
+    @DisplayName("조건/필드 지정 레코드 조회 - 성공")
+    void query_Success() throws Exception {
+        // Given
+        Long fileId = 1L;
+        RecordQueryResponse response = RecordQueryResponse.builder()
+            .fileId(fileId)
+            .fields(Set.of("name"))
+            .filters(List.of("age>=30"))
+            .count(1)
+            .truncated(false)
+            .records(List.of(Map.of("name", "Jane")))
+            .build();
+        given(parsedRecordQueryService.query(fileId, "name", List.of("age>=30"), 100)).willReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/parsed-data/{fileId}/query", fileId)
+                .param("fields", "name")
+                .param("filter", "age>=30"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.count").value(1))
+            .andExpect(jsonPath("$.truncated").value(false))
+            .andExpect(jsonPath("$.records[0].name").value("Jane"))
+            .andExpect(jsonPath("$.records[0].age").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("시간 범위 레코드 조회 - 성공")
+    void queryTimeRange_Success() throws Exception {
+        // Given
+        Long fileId = 1L;
+        TimeRangeResponse response = TimeRangeResponse.builder()
+            .fileId(fileId)
+            .from("2024-01-01T00:00:00Z")
+            .to("2024-01-01T01:00:00Z")
+            .chunkCount(10)
+            .scannedChunks(1)
+            .count(1)
+            .records(List.of(Map.of("sensorId", "sensor-1", "timestamp", "2024-01-01T00:30:00")))
+            .build();
+        given(parsedRecordQueryService.queryTimeRange(fileId, "2024-01-01T00:00:00", "2024-01-01T01:00:00", null, 100))
+            .willReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/parsed-data/{fileId}/range", fileId)
+                .param("from", "2024-01-01T00:00:00")
+                .param("to", "2024-01-01T01:00:00"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.scannedChunks").value(1))
+            .andExpect(jsonPath("$.records[0].timestamp").value("2024-01-01T00:30:00"));
+    }
+
+    @Test
+    @DisplayName("파일 간 조회 - 성공")
+    void queryFiles_Success() throws Exception {
+        // Given
+        CrossFileQueryResponse response = CrossFileQueryResponse.builder()
+            .fields(Set.of("value"))
+            .filters(List.of("sensorId=sensor-1"))
+            .scannedFiles(1)
+            .skippedFiles(4)
+            .count(1)
+            .records(List.of(FileRecord.builder().fileId(3L).record(Map.of("value", 12.5)).build()))
+            .build();
+        given(parsedRecordQueryService.queryFiles("value", List.of("sensorId=sensor-1"), 100)).willReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/parsed-data/query")
+                .param("fields", "value")
+                .param("filter", "sensorId=sensor-1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.skippedFiles").value(4))
+            .andExpect(jsonPath("$.records[0].fileId").value(3))
+            .andExpect(jsonPath("$.records[0].record.value").value(12.5));
+    }
+
+    @Test
+    @DisplayName("센서 시계열 조회 - 성공")
+    void getSensorSeries_Success() throws Exception {
+        // Given
+        SensorSeriesResponse response = SensorSeriesResponse.builder()
+            .sensorId("sensor-1")
+            .fileCount(2)
+            .scannedRanges(3)
+            .count(2)
+            .points(List.of(
+                SensorSeriesPoint.builder().fileId(2L)
+                    .record(Map.of("sensorId", "sensor-1", "timestamp", "2024-01-01T00:00:00")).build(),
+                SensorSeriesPoint.builder().fileId(1L)
+                    .record(Map.of("sensorId", "sensor-1", "timestamp", "2024-01-01T00:30:00")).build()))
+            .build();
+        given(sensorIndexService.getSeries("sensor-1", null, null, 100)).willReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/parsed-data/sensors/{sensorId}/series", "sensor-1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.fileCount").value(2))
+            .andExpect(jsonPath("$.points[0].fileId").value(2))
+            .andExpect(jsonPath("$.points[1].record.timestamp").value("2024-01-01T00:30:00"));
+    }
+
+    @Test
+    @DisplayName("파일 통계 조회 - 성공")
+    void getStats_Success() throws Exception {
+        // Given
+        Long fileId = 1L;
+        ParsedDataEntity parsedData = ParsedDataEntity.builder()
+            .id(1L)
+            .file(mockFile)
+            .recordCount(2)
+            .chunkCount(1)
+            .stats(ParsedDataStats.builder()
+                .valueCount(2L)
+                .valueMin(1.0)
+                .valueMax(3.0)
+                .valueSum(4.0)
+                .timestampMin(1_704_067_200_000_000L)
+                .timestampMax(1_704_153_600_000_000L)
+                .sensorCount(2)
+                .sensorCountExact(true)
+                .statusCounts(Map.of("NORMAL", 2L))
+                .build())
+            .build();
+        given(parsedDataService.getStats(fileId)).willReturn(ParsedDataStatsResponse.from(mockFile, parsedData));
+
+        // When & Then
+        mockMvc.perform(get("/api/parsed-data/{fileId}/stats", fileId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.fileId").value(1))
+            .andExpect(jsonPath("$.recordCount").value(2))
+            .andExpect(jsonPath("$.valueAvg").value(2.0))
+            .andExpect(jsonPath("$.timestampFrom").value("2024-01-01T00:00:00Z"))
+            .andExpect(jsonPath("$.timestampTo").value("2024-01-02T00:00:00Z"))
+            .andExpect(jsonPath("$.sensorCount").value(2))
+            .andExpect(jsonPath("$.statusCounts.NORMAL").value(2));
+    }
+
+    @Test
+    @DisplayName("레코드 범위 조회 - 커서가 있으면 커서로 조회")
+    void getRecords_WithCursor() throws Exception {
+        // Given
+        Long fileId = 1L;
+        String cursor = RecordCursor.encode(fileId, 1);
+        given(parsedDataService.getRecordsAfter(fileId, cursor, 1))
+            .willReturn(ParsedRecordsResponse.of(mockParsedData, 1, mockData.subList(1, 2)));
+
+        // When & Then
+        mockMvc.perform(get("/api/parsed-data/{fileId}/records", fileId)
+                .param("cursor", cursor)
+                .param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.offset").value(1))
+            .andExpect(jsonPath("$.totalRecords").value(2))
+            .andExpect(jsonPath("$.records[0].name").value("Jane"))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("파싱된 데이터 스트리밍 조회 - NDJSON")
+    void streamParsedData_Ndjson() throws Exception {
+        // Given
+        Long fileId = 1L;
+        given(parsedDataService.getParsedDataByFileId(fileId))
+            .willReturn(mockParsedData);
+        given(parsedDataService.writeRecords(eq(fileId), eq(RecordStreamFormat.NDJSON), any(OutputStream.class)))
+            .willAnswer(invocation -> {
+                invocation.getArgument(2, OutputStream.class)
+                    .write("{\"name\":\"John\"}\n{\"name\":\"Jane\"}\n".getBytes(StandardCharsets.UTF_8));
+                return 2L;
+            });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/parsed-data/{fileId}/stream", fileId))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andExpect(content().string("{\"name\":\"John\"}\n{\"name\":\"Jane\"}\n"));
     }
 
     @Test
@@ -0,0 +1,135 @@
+package com.core.data_pipeline_platform.domain.parse.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RecordBatch 테스트")
+class RecordBatchTest {
+
+    @Test
+    @DisplayName("타입별 컬럼 저장과 Map 변환")
+    void toMaps_typedColumns() {
+        // Given
+        RecordBatch batch = new RecordBatch();
+        int sensorId = batch.column("sensorId");
+        int value = batch.column("value");
+        int count = batch.column("count");
+        int active = batch.column("active");
+
+        // When
+        batch.startRow();
+        batch.putString(sensorId, "S-1");
+        batch.putDouble(value, 1.5);
+        batch.putLong(count, 3);
+        batch.putBoolean(active, true);
+        batch.startRow();
+        batch.putString(sensorId, "S-1");
+        batch.putDouble(value, 2.5);
+        batch.putLong(count, 5_000_000_000L);
+        batch.putNull(active);
+
+        // Then
+        assertEquals(ColumnType.STRING, batch.columnType(sensorId));
+        assertEquals(ColumnType.DOUBLE, batch.columnType(value));
+        assertEquals(ColumnType.LONG, batch.columnType(count));
+        assertEquals(ColumnType.BOOLEAN, batch.columnType(active));
+        assertEquals(2.5, batch.getDouble(value, 1));
+
+        List<Map<String, Object>> records = batch.toMaps();
+        assertEquals(Map.of("sensorId", "S-1", "value", 1.5, "count", 3, "active", true), records.get(0));
+        assertEquals(5_000_000_000L, records.get(1).get("count"));
+        assertTrue(records.get(1).containsKey("active"));
+        assertNull(records.get(1).get("active"));
+    }
+
+    @Test
+    @DisplayName("없는 키와 null 구분")
+    void toMap_absentKeyOmitted() {
+        // Given
+        RecordBatch batch = new RecordBatch();
+
+        // When
+        batch.startRow();
+        batch.putValue("a", 1);
+        batch.startRow();
+        batch.putValue("b", "x");
+
+        // Then
+        assertEquals(Map.of("a", 1), batch.toMap(0));
+        assertEquals(Map.of("b", "x"), batch.toMap(1));
+        assertFalse(batch.isPresent(batch.columnIndex("a"), 1));
+        assertEquals(-1, batch.columnIndex("c"));
+    }
+
+    @Test
+    @DisplayName("타입이 섞인 컬럼은 값을 그대로 보존")
+    void putValue_mixedTypes_keepsValues() {
+        // Given
+        RecordBatch batch = new RecordBatch();
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("unit", "C");
+
+        // When
+        batch.startRow();
+        batch.putValue("x", 30);
+        batch.startRow();
+        batch.putValue("x", 25.5);
+        batch.startRow();
+        batch.putValue("x", nested);
+
+        // Then
+        assertEquals(ColumnType.OBJECT, batch.columnType(0));
+        assertEquals(30, batch.getValue(0, 0));
+        assertEquals(25.5, batch.getValue(0, 1));
+        assertEquals(nested, batch.getValue(0, 2));
+    }
+
+    @Test
+    @DisplayName("clear 후 컬럼 인덱스는 유지되고 타입은 초기화")
+    void clear_keepsColumns() {
+        // Given
+        RecordBatch batch = new RecordBatch();
+        int column = batch.column("x");
+        batch.startRow();
+        batch.putString(column, "a");
+
+        // When
+        batch.clear();
+        batch.startRow();
+        batch.putDouble(column, 1.0);
+
+        // Then
+        assertEquals(1, batch.size());
+        assertEquals(column, batch.column("x"));
+        assertEquals(ColumnType.DOUBLE, batch.columnType(column));
+        assertEquals(Map.of("x", 1.0), batch.toMap(0));
+    }
+
+    @Test
+    @DisplayName("reset 후 컬럼 정의까지 비워지고 새 컬럼은 이전 값 없이 시작")
+    void reset_dropsColumns() {
+        // Given
+        RecordBatch batch = new RecordBatch();
+        int old = batch.column("old");
+        batch.startRow();
+        batch.putLong(old, 7);
+
+        // When
+        batch.reset();
+        int column = batch.column("new");
+        batch.startRow();
+        batch.putString(column, "a");
+
+        // Then
+        assertEquals(1, batch.columnCount());
+        assertEquals(-1, batch.columnIndex("old"));
+        assertEquals(ColumnType.STRING, batch.columnType(column));
+        assertEquals(Map.of("new", "a"), batch.toMap(0));
+    }
+}
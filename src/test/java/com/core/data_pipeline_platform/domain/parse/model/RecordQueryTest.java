@@ -0,0 +1,110 @@
+package com.core.data_pipeline_platform.domain.parse.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RecordQuery 테스트")
+class RecordQueryTest {
+
+    @Test
+    @DisplayName("필드와 필터 파싱 - 조건 필드도 읽는다")
+    void parse_fieldsAndFilters() {
+        // When
+        RecordQuery query = RecordQuery.parse("sensorId, value", List.of("status == ERROR", "value>=10"));
+
+        // Then
+        assertEquals(Set.of("sensorId", "value"), query.getFields());
+        assertEquals(2, query.getConditions().size());
+        assertEquals(RecordQuery.Operator.EQ, query.getConditions().get(0).operator());
+        assertEquals("ERROR", query.getConditions().get(0).operand());
+        assertEquals("value>=10", query.getConditions().get(1).toString());
+        assertTrue(query.reads("status"));
+        assertFalse(query.reads("timestamp"));
+    }
+
+    @Test
+    @DisplayName("필드와 필터가 없으면 모든 필드")
+    void parse_empty_returnsAll() {
+        // When
+        RecordQuery query = RecordQuery.parse(" ", null);
+
+        // Then
+        assertSame(RecordQuery.ALL, query);
+        assertTrue(query.reads("anything"));
+        assertFalse(query.hasConditions());
+    }
+
+    @Test
+    @DisplayName("잘못된 필터 - 예외 발생")
+    void parse_invalidFilter_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> RecordQuery.parse(null, List.of("value")));
+        assertThrows(IllegalArgumentException.class, () -> RecordQuery.parse(null, List.of(">=10")));
+        assertThrows(IllegalArgumentException.class, () -> RecordQuery.parse(null, List.of("value!10")));
+    }
+
+    @Test
+    @DisplayName("숫자, 시각, 문자열 비교와 없는 필드")
+    void matches_comparesByType() {
+        // Given
+        RecordBatch batch = new RecordBatch();
+        int value = batch.column("value");
+        int text = batch.column("text");
+        int timestamp = batch.column("timestamp");
+        batch.startRow();
+        batch.putDouble(value, 12.5);
+        batch.putString(text, "9");
+        batch.putTimestamp(timestamp, EpochMicros.parse("2024-01-01T00:00:00"));
+        batch.startRow();
+        batch.putString(text, "B");
+        batch.putNull(timestamp);
+
+        // Then
+        assertTrue(RecordQuery.parse(null, List.of("value>10", "value<=12.5")).matches(batch, 0));
+        // 문자열이어도 양쪽이 숫자면 숫자로 비교한다. ("9" < "10" 은 문자열로는 false)
+        assertTrue(RecordQuery.parse(null, List.of("text<10")).matches(batch, 0));
+        assertTrue(RecordQuery.parse(null, List.of("timestamp>=2023-12-31T23:00:00Z")).matches(batch, 0));
+        assertTrue(RecordQuery.parse(null, List.of("text>A")).matches(batch, 1));
+        assertFalse(RecordQuery.parse(null, List.of("value>10")).matches(batch, 1));
+        assertFalse(RecordQuery.parse(null, List.of("timestamp!=2024-01-01T00:00")).matches(batch, 1));
+        assertFalse(RecordQuery.parse(null, List.of("missing=1")).matches(batch, 0));
+    }
+
+    @Test
+    @DisplayName("select - 프로젝션 필드만, 행에 없는 필드는 제외")
+    void select_projectedFieldsOnly() {
+        // Given
+        RecordBatch batch = new RecordBatch();
+        batch.startRow();
+        batch.putValue("sensorId", "S-1");
+        batch.putValue("value", 1.5);
+        batch.putValue("status", "OK");
+        RecordQuery query = RecordQuery.parse("sensorId,unit", List.of("value>1"));
+
+        // When
+        Map<String, Object> record = query.select(batch, 0);
+
+        // Then
+        assertEquals(Map.of("sensorId", "S-1"), record);
+        assertFalse(query.matches("value", 0.5));
+        assertTrue(query.matches("other", 0.5));
+    }
+
+    @Test
+    @DisplayName("comparesAsText - 숫자나 시각이 아닌 피연산자만 문자열 비교")
+    void comparesAsText_onlyPlainText() {
+        // Given
+        List<RecordQuery.Condition> conditions = RecordQuery.parse(null,
+                List.of("sensorId=S-1", "sensorId=10", "timestamp=2024-01-01T00:00:00Z")).getConditions();
+
+        // Then
+        assertTrue(conditions.get(0).comparesAsText());
+        assertFalse(conditions.get(1).comparesAsText());
+        assertFalse(conditions.get(2).comparesAsText());
+    }
+}
@@ -0,0 +1,54 @@
+package com.core.data_pipeline_platform.domain.parse.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SensorBloomFilter 테스트")
+class SensorBloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있다고 하고, 넣지 않은 값의 오탐은 설정한 비율 근처다")
+    void mightContain_noFalseNegatives() {
+        // Given
+        SensorBloomFilter filter = SensorBloomFilter.create(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("sensor-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 1000; i < 11000; i++) {
+            if (filter.mightContain("sensor-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("sensor-" + i));
+        }
+        assertTrue(falsePositives < 300, "오탐 " + falsePositives + " / 10000");
+    }
+
+    @Test
+    @DisplayName("바이트로 저장했다 읽어도 같은 결과를 준다")
+    void toBytes_roundTrip() {
+        // Given
+        SensorBloomFilter filter = SensorBloomFilter.create(3, 0.01);
+        filter.add("s1");
+        filter.add("온도-1");
+
+        // When
+        SensorBloomFilter restored = SensorBloomFilter.fromBytes(filter.toBytes());
+
+        // Then
+        assertNotNull(restored);
+        assertTrue(restored.mightContain("s1"));
+        assertTrue(restored.mightContain("온도-1"));
+        assertFalse(restored.mightContain("s2"));
+        assertNull(SensorBloomFilter.fromBytes(null));
+        assertNull(SensorBloomFilter.fromBytes(new byte[]{9, 1, 0, 0, 0, 0, 0, 0, 0, 0}));
+    }
+}
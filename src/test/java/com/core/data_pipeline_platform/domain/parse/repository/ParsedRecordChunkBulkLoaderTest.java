@@ -0,0 +1,70 @@
+package com.core.data_pipeline_platform.domain.parse.repository;
+
+import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import com.core.data_pipeline_platform.domain.parse.enums.ChunkEncoding;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParsedRecordChunkBulkLoader 테스트")
+class ParsedRecordChunkBulkLoaderTest {
+
+    @Test
+    @DisplayName("TSV 행은 역슬래시/탭/줄바꿈을 이스케이프한다")
+    void writeRow_escapesSpecialCharacters() throws Exception {
+        // Given
+        ParsedRecordChunkEntity chunk = ParsedRecordChunkEntity.builder()
+                .file(FileEntity.builder().id(7L).build())
+                .firstRecord(1000)
+                .recordCount(2)
+                .data("[{\"a\":\"x\\\"y\"},{\"b\":\"1\t2\n3\r\"}]")
+                .build();
+        StringWriter out = new StringWriter();
+
+        // When
+        ParsedRecordChunkBulkLoader.writeRow(out, chunk);
+
+        // Then
+        assertEquals("7\t1000\t2\t\\N\t[{\"a\":\"x\\\\\"y\"},{\"b\":\"1\\t2\\n3\\r\"}]\t\\N\t\\N\t\\N\n", out.toString());
+    }
+
+    @Test
+    @DisplayName("압축된 청크의 본문은 16진수로, 시간 범위는 마이크로초로 쓴다")
+    void writeRow_deflated_writesPayloadAsHex() throws Exception {
+        // Given
+        ParsedRecordChunkEntity chunk = ParsedRecordChunkEntity.builder()
+                .file(FileEntity.builder().id(7L).build())
+                .firstRecord(0)
+                .recordCount(1)
+                .encoding(ChunkEncoding.DEFLATE)
+                .data("")
+                .payload(new byte[]{0x78, (byte) 0x9C, 0x0A})
+                .timestampMin(1_700_000_000_000_000L)
+                .timestampMax(1_700_000_001_000_000L)
+                .build();
+        StringWriter out = new StringWriter();
+
+        // When
+        ParsedRecordChunkBulkLoader.writeRow(out, chunk);
+
+        // Then
+        assertEquals("7\t0\t1\tDEFLATE\t\t789C0A\t1700000000000000\t1700000001000000\n", out.toString());
+    }
+
+    @Test
+    @DisplayName("MariaDB 가 아니면 벌크 적재를 지원하지 않는다")
+    void isSupported_h2_returnsFalse() {
+        // Given
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:bulk-loader-test");
+        ParsedRecordChunkBulkLoader loader = new ParsedRecordChunkBulkLoader(new JdbcTemplate(dataSource));
+
+        // When & Then
+        assertFalse(loader.isSupported());
+    }
+}
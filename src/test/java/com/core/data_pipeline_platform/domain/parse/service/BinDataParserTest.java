@@ -3,15 +3,23 @@ package com.core.data_pipeline_platform.domain.parse.service;
 import com.core.data_pipeline_platform.domain.file.enums.FileType;
 import com.core.data_pipeline_platform.domain.generator.dto.GenerateRequest;
 import com.core.data_pipeline_platform.domain.generator.service.BinFileGenerator;
+import com.core.data_pipeline_platform.domain.parse.model.ColumnType;
+import com.core.data_pipeline_platform.domain.parse.model.RecordQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -96,4 +104,163 @@ class BinDataParserTest {
         });
     }
 
+    @Test
+    @DisplayName("v2 파일 - 사전과 컬럼에서 레코드 복원")
+    void parseData_columnarFile_restoresRecords() {
+        // Given
+        byte[] binData = binFileGenerator.generateFile(new GenerateRequest("test.bin", 3));
+
+        // When
+        List<Map<String, Object>> result = binDataParser.parseData(FileType.BIN, new ByteArrayInputStream(binData));
+
+        // Then
+        assertEquals(3, result.size());
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> record = result.get(i);
+            assertEquals("SENSOR_" + i, record.get("sensorId"));
+            assertEquals("NORMAL", record.get("status"));
+            assertInstanceOf(Double.class, record.get("value"));
+            assertDoesNotThrow(() -> Instant.parse((String) record.get("timestamp")));
+        }
+    }
+
+    @Test
+    @DisplayName("v1 레거시 파일 파싱 성공")
+    void parseData_legacyRowFile_success() throws IOException {
+        // Given
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        DataOutputStream dataStream = new DataOutputStream(byteStream);
+        dataStream.writeInt(1);
+        writeString(dataStream, "SENSOR_0");
+        dataStream.writeDouble(12.5);
+        writeString(dataStream, "2024-01-01T00:00:00");
+        writeString(dataStream, "NORMAL");
+        dataStream.close();
+
+        // When
+        List<Map<String, Object>> result = binDataParser.parseData(FileType.BIN, new ByteArrayInputStream(byteStream.toByteArray()));
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("SENSOR_0", result.get(0).get("sensorId"));
+        assertEquals(12.5, result.get(0).get("value"));
+        assertEquals("2024-01-01T00:00:00", result.get(0).get("timestamp"));
+        assertEquals("NORMAL", result.get(0).get("status"));
+    }
+
+    @Test
+    @DisplayName("query - 스트림과 메모리 매핑 모두 필요한 필드만 읽고 조건에 맞는 행만 전달")
+    void parse_query_projectsAndFilters(@TempDir Path tempDir) throws IOException {
+        // Given
+        byte[] binData = binFileGenerator.generateFile(new GenerateRequest("test.bin", 5));
+        Path file = tempDir.resolve("test.bin");
+        Files.write(file, binData);
+        RecordQuery query = RecordQuery.parse("sensorId", List.of("sensorId!=SENSOR_1", "sensorId<SENSOR_4"));
+
+        // When
+        List<Map<String, Object>> streamed = new ArrayList<>();
+        binDataParser.parse(FileType.BIN, new ByteArrayInputStream(binData), query, batch -> streamed.addAll(batch.toMaps()));
+        List<Map<String, Object>> mapped = new ArrayList<>();
+        binDataParser.parse(FileType.BIN, file, query, batch -> mapped.addAll(batch.toMaps()));
+
+        // Then
+        assertEquals(List.of(Map.of("sensorId", "SENSOR_0"), Map.of("sensorId", "SENSOR_2"), Map.of("sensorId", "SENSOR_3")),
+                streamed);
+        assertEquals(streamed, mapped);
+    }
+
+    @Test
+    @DisplayName("v2 파일 - timestamp 는 문자열로 바꾸지 않고 TIMESTAMP 컬럼에 epoch 마이크로초로 쓴다")
+    void parse_columnarFile_keepsTimestampMicros(@TempDir Path tempDir) throws IOException {
+        // Given
+        byte[] binData = binFileGenerator.generateFile(new GenerateRequest("test.bin", 3));
+        Path file = tempDir.resolve("test.bin");
+        Files.write(file, binData);
+        RecordQuery query = RecordQuery.parse("timestamp", List.of());
+
+        // When
+        List<ColumnType> types = new ArrayList<>();
+        List<Map<String, Object>> mapped = new ArrayList<>();
+        binDataParser.parse(FileType.BIN, new ByteArrayInputStream(binData), query,
+                batch -> types.add(batch.columnType(batch.columnIndex("timestamp"))));
+        binDataParser.parse(FileType.BIN, file, query, batch -> {
+            types.add(batch.columnType(batch.columnIndex("timestamp")));
+            mapped.addAll(batch.toMaps());
+        });
+
+        // Then
+        assertEquals(List.of(ColumnType.TIMESTAMP, ColumnType.TIMESTAMP), types);
+        assertEquals(3, mapped.size());
+        for (Map<String, Object> record : mapped) {
+            assertDoesNotThrow(() -> Instant.parse((String) record.get("timestamp")));
+        }
+    }
+
+    @Test
+    @DisplayName("query - v1 파일에서 value 조건으로 거르고 문자열 필드는 건너뜀")
+    void parse_query_legacyRowFile_filtersByValue() throws IOException {
+        // Given
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        DataOutputStream dataStream = new DataOutputStream(byteStream);
+        dataStream.writeInt(2);
+        for (int i = 0; i < 2; i++) {
+            writeString(dataStream, "SENSOR_" + i);
+            dataStream.writeDouble(i * 10.0);
+            writeString(dataStream, "2024-01-01T00:00:00");
+            writeString(dataStream, "NORMAL");
+        }
+        dataStream.close();
+        RecordQuery query = RecordQuery.parse("value", List.of("value>5"));
+
+        // When
+        List<Map<String, Object>> result = new ArrayList<>();
+        binDataParser.parse(FileType.BIN, new ByteArrayInputStream(byteStream.toByteArray()), query,
+                batch -> result.addAll(batch.toMaps()));
+
+        // Then
+        assertEquals(List.of(Map.of("value", 10.0)), result);
+    }
+
+    @Test
+    @DisplayName("query - 메모리 매핑 시 sensorId/status = 조건을 바이트로 먼저 걸러도 스트림과 같은 결과")
+    void parse_query_legacyRowFile_pushesDownEqualsFilters(@TempDir Path tempDir) throws IOException {
+        // Given
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        DataOutputStream dataStream = new DataOutputStream(byteStream);
+        String[][] records = {{"SENSOR_0", "ERROR"}, {"SENSOR_1", "NORMAL"}, {"SENSOR_1", "ERROR"}, {"10", "ERROR"}};
+        dataStream.writeInt(records.length);
+        for (int i = 0; i < records.length; i++) {
+            writeString(dataStream, records[i][0]);
+            dataStream.writeDouble(i);
+            writeString(dataStream, "2024-01-01T00:00:00");
+            writeString(dataStream, records[i][1]);
+        }
+        dataStream.close();
+        Path file = tempDir.resolve("legacy.bin");
+        Files.write(file, byteStream.toByteArray());
+        // 숫자 피연산자는 숫자로 비교하므로 "10.0" 은 sensorId "10" 과 같다.
+        RecordQuery textQuery = RecordQuery.parse("value", List.of("sensorId=SENSOR_1", "status=ERROR"));
+        RecordQuery numberQuery = RecordQuery.parse("value", List.of("sensorId=10.0"));
+
+        // When
+        List<Map<String, Object>> streamed = new ArrayList<>();
+        binDataParser.parse(FileType.BIN, new ByteArrayInputStream(byteStream.toByteArray()), textQuery,
+                batch -> streamed.addAll(batch.toMaps()));
+        List<Map<String, Object>> mapped = new ArrayList<>();
+        binDataParser.parse(FileType.BIN, file, textQuery, batch -> mapped.addAll(batch.toMaps()));
+        List<Map<String, Object>> mappedNumber = new ArrayList<>();
+        binDataParser.parse(FileType.BIN, file, numberQuery, batch -> mappedNumber.addAll(batch.toMaps()));
+
+        // Then
+        assertEquals(List.of(Map.of("sensorId", "SENSOR_1", "value", 2.0, "status", "ERROR")), streamed);
+        assertEquals(streamed, mapped);
+        assertEquals(List.of(Map.of("sensorId", "10", "value", 3.0)), mappedNumber);
+    }
+
+    private void writeString(DataOutputStream dataStream, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        dataStream.writeInt(bytes.length);
+        dataStream.write(bytes);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.generator.dto.GenerateRequest;
+import com.core.data_pipeline_platform.domain.generator.service.BinFileGenerator;
+import com.core.data_pipeline_platform.domain.parse.model.BinFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BinRecordReader 테스트")
+class BinRecordReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path writeBin(int recordCount, int writtenRecords) throws IOException {
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        DataOutputStream dataStream = new DataOutputStream(byteStream);
+        dataStream.writeInt(recordCount);
+        for (int i = 0; i < writtenRecords; i++) {
+            writeString(dataStream, "SENSOR_" + i);
+            dataStream.writeDouble(i * 1.5);
+            writeString(dataStream, "2024-01-01T00:00:0" + i);
+            writeString(dataStream, "NORMAL");
+        }
+        dataStream.close();
+
+        Path file = tempDir.resolve("sensor.bin");
+        Files.write(file, byteStream.toByteArray());
+        return file;
+    }
+
+    private void writeString(DataOutputStream dataStream, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        dataStream.writeInt(bytes.length);
+        dataStream.write(bytes);
+    }
+
+    @Test
+    @DisplayName("매핑된 파일에서 레코드를 순서대로 읽고 view 를 재사용")
+    void next_readsRecordsWithSameView() throws IOException {
+        // Given
+        BinRecordReader reader = BinRecordReader.open(writeBin(3, 3));
+        BinRecordView view = reader.current();
+
+        // When & Then
+        assertEquals(3, reader.getRecordCount());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(reader.next());
+            assertSame(view, reader.current());
+            assertEquals("SENSOR_" + i, view.getSensorId());
+            assertEquals(i * 1.5, view.getValue());
+            assertEquals("2024-01-01T00:00:0" + i, view.getTimestamp());
+            assertTrue(view.statusEquals("NORMAL".getBytes(StandardCharsets.UTF_8)));
+        }
+        assertFalse(reader.next());
+    }
+
+    @Test
+    @DisplayName("sensorId 바이트 비교")
+    void sensorIdEquals_comparesBytes() throws IOException {
+        // Given
+        BinRecordReader reader = BinRecordReader.open(writeBin(1, 1));
+        reader.next();
+
+        // When & Then
+        assertTrue(reader.current().sensorIdEquals("SENSOR_0".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(reader.current().sensorIdEquals("SENSOR_1".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("헤더보다 레코드가 적은 파일 - 예외 발생")
+    void next_truncatedFile_throwsException() throws IOException {
+        // Given
+        BinRecordReader reader = BinRecordReader.open(writeBin(2, 1));
+
+        // When & Then
+        assertTrue(reader.next());
+        assertThrows(ResponseStatusException.class, reader::next);
+    }
+
+    @Test
+    @DisplayName("v2 파일 - 블록 경계를 넘어 읽기")
+    void next_columnarFile_acrossBlocks() throws IOException {
+        // Given
+        int recordCount = BinFormat.BLOCK_SIZE + 10;
+        Path file = tempDir.resolve("sensor-v2.bin");
+        Files.write(file, new BinFileGenerator().generateFile(new GenerateRequest("sensor-v2.bin", recordCount)));
+
+        // When
+        BinRecordReader reader = BinRecordReader.open(file);
+        int read = 0;
+        while (reader.next()) {
+            assertTrue(reader.current().sensorIdEquals(("SENSOR_" + read).getBytes(StandardCharsets.UTF_8)));
+            read++;
+        }
+
+        // Then
+        assertEquals(recordCount, read);
+        assertEquals("NORMAL", reader.current().getStatus());
+        assertSame(reader.current().getStatus(), reader.current().getStatus());
+    }
+}
@@ -0,0 +1,37 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ChunkCodec 테스트")
+class ChunkCodecTest {
+
+    @Test
+    @DisplayName("압축한 JSON 을 풀면 원래 바이트와 같다")
+    void deflate_inflate_roundTrip() throws Exception {
+        // Given
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"sensorId\":\"sensor-").append(i % 10).append("\",\"value\":").append(i * 0.5)
+                    .append(",\"status\":\"NORMAL\",\"메모\":\"정상\"}");
+        }
+        String original = json.append(']').toString();
+
+        // When
+        byte[] payload = ChunkCodec.deflate(original);
+        String restored;
+        try (InputStream in = ChunkCodec.inflate(payload)) {
+            restored = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // Then
+        assertEquals(original, restored);
+        assertTrue(payload.length * 5 < original.getBytes(StandardCharsets.UTF_8).length);
+    }
+}
@@ -0,0 +1,77 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ChunkTimeIndex 테스트")
+class ChunkTimeIndexTest {
+
+    @Test
+    @DisplayName("시간순 청크 - 이진 탐색으로 겹치는 연속 구간만 고른다")
+    void select_sortedChunks_returnsSingleRange() {
+        // Given
+        ChunkTimeIndex index = ChunkTimeIndex.of(List.of(
+            chunk(0, 0L, 9L),
+            chunk(10, 10L, 19L),
+            chunk(20, 20L, 29L),
+            chunk(30, 30L, 39L)));
+
+        // When
+        List<ChunkTimeIndex.Range> ranges = index.select(15, 25);
+
+        // Then
+        assertTrue(index.isSorted());
+        assertEquals(List.of(new ChunkTimeIndex.Range(10, 21, 2)), ranges);
+        assertEquals(List.of(), index.select(40, 50));
+        assertEquals(List.of(new ChunkTimeIndex.Range(0, 1, 1)), index.select(-5, 10));
+    }
+
+    @Test
+    @DisplayName("시간순이 아닌 청크 - 겹치는 청크를 연속 구간별로 묶는다")
+    void select_unsortedChunks_returnsRuns() {
+        // Given
+        ChunkTimeIndex index = ChunkTimeIndex.of(List.of(
+            chunk(0, 20L, 29L),
+            chunk(10, 0L, 9L),
+            chunk(20, 25L, 35L),
+            chunk(30, 21L, 22L),
+            chunk(40, 100L, 110L)));
+
+        // When
+        List<ChunkTimeIndex.Range> ranges = index.select(20, 30);
+
+        // Then
+        assertFalse(index.isSorted());
+        assertEquals(List.of(new ChunkTimeIndex.Range(0, 1, 1), new ChunkTimeIndex.Range(20, 31, 2)), ranges);
+    }
+
+    @Test
+    @DisplayName("범위를 모르는 청크는 항상 고른다")
+    void select_unknownRange_alwaysSelected() {
+        // Given
+        ChunkTimeIndex index = ChunkTimeIndex.of(List.of(
+            chunk(0, 0L, 9L),
+            chunk(10, null, null),
+            chunk(20, 20L, 29L)));
+
+        // When
+        List<ChunkTimeIndex.Range> ranges = index.select(100, 200);
+
+        // Then
+        assertEquals(List.of(new ChunkTimeIndex.Range(10, 11, 1)), ranges);
+    }
+
+    private ParsedRecordChunkEntity chunk(long firstRecord, Long timestampMin, Long timestampMax) {
+        return ParsedRecordChunkEntity.builder()
+            .firstRecord(firstRecord)
+            .recordCount(10)
+            .timestampMin(timestampMin)
+            .timestampMax(timestampMax)
+            .build();
+    }
+}
@@ -1,13 +1,22 @@
 package com.core.data_pipeline_platform.domain.parse.service;
 
 import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import com.core.data_pipeline_platform.domain.parse.model.RecordQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -38,10 +47,10 @@ class CsvDataParserTest {
 
         assertEquals(2, result.size());
         assertEquals("John", result.getFirst().get("name"));
-        assertEquals(String.valueOf(30), result.getFirst().get("age"));
+        assertEquals(30, result.getFirst().get("age"));
 
         assertEquals("Jane", result.getLast().get("name"));
-        assertEquals(String.valueOf(25), result.getLast().get("age"));
+        assertEquals(25, result.getLast().get("age"));
     }
 
     @Test
@@ -59,10 +68,78 @@ class CsvDataParserTest {
         assertEquals(1, result.size());
 
         assertEquals("Jane", result.getFirst().get("name"));
-        assertEquals(String.valueOf(25), result.getFirst().get("age"));
+        assertEquals(25, result.getFirst().get("age"));
         assertEquals("2025-09-21 04:16", result.getFirst().get("timestamp"));
     }
 
+    @Test
+    @DisplayName("타입 추론 - 표본 행으로 컬럼 타입을 정해 타입 값으로 반환")
+    void parseData_inferTypes_success() {
+        // Given
+        String csv = "id,value,active,timestamp,name\n1,21.5,true,2025-09-21 04:16,a\n2,3,FALSE,2025-09-21T05:00:00Z,b";
+
+        // When
+        List<Map<String, Object>> result = csvDataParser.parseData(FileType.CSV, new ByteArrayInputStream(csv.getBytes()));
+
+        // Then
+        assertEquals(1, result.getFirst().get("id"));
+        assertEquals(21.5, result.getFirst().get("value"));
+        assertEquals(3.0, result.getLast().get("value"));
+        assertEquals(false, result.getLast().get("active"));
+        // timestamp 는 추론하지 않고 원문 그대로
+        assertEquals("2025-09-21 04:16", result.getFirst().get("timestamp"));
+        assertEquals("2025-09-21T05:00:00Z", result.getLast().get("timestamp"));
+        assertEquals("a", result.getFirst().get("name"));
+    }
+
+    @Test
+    @DisplayName("선언된 timestamp - 초와 Z 를 항상 쓰는 UTC 형식으로 반환")
+    void parseData_declaredTimestamp_formatsUtc() {
+        // Given
+        String csv = "timestamp:timestamp\n2025-09-21 04:16\n2025-09-21T05:00:00Z\n2025-09-21T14:00:00.25+09:00";
+
+        // When
+        List<Map<String, Object>> result = csvDataParser.parseData(FileType.CSV, new ByteArrayInputStream(csv.getBytes()));
+
+        // Then
+        assertEquals("2025-09-21T04:16:00Z", result.get(0).get("timestamp"));
+        assertEquals("2025-09-21T05:00:00Z", result.get(1).get("timestamp"));
+        assertEquals("2025-09-21T05:00:00.25Z", result.get(2).get("timestamp"));
+    }
+
+    @Test
+    @DisplayName("타입 추론 - 0 으로 시작하는 값이 있으면 식별자로 보고 문자열 유지")
+    void parseData_inferLeadingZero_keepsString() {
+        // Given
+        String csv = "sensorId,value\n007,0.5\n12,0";
+
+        // When
+        List<Map<String, Object>> result = csvDataParser.parseData(FileType.CSV, new ByteArrayInputStream(csv.getBytes()));
+
+        // Then
+        assertEquals("007", result.getFirst().get("sensorId"));
+        assertEquals("12", result.getLast().get("sensorId"));
+        assertEquals(0.5, result.getFirst().get("value"));
+        assertEquals(0.0, result.getLast().get("value"));
+    }
+
+    @Test
+    @DisplayName("선언된 스키마 - 헤더의 이름:타입 이 추론보다 우선")
+    void parseData_declaredSchema_success() {
+        // Given
+        String csv = "code:string,count:long,memo\n007,10,\n010,x,note";
+
+        // When
+        List<Map<String, Object>> result = csvDataParser.parseData(FileType.CSV, new ByteArrayInputStream(csv.getBytes()));
+
+        // Then
+        assertEquals("007", result.getFirst().get("code"));
+        assertEquals(10, result.getFirst().get("count"));
+        // 선언과 맞지 않는 값은 원문 그대로
+        assertEquals("x", result.getLast().get("count"));
+        assertEquals("", result.getFirst().get("memo"));
+    }
+
     @Test
     @DisplayName("빈 파일 - 예외 발생")
     void parseData_emptyFile_throwsException() {
@@ -88,4 +165,115 @@ class CsvDataParserTest {
 
         System.out.println(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("스트리밍 파싱 - 배치 단위로 sink 에 전달")
+    void parse_streaming_deliversBatches() {
+        // Given
+        StringBuilder csv = new StringBuilder("sensorId,value\n");
+        for (int i = 0; i < 2500; i++) {
+            csv.append("SENSOR_").append(i).append(",").append(i).append("\n");
+        }
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Boolean> completed = new ArrayList<>();
+
+        // When
+        csvDataParser.parse(FileType.CSV, new ByteArrayInputStream(csv.toString().getBytes()), new RecordSink() {
+            @Override
+            public void onBatch(RecordBatch batch) {
+                batchSizes.add(batch.size());
+            }
+
+            @Override
+            public void onComplete() {
+                completed.add(true);
+            }
+        });
+
+        // Then
+        assertEquals(List.of(1000, 1000, 500), batchSizes);
+        assertEquals(1, completed.size());
+    }
+
+    @Test
+    @DisplayName("병렬 파싱 - 따옴표 안 줄바꿈이 구간 경계에 걸려도 순차 파싱과 결과 동일")
+    void parse_parallel_sameAsSequential(@TempDir Path tempDir) throws IOException {
+        // Given
+        StringBuilder csv = new StringBuilder("id,note,value\n");
+        for (int i = 0; i < 3000; i++) {
+            csv.append(i).append(",\"line\n").append(i).append(", \"\"quoted\"\"\",").append(i * 0.5).append("\n");
+        }
+        Path file = tempDir.resolve("large.csv");
+        Files.writeString(file, csv);
+
+        ReflectionTestUtils.setField(csvDataParser, "parallelThreshold", DataSize.ofBytes(0));
+        ReflectionTestUtils.setField(csvDataParser, "segmentSize", DataSize.ofBytes(1000));
+
+        // When
+        List<Map<String, Object>> parallel = new ArrayList<>();
+        csvDataParser.parse(FileType.CSV, file, batch -> parallel.addAll(batch.toMaps()));
+        List<Map<String, Object>> sequential = csvDataParser.parseData(
+                FileType.CSV, new ByteArrayInputStream(csv.toString().getBytes()));
+
+        // Then
+        assertEquals(3000, parallel.size());
+        assertEquals(sequential, parallel);
+        assertEquals("line\n2999, \"quoted\"", parallel.getLast().get("note"));
+    }
+
+    @Test
+    @DisplayName("병렬 파싱 - 따옴표 없는 필드 중간의 따옴표는 글자로 보고, 뒤의 따옴표 안 줄바꿈에서 구간을 나누지 않음")
+    void parse_parallel_strayQuote_sameAsSequential(@TempDir Path tempDir) throws IOException {
+        // Given
+        StringBuilder csv = new StringBuilder("id,note,value\n");
+        csv.append("0,12\" pipe,1.5\n");
+        for (int i = 1; i < 3000; i++) {
+            csv.append(i).append(i % 2 == 0 ? ",\"note\n" : ",plain ").append(i).append(i % 2 == 0 ? "\"," : ",")
+                    .append(i * 0.5).append("\n");
+        }
+        Path file = tempDir.resolve("stray.csv");
+        Files.writeString(file, csv);
+
+        ReflectionTestUtils.setField(csvDataParser, "parallelThreshold", DataSize.ofBytes(0));
+        ReflectionTestUtils.setField(csvDataParser, "segmentSize", DataSize.ofBytes(1000));
+
+        // When
+        List<Map<String, Object>> parallel = new ArrayList<>();
+        csvDataParser.parse(FileType.CSV, file, batch -> parallel.addAll(batch.toMaps()));
+        List<Map<String, Object>> sequential = csvDataParser.parseData(
+                FileType.CSV, new ByteArrayInputStream(csv.toString().getBytes()));
+
+        // Then
+        assertEquals(3000, sequential.size());
+        assertEquals("12\" pipe", sequential.getFirst().get("note"));
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    @DisplayName("query - 읽지 않는 컬럼은 건너뛰고 조건에 맞는 행만 전달, 병렬 파싱도 동일")
+    void parse_query_projectsAndFilters(@TempDir Path tempDir) throws IOException {
+        // Given
+        StringBuilder csv = new StringBuilder("sensorId,value,note\n");
+        for (int i = 0; i < 3000; i++) {
+            csv.append("SENSOR_").append(i).append(",").append(i).append(",\"note ").append(i).append("\"\n");
+        }
+        Path file = tempDir.resolve("query.csv");
+        Files.writeString(file, csv);
+        RecordQuery query = RecordQuery.parse("sensorId", List.of("value>=2990"));
+
+        // When
+        List<Map<String, Object>> sequential = new ArrayList<>();
+        csvDataParser.parse(FileType.CSV, new ByteArrayInputStream(csv.toString().getBytes()), query,
+                batch -> sequential.addAll(batch.toMaps()));
+        ReflectionTestUtils.setField(csvDataParser, "parallelThreshold", DataSize.ofBytes(0));
+        ReflectionTestUtils.setField(csvDataParser, "segmentSize", DataSize.ofBytes(1000));
+        List<Map<String, Object>> parallel = new ArrayList<>();
+        csvDataParser.parse(FileType.CSV, file, query, batch -> parallel.addAll(batch.toMaps()));
+
+        // Then
+        assertEquals(10, sequential.size());
+        assertEquals(Map.of("sensorId", "SENSOR_2990", "value", 2990), sequential.getFirst());
+        assertFalse(sequential.getLast().containsKey("note"));
+        assertEquals(sequential, parallel);
+    }
+}
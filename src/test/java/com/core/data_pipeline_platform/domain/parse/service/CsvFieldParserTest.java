@@ -0,0 +1,51 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvFieldParser 테스트")
+class CsvFieldParserTest {
+
+    private final CsvFieldParser fieldParser = new CsvFieldParser();
+
+    @Test
+    @DisplayName("double 변환 - Double.parseDouble 과 비트 단위로 동일")
+    void parseDouble_sameAsJdk() {
+        String[] values = {"0", "-0", "0.1", "3.14", ".5", "5.", "00012.50", "1e22", "1e23", "-2.5E-3",
+                "9007199254740993", "123456789012345678901234", "4.9e-324", "1.7976931348623157E308"};
+
+        for (String value : values) {
+            // When
+            byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+            boolean parsed = fieldParser.parseDouble(bytes, 0, bytes.length);
+
+            // Then
+            assertTrue(parsed, value);
+            assertEquals(Double.doubleToLongBits(Double.parseDouble(value)), Double.doubleToLongBits(fieldParser.doubleValue()), value);
+        }
+    }
+
+    @Test
+    @DisplayName("double 변환 - 숫자가 아닌 값은 실패")
+    void parseDouble_invalid_fails() {
+        for (String value : new String[]{"-", "e5", "1e", "1.2.3", "NaN", "Infinity", "0x10", "1,5"}) {
+            byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+            assertFalse(fieldParser.parseDouble(bytes, 0, bytes.length), value);
+        }
+    }
+
+    @Test
+    @DisplayName("long 변환 - 범위를 넘으면 실패")
+    void parseLong_overflow_fails() {
+        byte[] min = "-9223372036854775808".getBytes(StandardCharsets.US_ASCII);
+        byte[] overflow = "9223372036854775808".getBytes(StandardCharsets.US_ASCII);
+
+        assertTrue(fieldParser.parseLong(min, 0, min.length));
+        assertEquals(Long.MIN_VALUE, fieldParser.longValue());
+        assertFalse(fieldParser.parseLong(overflow, 0, overflow.length));
+    }
+}
@@ -0,0 +1,71 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvTokenizer 테스트")
+class CsvTokenizerTest {
+
+    private List<List<String>> tokenize(String csv, int bufferSize) throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), bufferSize);
+        List<List<String>> records = new ArrayList<>();
+        while (tokenizer.next()) {
+            records.add(List.of(tokenizer.toArray()));
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("기본 레코드 분리")
+    void next_simpleRecords() throws IOException {
+        List<List<String>> records = tokenize("a,b,c\n1,2,3\n", 64);
+
+        assertEquals(List.of(List.of("a", "b", "c"), List.of("1", "2", "3")), records);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 64})
+    @DisplayName("따옴표, 이스케이프, 따옴표 안 줄바꿈 - 버퍼 경계와 무관")
+    void next_quotedFields(int bufferSize) throws IOException {
+        String csv = "id,\"x, y\",\"he said \"\"hi\"\"\"\r\n\"multi\nline\",,\n";
+
+        List<List<String>> records = tokenize(csv, bufferSize);
+
+        assertEquals(2, records.size());
+        assertEquals(List.of("id", "x, y", "he said \"hi\""), records.get(0));
+        assertEquals(List.of("multi\nline", "", ""), records.get(1));
+    }
+
+    @Test
+    @DisplayName("CRLF 와 마지막 줄바꿈 없는 레코드")
+    void next_crlfAndNoTrailingNewline() throws IOException {
+        List<List<String>> records = tokenize("h1,h2\r\nv1,v2\r\nv3,v4", 64);
+
+        assertEquals(List.of(List.of("h1", "h2"), List.of("v1", "v2"), List.of("v3", "v4")), records);
+    }
+
+    @Test
+    @DisplayName("UTF-8 BOM 과 멀티바이트 문자")
+    void next_bomAndMultiByte() throws IOException {
+        List<List<String>> records = tokenize("\uFEFF이름,상태\n센서,정상\n", 64);
+
+        assertEquals(List.of(List.of("이름", "상태"), List.of("센서", "정상")), records);
+    }
+
+    @Test
+    @DisplayName("빈 입력 - 레코드 없음")
+    void next_emptyInput() throws IOException {
+        assertTrue(tokenize("", 64).isEmpty());
+    }
+}
@@ -0,0 +1,83 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataStats;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.model.RecordQuery;
+import com.core.data_pipeline_platform.domain.parse.model.SensorBloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FilePruner 테스트")
+class FilePrunerTest {
+
+    @Test
+    @DisplayName("sensorId Bloom filter 에 없는 센서면 건너뛴다")
+    void mayMatch_sensorBloom() {
+        // Given
+        ParsedDataEntity parsedData = parsedData(10, 10L, 10L);
+
+        // When & Then
+        assertTrue(FilePruner.mayMatch(parsedData, query("sensorId=s1")));
+        assertFalse(FilePruner.mayMatch(parsedData, query("sensorId=s9")));
+        // 다른 연산자나 숫자 피연산자는 Bloom filter 로 거르지 않는다.
+        assertTrue(FilePruner.mayMatch(parsedData, query("sensorId!=s9")));
+        assertTrue(FilePruner.mayMatch(parsedData, query("sensorId=9")));
+    }
+
+    @Test
+    @DisplayName("value, timestamp 범위(zone map)와 겹치지 않는 조건이면 건너뛴다")
+    void mayMatch_zoneMaps() {
+        // Given
+        ParsedDataEntity parsedData = parsedData(10, 10L, 10L);
+
+        // When & Then
+        assertTrue(FilePruner.mayMatch(parsedData, query("value>=50")));
+        assertFalse(FilePruner.mayMatch(parsedData, query("value>50")));
+        assertFalse(FilePruner.mayMatch(parsedData, query("value<-10")));
+        assertTrue(FilePruner.mayMatch(parsedData, query("value=0")));
+        assertTrue(FilePruner.mayMatch(parsedData, query("timestamp<2024-01-01T00:00:01")));
+        assertFalse(FilePruner.mayMatch(parsedData, query("timestamp<2024-01-01T00:00:00")));
+        assertFalse(FilePruner.mayMatch(parsedData, query("timestamp>=2024-01-02T09:00:00+09:00")));
+    }
+
+    @Test
+    @DisplayName("숫자/시각으로 읽히지 않은 레코드가 있거나 통계가 없으면 범위로 거르지 않는다")
+    void mayMatch_partialOrMissingStats() {
+        // Given
+        ParsedDataEntity partial = parsedData(10, 9L, 8L);
+        ParsedDataEntity legacy = ParsedDataEntity.builder().recordCount(10).build();
+
+        // When & Then
+        assertTrue(FilePruner.mayMatch(partial, query("value>50")));
+        assertTrue(FilePruner.mayMatch(partial, query("timestamp<2024-01-01T00:00:00")));
+        assertTrue(FilePruner.mayMatch(legacy, query("value>50")));
+        assertTrue(FilePruner.mayMatch(legacy, query("sensorId=s9")));
+    }
+
+    private static RecordQuery query(String filter) {
+        return RecordQuery.parse(null, List.of(filter));
+    }
+
+    private static ParsedDataEntity parsedData(long recordCount, Long valueCount, Long timestampCount) {
+        SensorBloomFilter sensors = SensorBloomFilter.create(2, 0.01);
+        sensors.add("s1");
+        sensors.add("s2");
+        return ParsedDataEntity.builder()
+            .recordCount(recordCount)
+            .stats(ParsedDataStats.builder()
+                .valueCount(valueCount)
+                .valueMin(-5.0)
+                .valueMax(50.0)
+                .timestampCount(timestampCount)
+                .timestampMin(EpochMicros.parse("2024-01-01T00:00:00"))
+                .timestampMax(EpochMicros.parse("2024-01-01T23:59:59"))
+                .sensorBloom(sensors.toBytes())
+                .build())
+            .build();
+    }
+}
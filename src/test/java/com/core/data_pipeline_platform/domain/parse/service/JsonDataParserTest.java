@@ -1,6 +1,8 @@
 package com.core.data_pipeline_platform.domain.parse.service;
 
 import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import com.core.data_pipeline_platform.domain.parse.model.RecordQuery;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +12,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -162,4 +165,84 @@ class JsonDataParserTest {
         assertThat(data.get("nullValue")).isNull();
     }
 
+    @Test
+    @DisplayName("센서 필드는 타입대로 바인딩되고 나머지 필드는 보존")
+    void parseData_sensorFields_boundWithTypes() {
+        // Given
+        String sensorJson = "[{" +
+                "\"sensorId\":\"S-1\"," +
+                "\"value\":21," +
+                "\"timestamp\":\"2024-01-01T00:00:00\"," +
+                "\"status\":\"OK\"," +
+                "\"meta\":{\"unit\":\"C\"}" +
+                "}]";
+        InputStream inputStream = new ByteArrayInputStream(sensorJson.getBytes());
+
+        // When
+        List<Map<String, Object>> result = jsonDataParser.parseData(FileType.JSON, inputStream);
+
+        // Then
+        assertThat(result).hasSize(1);
+        Map<String, Object> record = result.get(0);
+        assertThat(record).hasSize(5);
+        assertThat(record.get("sensorId")).isEqualTo("S-1");
+        assertThat(record.get("value")).isEqualTo(21);
+        assertThat(record.get("timestamp")).isEqualTo("2024-01-01T00:00:00");
+        assertThat(record.get("status")).isEqualTo("OK");
+        assertThat(record.get("meta")).isEqualTo(Map.of("unit", "C"));
+    }
+
+    @Test
+    @DisplayName("query - 읽지 않는 필드(중첩 포함)는 건너뛰고 조건에 맞는 레코드만 전달")
+    void parse_query_projectsAndFilters() {
+        // Given
+        String json = "[" +
+                "{\"sensorId\":\"S-1\",\"value\":5,\"status\":\"OK\",\"meta\":{\"unit\":\"C\"}}," +
+                "{\"sensorId\":\"S-2\",\"value\":15,\"status\":\"ERROR\",\"meta\":[1,2]}," +
+                "{\"sensorId\":\"S-3\",\"status\":\"ERROR\"}" +
+                "]";
+        RecordQuery query = RecordQuery.parse("sensorId", List.of("status=ERROR", "value>10"));
+
+        // When
+        List<Map<String, Object>> result = new ArrayList<>();
+        jsonDataParser.parse(FileType.JSON, new ByteArrayInputStream(json.getBytes()), query,
+                batch -> result.addAll(batch.toMaps()));
+
+        // Then
+        assertThat(result).containsExactly(Map.of("sensorId", "S-2", "value", 15, "status", "ERROR"));
+    }
+
+    @Test
+    @DisplayName("sink - 기본 배치 크기로 나눠 넘기고 마지막에 onComplete 를 한 번 호출")
+    void parse_sink_deliversBatchesThenCompletes() {
+        // Given
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 2_500; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"n\":").append(i).append('}');
+        }
+        InputStream inputStream = new ByteArrayInputStream(json.append(']').toString().getBytes());
+        List<Integer> sizes = new ArrayList<>();
+        List<Object> lastValues = new ArrayList<>();
+        int[] completed = new int[1];
+
+        // When
+        jsonDataParser.parse(FileType.JSON, inputStream, new RecordSink() {
+            @Override
+            public void onBatch(RecordBatch batch) {
+                assertThat(completed[0]).isZero();
+                sizes.add(batch.size());
+                lastValues.add(batch.toMap(batch.size() - 1).get("n"));
+            }
+
+            @Override
+            public void onComplete() {
+                completed[0]++;
+            }
+        });
+
+        // Then
+        assertThat(sizes).containsExactly(RecordBatcher.DEFAULT_BATCH_SIZE, RecordBatcher.DEFAULT_BATCH_SIZE, 500);
+        assertThat(lastValues).containsExactly(999, 1_999, 2_499);
+        assertThat(completed[0]).isEqualTo(1);
+    }
 }
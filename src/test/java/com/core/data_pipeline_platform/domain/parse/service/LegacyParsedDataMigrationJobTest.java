@@ -0,0 +1,130 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
+import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.file.repository.FileRepository;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedDataRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LegacyParsedDataMigrationJob 테스트")
+class LegacyParsedDataMigrationJobTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Mock
+    private DataParsingService dataParsingService;
+
+    @Mock
+    private ParsedDataRepository parsedDataRepository;
+
+    @Mock
+    private SensorIndexService sensorIndexService;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @InjectMocks
+    private LegacyParsedDataMigrationJob migrationJob;
+
+    @Test
+    @DisplayName("data 컬럼의 JSON 배열을 청크로 다시 저장하고 옛 행을 새 요약 행으로 바꾼다")
+    @SuppressWarnings("unchecked")
+    void migrateRow_legacyRow_storesChunks() {
+        // Given
+        FileEntity file = FileEntity.builder().id(1L).fileType(FileType.CSV).build();
+        ParsedDataEntity migrated = ParsedDataEntity.builder().file(file).recordCount(2).chunkCount(1).build();
+        given(jdbcTemplate.query(eq(LegacyParsedDataMigrationJob.SELECT_FOR_UPDATE), any(RowMapper.class), eq(7L)))
+            .willReturn(List.of(new LegacyParsedDataMigrationJob.LegacyRow(1L, "[{\"a\":1},{\"a\":2}]")));
+        given(fileRepository.findById(1L)).willReturn(Optional.of(file));
+        given(dataParsingService.parseToEntity(eq(FileType.JSON), any(InputStream.class), eq(file))).willReturn(migrated);
+
+        // When
+        boolean result = migrationJob.migrateRow(7L);
+
+        // Then
+        assertThat(result).isTrue();
+        then(jdbcTemplate).should().update(LegacyParsedDataMigrationJob.DELETE, 7L);
+        then(parsedDataRepository).should().save(migrated);
+        then(sensorIndexService).should().index(migrated);
+    }
+
+    @Test
+    @DisplayName("이미 옮겨진 행이면 아무것도 하지 않는다")
+    @SuppressWarnings("unchecked")
+    void migrateRow_alreadyMigrated_returnsFalse() {
+        // Given
+        given(jdbcTemplate.query(eq(LegacyParsedDataMigrationJob.SELECT_FOR_UPDATE), any(RowMapper.class), eq(7L)))
+            .willReturn(List.of());
+
+        // When
+        boolean result = migrationJob.migrateRow(7L);
+
+        // Then
+        assertThat(result).isFalse();
+        then(dataParsingService).should(never()).parseToEntity(any(), any(InputStream.class), any());
+        then(parsedDataRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("옮길 행이 없다고 확인된 뒤에는 조회 경로에서 쿼리하지 않는다")
+    void migrateIfLegacy_notPending_skipsQuery() {
+        // When
+        boolean result = migrationJob.migrateIfLegacy(7L);
+
+        // Then
+        assertThat(result).isFalse();
+        then(jdbcTemplate).should(never()).queryForObject(any(String.class), eq(Long.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("옮길 행이 남아 있으면 조회한 행이 이전 결과인지 확인해 옮긴다")
+    @SuppressWarnings("unchecked")
+    void migrateIfLegacy_pending_migratesRow() {
+        // Given
+        ReflectionTestUtils.setField(migrationJob, "pending", true);
+        FileEntity file = FileEntity.builder().id(1L).fileType(FileType.JSON).build();
+        ParsedDataEntity migrated = ParsedDataEntity.builder().file(file).build();
+        given(jdbcTemplate.queryForObject(LegacyParsedDataMigrationJob.IS_PENDING, Long.class, 7L)).willReturn(1L);
+        given(jdbcTemplate.query(eq(LegacyParsedDataMigrationJob.SELECT_FOR_UPDATE), any(RowMapper.class), eq(7L)))
+            .willReturn(List.of(new LegacyParsedDataMigrationJob.LegacyRow(1L, "[]")));
+        given(fileRepository.findById(1L)).willReturn(Optional.of(file));
+        given(dataParsingService.parseToEntity(eq(FileType.JSON), any(InputStream.class), eq(file))).willReturn(migrated);
+
+        // When
+        boolean result = migrationJob.migrateIfLegacy(7L);
+
+        // Then
+        assertThat(result).isTrue();
+        then(parsedDataRepository).should().save(migrated);
+    }
+}
@@ -0,0 +1,108 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParsedChunkCache 테스트")
+class ParsedChunkCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ParsedChunkCache cache = new ParsedChunkCache(meterRegistry, DataSize.ofMegabytes(1));
+
+    private final List<Map<String, Object>> records = List.of(Map.of("sensorId", "sensor-1", "value", 1.5));
+
+    @Test
+    @DisplayName("같은 청크를 동시에 요청하면 한 번만 읽는다")
+    void get_concurrentMisses_loadOnce() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        try {
+            Future<List<Map<String, Object>>> first = executor.submit(() -> cache.get(1L, 0, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return records;
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<List<Map<String, Object>>> second = executor.submit(() -> cache.get(1L, 0, () -> {
+                loads.incrementAndGet();
+                return records;
+            }));
+            release.countDown();
+
+            // Then
+            assertSame(records, first.get(5, TimeUnit.SECONDS));
+            assertSame(records, second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("읽기에 실패하면 캐시에 남기지 않는다")
+    void get_loaderFails_notCached() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, 0, () -> {
+            throw new IllegalStateException("실패");
+        }));
+        assertSame(records, cache.get(1L, 0, () -> records));
+    }
+
+    @Test
+    @DisplayName("파일 단위로 무효화하고 적중/실패 메트릭을 기록한다")
+    void invalidateFile_andMetrics() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, 0, () -> { loads.incrementAndGet(); return records; });
+        cache.get(2L, 0, () -> { loads.incrementAndGet(); return records; });
+        cache.get(1L, 0, () -> { loads.incrementAndGet(); return records; });
+
+        // When
+        cache.invalidateFile(1L);
+        cache.get(1L, 0, () -> { loads.incrementAndGet(); return records; });
+        cache.get(2L, 0, () -> { loads.incrementAndGet(); return records; });
+
+        // Then
+        assertEquals(3, loads.get());
+        assertEquals(2, meterRegistry.get("cache.gets").tag("cache", ParsedChunkCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(3, meterRegistry.get("cache.gets").tag("cache", ParsedChunkCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("추정 크기는 값의 길이에 비례한다")
+    void estimateSize_growsWithContent() {
+        List<Map<String, Object>> small = List.of(Map.of("memo", "a"));
+        List<Map<String, Object>> large = List.of(Map.of("memo", "a".repeat(10_000)));
+
+        assertTrue(ParsedChunkCache.estimateSize(large) - ParsedChunkCache.estimateSize(small) >= 9_999);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
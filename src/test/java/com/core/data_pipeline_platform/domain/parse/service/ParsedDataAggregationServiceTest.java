@@ -0,0 +1,128 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
+import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.parse.dto.AggregationGroup;
+import com.core.data_pipeline_platform.domain.parse.dto.AggregationResponse;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import com.core.data_pipeline_platform.domain.parse.enums.AggregationGroupBy;
+import com.core.data_pipeline_platform.domain.parse.enums.ChunkEncoding;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedRecordChunkJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ParsedDataAggregationService 테스트")
+class ParsedDataAggregationServiceTest {
+
+    @Mock
+    private ParsedDataService parsedDataService;
+
+    @Mock
+    private ParsedRecordChunkJdbcRepository chunkJdbcRepository;
+
+    @Spy
+    private JsonDataParser jsonDataParser = new JsonDataParser(new ObjectMapper());
+
+    @InjectMocks
+    private ParsedDataAggregationService aggregationService;
+
+    @Test
+    @DisplayName("여러 청크를 병렬로 집계해 센서/시간 구간별로 합친다")
+    void aggregate_groupsAcrossChunks() {
+        // Given
+        Long fileId = 1L;
+        given(parsedDataService.getParsedDataByFileId(fileId)).willReturn(parsedData(fileId));
+        willAnswer(invocation -> {
+            Consumer<ParsedRecordChunkEntity> action = invocation.getArgument(1);
+            for (int chunk = 0; chunk < 20; chunk++) {
+                StringBuilder json = new StringBuilder("[");
+                for (int i = 0; i < 50; i++) {
+                    json.append(i == 0 ? "" : ",")
+                        .append("{\"sensorId\":\"sensor-").append(i % 2)
+                        .append("\",\"value\":").append(i % 2 == 0 ? 1.0 : 3.0)
+                        .append(",\"timestamp\":\"2024-01-01T0").append(chunk < 10 ? 0 : 1).append(":15\"}");
+                }
+                String data = json.append(']').toString();
+                action.accept(chunk % 2 == 0
+                    ? ParsedRecordChunkEntity.builder().firstRecord(chunk * 50L).recordCount(50).data(data).build()
+                    : ParsedRecordChunkEntity.builder().firstRecord(chunk * 50L).recordCount(50)
+                        .encoding(ChunkEncoding.DEFLATE).data("").payload(ChunkCodec.deflate(data)).build());
+            }
+            return null;
+        }).given(chunkJdbcRepository).forEachChunk(eq(fileId), any());
+
+        // When
+        AggregationResponse response = aggregationService.aggregate(fileId,
+            List.of(AggregationGroupBy.SENSOR_ID), Duration.ofHours(1));
+
+        // Then
+        assertThat(response.getRecordCount()).isEqualTo(1000);
+        assertThat(response.getInterval()).isEqualTo("PT1H");
+        assertThat(response.getGroups())
+            .extracting(AggregationGroup::getBucketStart, AggregationGroup::getSensorId,
+                AggregationGroup::getCount, AggregationGroup::getAvg)
+            .containsExactly(
+                tuple("2024-01-01T00:00:00Z", "sensor-0", 250L, 1.0),
+                tuple("2024-01-01T00:00:00Z", "sensor-1", 250L, 3.0),
+                tuple("2024-01-01T01:00:00Z", "sensor-0", 250L, 1.0),
+                tuple("2024-01-01T01:00:00Z", "sensor-1", 250L, 3.0));
+    }
+
+    @Test
+    @DisplayName("연결된 파일 - 원본 파일의 청크를 읽고 응답에는 요청한 파일 id 를 쓴다")
+    void aggregate_linkedFile_reportsRequestedFileId() {
+        // Given
+        given(parsedDataService.getParsedDataByFileId(2L)).willReturn(parsedData(1L));
+
+        // When
+        AggregationResponse response = aggregationService.aggregate(2L, List.of(), null);
+
+        // Then
+        assertThat(response.getFileId()).isEqualTo(2L);
+        then(chunkJdbcRepository).should().forEachChunk(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("interval 이 0 이하면 BAD_REQUEST")
+    void aggregate_invalidInterval_throwsBadRequest() {
+        // When & Then
+        assertThatThrownBy(() -> aggregationService.aggregate(1L, List.of(), Duration.ZERO))
+            .isInstanceOf(ResponseStatusException.class)
+            .satisfies(ex -> {
+                ResponseStatusException responseEx = (ResponseStatusException) ex;
+                assertThat(responseEx.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            });
+    }
+
+    private ParsedDataEntity parsedData(Long fileId) {
+        return ParsedDataEntity.builder()
+            .id(1L)
+            .file(FileEntity.builder().id(fileId).fileType(FileType.JSON).originName("sensor.json").build())
+            .recordCount(1000)
+            .chunkCount(20)
+            .build();
+    }
+}
@@ -1,24 +1,42 @@
 package com.core.data_pipeline_platform.domain.parse.service;
 
 import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
+import com.core.data_pipeline_platform.domain.file.enums.FileProcessingStatus;
 import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.file.repository.FileRepository;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedDataStatsResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedDataSummary;
+import com.core.data_pipeline_platform.domain.parse.dto.ParsedRecordsResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.RecordCursor;
 import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import com.core.data_pipeline_platform.domain.parse.enums.ChunkEncoding;
 import com.core.data_pipeline_platform.domain.parse.repository.ParsedDataRepository;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedRecordChunkJdbcRepository;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedRecordChunkRepository;
+import com.core.data_pipeline_platform.domain.parse.repository.SensorRecordRangeJdbcRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -27,8 +45,12 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ParsedDataService 테스트")
@@ -37,9 +59,27 @@ class ParsedDataServiceTest {
     @Mock
     private ParsedDataRepository parsedDataRepository;
 
+    @Mock
+    private ParsedRecordChunkRepository parsedRecordChunkRepository;
+
+    @Mock
+    private ParsedRecordChunkJdbcRepository parsedRecordChunkJdbcRepository;
+
+    @Mock
+    private SensorRecordRangeJdbcRepository sensorRecordRangeJdbcRepository;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Spy
+    private ParsedChunkCache chunkCache = new ParsedChunkCache(new SimpleMeterRegistry(), DataSize.ofMegabytes(16));
+
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private LegacyParsedDataMigrationJob legacyMigrationJob;
+
     @InjectMocks
     private ParsedDataService parsedDataService;
 
@@ -58,7 +98,8 @@ class ParsedDataServiceTest {
         mockParsedData = ParsedDataEntity.builder()
             .id(1L)
             .file(mockFile)
-            .data("[{\"name\":\"John\",\"age\":25}]")
+            .recordCount(2)
+            .chunkCount(1)
             .build();
 
         mockData = Arrays.asList(
@@ -72,22 +113,24 @@ class ParsedDataServiceTest {
     void getAllParsedData_Success() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        List<ParsedDataEntity> entities = Arrays.asList(mockParsedData);
-        Page<ParsedDataEntity> expectedPage = new PageImpl<>(entities, pageable, 1);
+        List<ParsedDataSummary> summaries = List.of(
+            new ParsedDataSummary(1L, 1L, "test.json", FileType.JSON, FileProcessingStatus.COMPLETED, 2, 1));
+        Page<ParsedDataSummary> expectedPage = new PageImpl<>(summaries, pageable, 1);
 
-        given(parsedDataRepository.findAll(pageable))
+        given(parsedDataRepository.findAllSummaries(pageable))
             .willReturn(expectedPage);
 
         // When
-        Page<ParsedDataEntity> result = parsedDataService.getAllParsedData(pageable);
+        Page<ParsedDataSummary> result = parsedDataService.getAllParsedData(pageable);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getId()).isEqualTo(1L);
+        assertThat(result.getContent().get(0).getFileName()).isEqualTo("test.json");
         assertThat(result.getTotalElements()).isEqualTo(1);
 
-        then(parsedDataRepository).should().findAll(pageable);
+        then(parsedDataRepository).should().findAllSummaries(pageable);
     }
 
     @Test
@@ -109,6 +152,25 @@ class ParsedDataServiceTest {
         then(parsedDataRepository).should().findByFileId(fileId);
     }
 
+    @Test
+    @DisplayName("파일 ID로 파싱된 데이터 조회 - data 컬럼에 남은 이전 결과는 청크로 옮긴 뒤 새 결과를 반환")
+    void getParsedDataByFileId_Legacy_MigratesAndReloads() {
+        // Given
+        Long fileId = 1L;
+        ParsedDataEntity legacy = ParsedDataEntity.builder().id(7L).file(mockFile).build();
+        given(parsedDataRepository.findByFileId(fileId))
+            .willReturn(Optional.of(legacy), Optional.of(mockParsedData));
+        given(legacyMigrationJob.migrateIfLegacy(7L))
+            .willReturn(true);
+
+        // When
+        ParsedDataEntity result = parsedDataService.getParsedDataByFileId(fileId);
+
+        // Then
+        assertThat(result).isSameAs(mockParsedData);
+        then(parsedDataRepository).should(times(2)).findByFileId(fileId);
+    }
+
     @Test
     @DisplayName("파일 ID로 파싱된 데이터 조회 - 데이터 없음")
     void getParsedDataByFileId_NotFound() {
@@ -130,26 +192,290 @@ class ParsedDataServiceTest {
     }
 
     @Test
-    @DisplayName("파싱된 데이터를 Map으로 변환 - 성공")
+    @DisplayName("파싱된 데이터를 Map으로 변환 - 페이지와 겹치는 청크만 잘라서 반환")
     void getParsedDataAsMap_Success() throws Exception {
         // Given
         Long fileId = 1L;
+        Pageable pageable = PageRequest.of(1, 1);
+        ParsedRecordChunkEntity chunk = ParsedRecordChunkEntity.builder()
+            .file(mockFile)
+            .firstRecord(0)
+            .recordCount(2)
+            .data("[{\"name\":\"John\",\"age\":25},{\"name\":\"Jane\",\"age\":30}]")
+            .build();
         given(parsedDataRepository.findByFileId(fileId))
             .willReturn(Optional.of(mockParsedData));
+        given(parsedRecordChunkRepository.findOverlappingFirstRecords(fileId, 1L, 2L))
+            .willReturn(List.of(0L));
+        given(parsedRecordChunkRepository.findByFileIdAndFirstRecord(fileId, 0L))
+            .willReturn(Optional.of(chunk));
         given(objectMapper.readValue(any(String.class), any(com.fasterxml.jackson.core.type.TypeReference.class)))
             .willReturn(mockData);
 
         // When
-        List<Map<String, Object>> result = parsedDataService.getParsedDataAsMap(fileId);
+        Page<Map<String, Object>> result = parsedDataService.getParsedDataAsMap(fileId, pageable);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).get("name")).isEqualTo("John");
-        assertThat(result.get(1).get("name")).isEqualTo("Jane");
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).get("name")).isEqualTo("Jane");
+        assertThat(result.getTotalElements()).isEqualTo(2);
 
-        then(parsedDataRepository).should().findByFileId(fileId);
-        then(objectMapper).should().readValue(any(String.class), any(com.fasterxml.jackson.core.type.TypeReference.class));
+        then(parsedRecordChunkRepository).should().findOverlappingFirstRecords(fileId, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("파싱된 데이터를 Map으로 변환 - 압축된 청크는 풀어서 반환")
+    void getParsedDataAsMap_DeflatedChunk() throws Exception {
+        // Given
+        Long fileId = 1L;
+        Pageable pageable = PageRequest.of(0, 2);
+        ParsedRecordChunkEntity chunk = ParsedRecordChunkEntity.builder()
+            .file(mockFile)
+            .firstRecord(0)
+            .recordCount(2)
+            .encoding(ChunkEncoding.DEFLATE)
+            .data("")
+            .payload(ChunkCodec.deflate("[{\"name\":\"John\",\"age\":25},{\"name\":\"Jane\",\"age\":30}]"))
+            .build();
+        given(parsedDataRepository.findByFileId(fileId))
+            .willReturn(Optional.of(mockParsedData));
+        given(parsedRecordChunkRepository.findOverlappingFirstRecords(fileId, 0L, 2L))
+            .willReturn(List.of(0L));
+        given(parsedRecordChunkRepository.findByFileIdAndFirstRecord(fileId, 0L))
+            .willReturn(Optional.of(chunk));
+        given(objectMapper.readValue(any(InputStream.class), any(TypeReference.class)))
+            .willAnswer(invocation -> new ObjectMapper().readValue(invocation.getArgument(0, InputStream.class),
+                new TypeReference<List<Map<String, Object>>>() {}));
+
+        // When
+        Page<Map<String, Object>> result = parsedDataService.getParsedDataAsMap(fileId, pageable);
+
+        // Then
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getContent().get(1).get("name")).isEqualTo("Jane");
+    }
+
+    @Test
+    @DisplayName("파싱된 데이터를 Map으로 변환 - 같은 청크는 한 번만 읽고 캐시에서 반환")
+    void getParsedDataAsMap_Cached() throws Exception {
+        // Given
+        Long fileId = 1L;
+        ParsedRecordChunkEntity chunk = ParsedRecordChunkEntity.builder()
+            .file(mockFile)
+            .firstRecord(0)
+            .recordCount(2)
+            .data("[...]")
+            .build();
+        given(parsedDataRepository.findByFileId(fileId))
+            .willReturn(Optional.of(mockParsedData));
+        given(parsedRecordChunkRepository.findOverlappingFirstRecords(eq(fileId), anyLong(), anyLong()))
+            .willReturn(List.of(0L));
+        given(parsedRecordChunkRepository.findByFileIdAndFirstRecord(fileId, 0L))
+            .willReturn(Optional.of(chunk));
+        given(objectMapper.readValue(any(String.class), any(TypeReference.class)))
+            .willReturn(mockData);
+
+        // When
+        Page<Map<String, Object>> first = parsedDataService.getParsedDataAsMap(fileId, PageRequest.of(0, 1));
+        Page<Map<String, Object>> second = parsedDataService.getParsedDataAsMap(fileId, PageRequest.of(1, 1));
+
+        // Then
+        assertThat(first.getContent().get(0).get("name")).isEqualTo("John");
+        assertThat(second.getContent().get(0).get("name")).isEqualTo("Jane");
+        then(parsedRecordChunkRepository).should(times(1)).findByFileIdAndFirstRecord(fileId, 0L);
+    }
+
+    @Test
+    @DisplayName("레코드 범위 조회 - 범위와 겹치는 청크만 읽고 다음 커서를 반환")
+    void getRecords_Success() throws Exception {
+        // Given
+        Long fileId = 1L;
+        ParsedDataEntity largeFile = ParsedDataEntity.builder()
+            .id(1L)
+            .file(mockFile)
+            .recordCount(2_000_000)
+            .chunkCount(2_000)
+            .build();
+        ParsedRecordChunkEntity chunk = ParsedRecordChunkEntity.builder()
+            .file(mockFile)
+            .firstRecord(1_000_000)
+            .recordCount(2)
+            .data("[...]")
+            .build();
+        given(parsedDataRepository.findByFileId(fileId))
+            .willReturn(Optional.of(largeFile));
+        given(parsedRecordChunkRepository.findOverlappingFirstRecords(fileId, 1_000_001L, 1_000_002L))
+            .willReturn(List.of(1_000_000L));
+        given(parsedRecordChunkRepository.findByFileIdAndFirstRecord(fileId, 1_000_000L))
+            .willReturn(Optional.of(chunk));
+        given(objectMapper.readValue(any(String.class), any(TypeReference.class)))
+            .willReturn(mockData);
+
+        // When
+        ParsedRecordsResponse result = parsedDataService.getRecords(fileId, 1_000_001L, 1);
+
+        // Then
+        assertThat(result.getRecords()).hasSize(1);
+        assertThat(result.getRecords().get(0).get("name")).isEqualTo("Jane");
+        assertThat(result.getTotalRecords()).isEqualTo(2_000_000);
+        assertThat(RecordCursor.decode(fileId, result.getNextCursor())).isEqualTo(1_000_002L);
+    }
+
+    @Test
+    @DisplayName("레코드 범위 조회 - 커서로 이어서 조회")
+    void getRecordsAfter_Success() throws Exception {
+        // Given
+        Long fileId = 1L;
+        ParsedRecordChunkEntity chunk = ParsedRecordChunkEntity.builder()
+            .file(mockFile)
+            .firstRecord(0)
+            .recordCount(2)
+            .data("[...]")
+            .build();
+        given(parsedDataRepository.findByFileId(fileId))
+            .willReturn(Optional.of(mockParsedData));
+        given(parsedRecordChunkRepository.findOverlappingFirstRecords(fileId, 1L, 101L))
+            .willReturn(List.of(0L));
+        given(parsedRecordChunkRepository.findByFileIdAndFirstRecord(fileId, 0L))
+            .willReturn(Optional.of(chunk));
+        given(objectMapper.readValue(any(String.class), any(TypeReference.class)))
+            .willReturn(mockData);
+
+        // When
+        ParsedRecordsResponse result = parsedDataService.getRecordsAfter(fileId, RecordCursor.encode(fileId, 1), 100);
+
+        // Then
+        assertThat(result.getOffset()).isEqualTo(1);
+        assertThat(result.getRecords()).hasSize(1);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("레코드 범위 조회 - 다른 파일의 커서나 잘못된 limit 은 400")
+    void getRecords_BadRequest() {
+        // When & Then
+        assertThatThrownBy(() -> parsedDataService.getRecordsAfter(1L, RecordCursor.encode(2L, 0), 10))
+            .isInstanceOf(ResponseStatusException.class)
+            .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> parsedDataService.getRecords(1L, 0, ParsedDataService.MAX_RECORDS_LIMIT + 1))
+            .isInstanceOf(ResponseStatusException.class)
+            .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    @DisplayName("레코드 범위 조회 - 내용이 같은 파일에 연결된 파일은 원본 파일의 청크를 읽는다")
+    void getRecords_LinkedFile_ReadsSourceChunks() throws Exception {
+        // Given
+        Long linkedFileId = 2L;
+        ParsedDataEntity sourceData = ParsedDataEntity.builder()
+            .id(1L)
+            .file(mockFile)
+            .recordCount(3)
+            .chunkCount(1)
+            .build();
+        ParsedRecordChunkEntity chunk = ParsedRecordChunkEntity.builder()
+            .file(mockFile)
+            .firstRecord(0)
+            .recordCount(2)
+            .data("[...]")
+            .build();
+        given(parsedDataRepository.findByFileId(linkedFileId))
+            .willReturn(Optional.empty());
+        given(fileRepository.findById(linkedFileId))
+            .willReturn(Optional.of(FileEntity.builder().id(linkedFileId).sourceFileId(1L).build()));
+        given(parsedDataRepository.findByFileId(1L))
+            .willReturn(Optional.of(sourceData));
+        given(parsedRecordChunkRepository.findOverlappingFirstRecords(1L, 0L, 1L))
+            .willReturn(List.of(0L));
+        given(parsedRecordChunkRepository.findByFileIdAndFirstRecord(1L, 0L))
+            .willReturn(Optional.of(chunk));
+        given(objectMapper.readValue(any(String.class), any(TypeReference.class)))
+            .willReturn(mockData);
+
+        // When
+        ParsedRecordsResponse result = parsedDataService.getRecords(linkedFileId, 0, 1);
+
+        // Then
+        assertThat(result.getFileId()).isEqualTo(linkedFileId);
+        assertThat(result.getRecords()).hasSize(1);
+        assertThat(result.getRecords().get(0).get("name")).isEqualTo("John");
+        assertThat(RecordCursor.decode(linkedFileId, result.getNextCursor())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("레코드 범위 조회 - 조회 뒤 청크가 지워졌으면 NOT_FOUND 를 그대로 전달")
+    void getRecords_ChunkDeleted_NotFound() {
+        // Given
+        Long fileId = 1L;
+        given(parsedDataRepository.findByFileId(fileId))
+            .willReturn(Optional.of(mockParsedData));
+        given(parsedRecordChunkRepository.findOverlappingFirstRecords(fileId, 0L, 2L))
+            .willReturn(List.of(0L));
+        given(parsedRecordChunkRepository.findByFileIdAndFirstRecord(fileId, 0L))
+            .willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> parsedDataService.getRecords(fileId, 0, 2))
+            .isInstanceOf(ResponseStatusException.class)
+            .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("통계 조회 - 연결된 파일은 원본이 아니라 요청한 파일의 id 와 이름으로 보여준다")
+    void getStats_LinkedFile_UsesRequestedFile() {
+        // Given
+        FileEntity linkedFile = FileEntity.builder().id(2L).originName("copy.json").sourceFileId(1L).build();
+        given(parsedDataRepository.findByFileId(2L))
+            .willReturn(Optional.empty());
+        given(fileRepository.findById(2L))
+            .willReturn(Optional.of(linkedFile));
+        given(parsedDataRepository.findByFileId(1L))
+            .willReturn(Optional.of(mockParsedData));
+
+        // When
+        ParsedDataStatsResponse result = parsedDataService.getStats(2L);
+
+        // Then
+        assertThat(result.getFileId()).isEqualTo(2L);
+        assertThat(result.getFileName()).isEqualTo("copy.json");
+        assertThat(result.getRecordCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("파싱된 데이터 삭제 - 연결된 파일로는 공유하는 결과를 지울 수 없다")
+    void deleteParsedData_LinkedFile_Conflict() {
+        // Given
+        given(parsedDataRepository.findByFileId(2L))
+            .willReturn(Optional.empty());
+        given(fileRepository.findById(2L))
+            .willReturn(Optional.of(FileEntity.builder().id(2L).sourceFileId(1L).build()));
+        given(parsedDataRepository.findByFileId(1L))
+            .willReturn(Optional.of(mockParsedData));
+
+        // When & Then
+        assertThatThrownBy(() -> parsedDataService.deleteParsedData(2L))
+            .isInstanceOf(ResponseStatusException.class)
+            .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        then(parsedDataRepository).should(never()).delete(any());
+        then(parsedRecordChunkRepository).should(never()).deleteByFileId(anyLong());
+    }
+
+    @Test
+    @DisplayName("파싱된 데이터 삭제 - 다른 파일이 연결된 원본 결과는 지울 수 없다")
+    void deleteParsedData_SourceWithLinkedFiles_Conflict() {
+        // Given
+        given(parsedDataRepository.findByFileId(1L))
+            .willReturn(Optional.of(mockParsedData));
+        given(fileRepository.existsBySourceFileId(1L))
+            .willReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> parsedDataService.deleteParsedData(1L))
+            .isInstanceOf(ResponseStatusException.class)
+            .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        then(parsedDataRepository).should(never()).delete(any());
+        then(parsedRecordChunkRepository).should(never()).deleteByFileId(anyLong());
+        then(chunkCache).should(never()).invalidateFile(anyLong());
     }
 
     @Test
@@ -165,7 +491,31 @@ class ParsedDataServiceTest {
 
         // Then
         then(parsedDataRepository).should().findByFileId(fileId);
+        then(parsedRecordChunkRepository).should().deleteByFileId(fileId);
+        then(sensorRecordRangeJdbcRepository).should().deleteByFileId(fileId);
         then(parsedDataRepository).should().delete(mockParsedData);
+        then(chunkCache).should().invalidateFile(fileId);
+    }
+
+    @Test
+    @DisplayName("파싱된 데이터 삭제 - 트랜잭션 안에서는 커밋 뒤에 캐시를 비운다")
+    void deleteParsedData_InTransaction_InvalidatesCacheAfterCommit() {
+        // Given
+        Long fileId = 1L;
+        given(parsedDataRepository.findByFileId(fileId))
+            .willReturn(Optional.of(mockParsedData));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            parsedDataService.deleteParsedData(fileId);
+
+            // Then
+            then(chunkCache).should(never()).invalidateFile(anyLong());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            then(chunkCache).should().invalidateFile(fileId);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
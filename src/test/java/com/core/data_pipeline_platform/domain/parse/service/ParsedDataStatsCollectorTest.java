@@ -0,0 +1,141 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataStats;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import com.core.data_pipeline_platform.domain.parse.model.SensorBloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParsedDataStatsCollector 테스트")
+class ParsedDataStatsCollectorTest {
+
+    @Test
+    @DisplayName("숫자/TIMESTAMP 컬럼의 통계를 여러 배치에 걸쳐 누적한다")
+    void accept_typedColumns_accumulatesAcrossBatches() {
+        // Given
+        ParsedDataStatsCollector collector = new ParsedDataStatsCollector();
+        RecordBatch batch = new RecordBatch();
+        addRow(batch, "s1", 1.5, EpochMicros.parse("2024-01-01T00:00:00"), "NORMAL");
+        addRow(batch, "s2", -2.0, EpochMicros.parse("2024-01-02T00:00:00"), "WARNING");
+
+        // When
+        collector.accept(batch);
+        batch.clear();
+        addRow(batch, "s1", 10.0, EpochMicros.parse("2023-12-31T12:00:00"), "NORMAL");
+        collector.accept(batch);
+        ParsedDataStats stats = collector.toStats();
+
+        // Then
+        assertEquals(3L, stats.getValueCount());
+        assertEquals(-2.0, stats.getValueMin());
+        assertEquals(10.0, stats.getValueMax());
+        assertEquals(9.5, stats.getValueSum());
+        assertEquals(9.5 / 3, stats.getValueAvg(), 1e-9);
+        assertEquals(EpochMicros.parse("2023-12-31T12:00:00"), stats.getTimestampMin());
+        assertEquals(EpochMicros.parse("2024-01-02T00:00:00"), stats.getTimestampMax());
+        // 청크 시간 인덱스용 범위는 마지막 배치만
+        assertEquals(EpochMicros.parse("2023-12-31T12:00:00"), collector.batchTimestampMin());
+        assertEquals(EpochMicros.parse("2023-12-31T12:00:00"), collector.batchTimestampMax());
+        assertEquals(3L, stats.getTimestampCount());
+        assertEquals(2, stats.getSensorCount());
+        assertTrue(stats.getSensorCountExact());
+        SensorBloomFilter sensors = SensorBloomFilter.fromBytes(stats.getSensorBloom());
+        assertTrue(sensors.mightContain("s1"));
+        assertTrue(sensors.mightContain("s2"));
+        assertEquals(Map.of("NORMAL", 2L, "WARNING", 1L), stats.getStatusCounts());
+    }
+
+    @Test
+    @DisplayName("문자열로 저장된 value/timestamp 는 숫자와 시각으로 읽고, 읽을 수 없는 값은 건너뛴다")
+    void accept_stringColumns_parsesValues() {
+        // Given
+        ParsedDataStatsCollector collector = new ParsedDataStatsCollector();
+        RecordBatch batch = new RecordBatch();
+        int value = batch.column("value");
+        int timestamp = batch.column("timestamp");
+        String[][] rows = {
+            {"3.0", "2024-05-01T10:00:00"},
+            {"abc", "not-a-time"},
+            {"3.0", "2024-05-01T09:00:00"},
+            {"-1", "2024-05-01T10:00:00"}
+        };
+        for (String[] row : rows) {
+            batch.startRow();
+            batch.putString(value, row[0]);
+            batch.putString(timestamp, row[1]);
+        }
+        batch.startRow();
+        batch.putNull(value);
+        batch.putNull(timestamp);
+
+        // When
+        collector.accept(batch);
+        ParsedDataStats stats = collector.toStats();
+
+        // Then
+        assertEquals(3L, stats.getValueCount());
+        assertEquals(-1.0, stats.getValueMin());
+        assertEquals(3.0, stats.getValueMax());
+        assertEquals(5.0, stats.getValueSum());
+        assertEquals(3L, stats.getTimestampCount());
+        assertEquals(EpochMicros.parse("2024-05-01T09:00:00"), stats.getTimestampMin());
+        assertEquals(EpochMicros.parse("2024-05-01T10:00:00"), stats.getTimestampMax());
+    }
+
+    @Test
+    @DisplayName("센서 수가 추적 상한을 넘으면 하한값으로 표시한다")
+    void accept_tooManySensors_marksInexact() {
+        // Given
+        ParsedDataStatsCollector collector = new ParsedDataStatsCollector(2);
+        RecordBatch batch = new RecordBatch();
+        int sensorId = batch.column("sensorId");
+        for (String id : new String[]{"a", "b", "a", "c"}) {
+            batch.startRow();
+            batch.putString(sensorId, id);
+        }
+
+        // When
+        collector.accept(batch);
+        ParsedDataStats stats = collector.toStats();
+
+        // Then
+        assertEquals(2, stats.getSensorCount());
+        assertFalse(stats.getSensorCountExact());
+        // 모든 센서를 담지 못하므로 Bloom filter 를 만들지 않는다.
+        assertNull(stats.getSensorBloom());
+    }
+
+    @Test
+    @DisplayName("센서 필드가 없는 파일은 해당 통계를 비워 둔다")
+    void toStats_withoutSensorFields_returnsNulls() {
+        // Given
+        ParsedDataStatsCollector collector = new ParsedDataStatsCollector();
+        RecordBatch batch = new RecordBatch();
+        batch.startRow();
+        batch.putString(batch.column("name"), "John");
+
+        // When
+        collector.accept(batch);
+        ParsedDataStats stats = collector.toStats();
+
+        // Then
+        assertEquals(0L, stats.getValueCount());
+        assertNull(stats.getValueAvg());
+        assertNull(stats.getTimestampMin());
+        assertNull(stats.getSensorCount());
+        assertNull(stats.getStatusCounts());
+    }
+
+    private static void addRow(RecordBatch batch, String sensorId, double value, long timestamp, String status) {
+        batch.startRow();
+        batch.putString(batch.column("sensorId"), sensorId);
+        batch.putDouble(batch.column("value"), value);
+        batch.putTimestamp(batch.column("timestamp"), timestamp);
+        batch.putString(batch.column("status"), status);
+    }
+}
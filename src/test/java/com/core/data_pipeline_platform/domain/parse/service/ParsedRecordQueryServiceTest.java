@@ -0,0 +1,170 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
+import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.file.service.FileStorageService;
+import com.core.data_pipeline_platform.domain.parse.dto.CrossFileQueryResponse;
+import com.core.data_pipeline_platform.domain.parse.dto.FileRecord;
+import com.core.data_pipeline_platform.domain.parse.dto.TimeRangeResponse;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataStats;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.model.SensorBloomFilter;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedDataRepository;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedRecordChunkJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ParsedRecordQueryService 테스트")
+class ParsedRecordQueryServiceTest {
+
+    @Mock
+    private ParsedDataService parsedDataService;
+
+    @Mock
+    private ParsedDataRepository parsedDataRepository;
+
+    @Mock
+    private ParsedRecordChunkJdbcRepository chunkJdbcRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private ParserFactory parserFactory;
+
+    @Spy
+    private JsonDataParser jsonDataParser = new JsonDataParser(new ObjectMapper());
+
+    @InjectMocks
+    private ParsedRecordQueryService queryService;
+
+    @Test
+    @DisplayName("시간 범위 조회 - 시간 인덱스로 겹치는 청크만 읽고 범위 밖 레코드는 거른다")
+    void queryTimeRange_readsOverlappingChunksOnly() {
+        // Given
+        Long fileId = 1L;
+        given(parsedDataService.getParsedDataByFileId(fileId)).willReturn(parsedData(fileId));
+        given(chunkJdbcRepository.findTimeIndex(fileId)).willReturn(List.of(
+            indexEntry(0, "2024-01-01T00:00:00", "2024-01-01T00:59:00"),
+            indexEntry(2, "2024-01-01T01:00:00", "2024-01-01T01:59:00"),
+            indexEntry(4, "2024-01-01T02:00:00", "2024-01-01T02:59:00")));
+        willAnswer(invocation -> {
+            Consumer<ParsedRecordChunkEntity> action = invocation.getArgument(3);
+            action.accept(ParsedRecordChunkEntity.builder().firstRecord(2).recordCount(2)
+                .data("[{\"sensorId\":\"s1\",\"timestamp\":\"2024-01-01T01:00:00\"},"
+                    + "{\"sensorId\":\"s2\",\"timestamp\":\"2024-01-01T01:59:00\"}]")
+                .build());
+            return null;
+        }).given(chunkJdbcRepository).forEachChunk(eq(fileId), eq(2L), eq(3L), any());
+
+        // When
+        TimeRangeResponse response = queryService.queryTimeRange(fileId,
+            "2024-01-01T10:30:00+09:00", "2024-01-01T02:00:00", "sensorId", 100);
+
+        // Then
+        assertThat(response.getFrom()).isEqualTo("2024-01-01T01:30:00Z");
+        assertThat(response.getChunkCount()).isEqualTo(3);
+        assertThat(response.getScannedChunks()).isEqualTo(1);
+        assertThat(response.getRecords()).containsExactly(Map.of("sensorId", "s2"));
+        then(chunkJdbcRepository).should(never()).forEachChunk(eq(fileId), any());
+    }
+
+    @Test
+    @DisplayName("시간 범위 조회 - from 이 to 보다 늦으면 BAD_REQUEST")
+    void queryTimeRange_invalidRange_throwsBadRequest() {
+        // When & Then
+        assertThatThrownBy(() -> queryService.queryTimeRange(1L, "2024-01-02T00:00:00", "2024-01-01T00:00:00", null, 100))
+            .isInstanceOf(ResponseStatusException.class)
+            .satisfies(ex -> {
+                ResponseStatusException responseEx = (ResponseStatusException) ex;
+                assertThat(responseEx.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            });
+        then(chunkJdbcRepository).should(never()).forEachChunk(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("파일 간 조회 - sensorId Bloom filter 에 없는 파일은 읽지 않는다")
+    void queryFiles_skipsFilesByStats() {
+        // Given
+        ParsedDataEntity first = parsedData(1L, "s1");
+        ParsedDataEntity second = parsedData(2L, "s9");
+        given(parsedDataRepository.findSliceBy(any(Pageable.class)))
+            .willReturn(new SliceImpl<>(List.of(first, second)));
+        given(fileStorageService.getStoredPath(any(FileEntity.class))).willReturn(Path.of("missing", "sensor.json"));
+        willAnswer(invocation -> {
+            Consumer<ParsedRecordChunkEntity> action = invocation.getArgument(1);
+            action.accept(ParsedRecordChunkEntity.builder().firstRecord(0).recordCount(2)
+                .data("[{\"sensorId\":\"s9\",\"value\":1.5},{\"sensorId\":\"s2\",\"value\":2.5}]")
+                .build());
+            return null;
+        }).given(chunkJdbcRepository).forEachChunk(eq(2L), any());
+
+        // When
+        CrossFileQueryResponse response = queryService.queryFiles("value", List.of("sensorId=s9"), 100);
+
+        // Then
+        assertThat(response.getScannedFiles()).isEqualTo(1);
+        assertThat(response.getSkippedFiles()).isEqualTo(1);
+        assertThat(response.getRecords()).extracting(FileRecord::getFileId).containsExactly(2L);
+        assertThat(response.getRecords().getFirst().getRecord()).isEqualTo(Map.of("value", 1.5));
+        then(chunkJdbcRepository).should(never()).forEachChunk(eq(1L), any());
+    }
+
+    private ParsedRecordChunkEntity indexEntry(long firstRecord, String timestampMin, String timestampMax) {
+        return ParsedRecordChunkEntity.builder()
+            .firstRecord(firstRecord)
+            .recordCount(2)
+            .timestampMin(EpochMicros.parse(timestampMin))
+            .timestampMax(EpochMicros.parse(timestampMax))
+            .build();
+    }
+
+    private ParsedDataEntity parsedData(Long fileId, String sensorId) {
+        SensorBloomFilter sensors = SensorBloomFilter.create(1, 0.01);
+        sensors.add(sensorId);
+        return ParsedDataEntity.builder()
+            .id(fileId)
+            .file(FileEntity.builder().id(fileId).fileType(FileType.JSON).originName("sensor-" + fileId + ".json").build())
+            .recordCount(2)
+            .chunkCount(1)
+            .stats(ParsedDataStats.builder().sensorBloom(sensors.toBytes()).build())
+            .build();
+    }
+
+    private ParsedDataEntity parsedData(Long fileId) {
+        return ParsedDataEntity.builder()
+            .id(1L)
+            .file(FileEntity.builder().id(fileId).fileType(FileType.JSON).originName("sensor.json").build())
+            .recordCount(6)
+            .chunkCount(3)
+            .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import com.core.data_pipeline_platform.domain.parse.enums.ChunkEncoding;
+import com.core.data_pipeline_platform.domain.parse.enums.RecordStreamFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParsedRecordStreamer 테스트")
+class ParsedRecordStreamerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<ParsedRecordChunkEntity> chunks = List.of(
+            jsonChunk(0, 2, "[{\"id\":1,\"memo\":\"a]\"},{\"id\":2,\"memo\":\"[b\"}]"),
+            jsonChunk(2, 0, "[]"),
+            deflatedChunk(2, 1, "[{\"id\":3,\"memo\":\"줄\\n바꿈\"}]"));
+
+    @Test
+    @DisplayName("JSON 형식은 청크들을 하나의 배열로 이어 붙인다")
+    void stream_json_concatenatesChunks() throws Exception {
+        // When
+        String result = stream(RecordStreamFormat.JSON);
+
+        // Then
+        assertEquals("[{\"id\":1,\"memo\":\"a]\"},{\"id\":2,\"memo\":\"[b\"},{\"id\":3,\"memo\":\"줄\\n바꿈\"}]", result);
+        assertEquals(3, objectMapper.readTree(result).size());
+    }
+
+    @Test
+    @DisplayName("NDJSON 형식은 레코드마다 한 줄로 쓴다")
+    void stream_ndjson_writesOneRecordPerLine() throws Exception {
+        // When
+        String result = stream(RecordStreamFormat.NDJSON);
+
+        // Then
+        assertEquals("{\"id\":1,\"memo\":\"a]\"}\n{\"id\":2,\"memo\":\"[b\"}\n{\"id\":3,\"memo\":\"줄\\n바꿈\"}\n", result);
+    }
+
+    @Test
+    @DisplayName("레코드가 없으면 빈 배열 / 빈 본문")
+    void stream_empty() throws Exception {
+        // Given
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+
+        // When
+        ParsedRecordStreamer jsonStreamer = new ParsedRecordStreamer(objectMapper, RecordStreamFormat.JSON, json);
+        jsonStreamer.start();
+        jsonStreamer.finish();
+        ParsedRecordStreamer ndjsonStreamer = new ParsedRecordStreamer(objectMapper, RecordStreamFormat.NDJSON, ndjson);
+        ndjsonStreamer.start();
+        ndjsonStreamer.finish();
+
+        // Then
+        assertEquals("[]", json.toString(StandardCharsets.UTF_8));
+        assertEquals("", ndjson.toString(StandardCharsets.UTF_8));
+    }
+
+    private String stream(RecordStreamFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ParsedRecordStreamer streamer = new ParsedRecordStreamer(objectMapper, format, out);
+        streamer.start();
+        chunks.forEach(streamer);
+        assertEquals(3, streamer.finish());
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ParsedRecordChunkEntity jsonChunk(long firstRecord, int recordCount, String data) {
+        return ParsedRecordChunkEntity.builder()
+                .firstRecord(firstRecord)
+                .recordCount(recordCount)
+                .encoding(ChunkEncoding.JSON)
+                .data(data)
+                .build();
+    }
+
+    private static ParsedRecordChunkEntity deflatedChunk(long firstRecord, int recordCount, String data) {
+        return ParsedRecordChunkEntity.builder()
+                .firstRecord(firstRecord)
+                .recordCount(recordCount)
+                .encoding(ChunkEncoding.DEFLATE)
+                .data("")
+                .payload(ChunkCodec.deflate(data))
+                .build();
+    }
+}
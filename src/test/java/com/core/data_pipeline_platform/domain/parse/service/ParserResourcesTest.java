@@ -0,0 +1,58 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParserResources 테스트")
+class ParserResourcesTest {
+
+    @Test
+    @DisplayName("반납된 자원은 이전 파일의 배치 내용 없이 다시 빌려진다")
+    void acquire_afterClose_resetsBatch() {
+        // Given
+        try (ParserResources resources = ParserResources.acquire()) {
+            resources.batch().column("sensorId");
+            resources.batch().startRow();
+        }
+
+        // When & Then
+        try (ParserResources resources = ParserResources.acquire()) {
+            assertEquals(0, resources.batch().size());
+            assertEquals(0, resources.batch().columnCount());
+        }
+    }
+
+    @Test
+    @DisplayName("반납 전에 다시 빌리면 서로 다른 자원")
+    void acquire_nested_returnsDifferentInstance() {
+        try (ParserResources outer = ParserResources.acquire();
+             ParserResources inner = ParserResources.acquire()) {
+            assertNotSame(outer, inner);
+            assertNotSame(outer.batch(), inner.batch());
+        }
+    }
+
+    @Test
+    @DisplayName("재사용한 토크나이저는 새 입력을 처음부터 읽는다")
+    void tokenizer_reused_readsNewInput() throws IOException {
+        try (ParserResources resources = ParserResources.acquire()) {
+            // Given
+            CsvTokenizer first = resources.tokenizer(new ByteArrayInputStream("a,b\n1,2".getBytes()));
+            first.next();
+
+            // When
+            CsvTokenizer second = resources.tokenizer(new ByteArrayInputStream("x\n".getBytes()));
+
+            // Then
+            assertSame(first, second);
+            assertTrue(second.next());
+            assertArrayEquals(new String[]{"x"}, second.toArray());
+            assertFalse(second.next());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.dto.AggregationGroup;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RecordAggregator 테스트")
+class RecordAggregatorTest {
+
+    private static final long HOUR_MICROS = 3_600_000_000L;
+
+    @Test
+    @DisplayName("sensorId/status 별로 레코드 수와 value 통계를 계산한다")
+    void onBatch_groupBySensorAndStatus() {
+        // Given
+        RecordAggregator aggregator = new RecordAggregator(true, true, 0, 100);
+        RecordBatch batch = new RecordBatch();
+        addRow(batch, "s2", 4.0, "2024-01-01T00:10:00", "NORMAL");
+        addRow(batch, "s1", 1.0, "2024-01-01T00:20:00", "NORMAL");
+        addRow(batch, "s1", 3.0, "2024-01-01T01:30:00", "NORMAL");
+        addRow(batch, "s1", 9.0, "2024-01-01T01:40:00", "ERROR");
+
+        // When
+        aggregator.onBatch(batch);
+        List<AggregationGroup> groups = aggregator.groups();
+
+        // Then
+        assertEquals(4, aggregator.getRecordCount());
+        assertEquals(3, groups.size());
+        assertGroup(groups.get(0), "s1", "ERROR", 1, 9.0, 9.0, 9.0);
+        assertGroup(groups.get(1), "s1", "NORMAL", 2, 1.0, 3.0, 2.0);
+        assertGroup(groups.get(2), "s2", "NORMAL", 1, 4.0, 4.0, 4.0);
+        assertNull(groups.get(0).getBucketStart());
+    }
+
+    @Test
+    @DisplayName("interval 이 있으면 timestamp 구간별로 나누고, timestamp 가 없는 레코드는 제외한다")
+    void onBatch_timeBuckets() {
+        // Given
+        RecordAggregator aggregator = new RecordAggregator(false, false, HOUR_MICROS, 100);
+        RecordBatch batch = new RecordBatch();
+        addRow(batch, "s1", 1.0, "2024-01-01T01:30:00", "NORMAL");
+        addRow(batch, "s1", 2.0, "2024-01-01T00:10:00", "NORMAL");
+        addRow(batch, "s2", 3.0, "2024-01-01T00:50:00", "NORMAL");
+        addRow(batch, "s2", 5.0, "invalid", "NORMAL");
+
+        // When
+        aggregator.onBatch(batch);
+        List<AggregationGroup> groups = aggregator.groups();
+
+        // Then
+        assertEquals(2, groups.size());
+        assertEquals("2024-01-01T00:00:00Z", groups.get(0).getBucketStart());
+        assertEquals(2, groups.get(0).getCount());
+        assertEquals(2.5, groups.get(0).getAvg());
+        assertEquals("2024-01-01T01:00:00Z", groups.get(1).getBucketStart());
+        assertEquals(1, groups.get(1).getCount());
+    }
+
+    @Test
+    @DisplayName("value 가 숫자가 아닌 레코드는 count 에만 포함된다")
+    void onBatch_nonNumericValue_countsOnly() {
+        // Given
+        RecordAggregator aggregator = new RecordAggregator(true, false, 0, 100);
+        RecordBatch batch = new RecordBatch();
+        int sensorId = batch.column("sensorId");
+        int value = batch.column("value");
+        batch.startRow();
+        batch.putString(sensorId, "s1");
+        batch.putString(value, "12.5");
+        batch.startRow();
+        batch.putString(sensorId, "s1");
+        batch.putString(value, "N/A");
+
+        // When
+        aggregator.onBatch(batch);
+        AggregationGroup group = aggregator.groups().get(0);
+
+        // Then
+        assertEquals(2, group.getCount());
+        assertEquals(1, group.getValueCount());
+        assertEquals(12.5, group.getSum());
+    }
+
+    @Test
+    @DisplayName("나눠서 집계한 결과를 합치면 한 번에 집계한 것과 같다")
+    void merge_equalsSinglePass() {
+        // Given
+        RecordAggregator single = new RecordAggregator(true, false, HOUR_MICROS, 1000);
+        RecordAggregator first = new RecordAggregator(true, false, HOUR_MICROS, 1000);
+        RecordAggregator second = new RecordAggregator(true, false, HOUR_MICROS, 1000);
+        for (int i = 0; i < 500; i++) {
+            RecordBatch batch = new RecordBatch();
+            addRow(batch, "s" + (i % 7), i * 0.5, EpochMicros.format(i * 600_000_000L), "NORMAL");
+            single.onBatch(batch);
+            (i % 3 == 0 ? first : second).onBatch(batch);
+        }
+
+        // When
+        first.merge(second);
+
+        // Then
+        List<AggregationGroup> expected = single.groups();
+        List<AggregationGroup> actual = first.groups();
+        assertEquals(single.getRecordCount(), first.getRecordCount());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertGroup(actual.get(i), expected.get(i).getSensorId(), null, expected.get(i).getCount(),
+                    expected.get(i).getMin(), expected.get(i).getMax(), expected.get(i).getAvg());
+            assertEquals(expected.get(i).getBucketStart(), actual.get(i).getBucketStart());
+        }
+    }
+
+    @Test
+    @DisplayName("그룹 수가 상한을 넘으면 BAD_REQUEST")
+    void onBatch_tooManyGroups_throwsBadRequest() {
+        // Given
+        RecordAggregator aggregator = new RecordAggregator(true, false, 0, 2);
+        RecordBatch batch = new RecordBatch();
+        addRow(batch, "s1", 1.0, "2024-01-01T00:00:00", "NORMAL");
+        addRow(batch, "s2", 1.0, "2024-01-01T00:00:00", "NORMAL");
+        addRow(batch, "s3", 1.0, "2024-01-01T00:00:00", "NORMAL");
+
+        // When & Then
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> aggregator.onBatch(batch));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    private static void addRow(RecordBatch batch, String sensorId, double value, String timestamp, String status) {
+        batch.startRow();
+        batch.putString(batch.column("sensorId"), sensorId);
+        batch.putDouble(batch.column("value"), value);
+        batch.putString(batch.column("timestamp"), timestamp);
+        batch.putString(batch.column("status"), status);
+    }
+
+    private static void assertGroup(AggregationGroup group, String sensorId, String status, long count,
+                                    double min, double max, double avg) {
+        assertEquals(sensorId, group.getSensorId());
+        assertEquals(status, group.getStatus());
+        assertEquals(count, group.getCount());
+        assertEquals(min, group.getMin());
+        assertEquals(max, group.getMax());
+        assertEquals(avg, group.getAvg(), 1e-9);
+    }
+}
@@ -0,0 +1,127 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RecordBatcher 테스트")
+class RecordBatcherTest {
+
+    @Test
+    @DisplayName("batchSize 마다 sink 에 넘기고, complete 에서 남은 행과 완료를 한 번 알린다")
+    void row_flushesEveryBatchSize() {
+        // Given
+        RecordingSink sink = new RecordingSink();
+        RecordBatcher batcher = new RecordBatcher(sink, 3);
+
+        // When
+        for (int i = 0; i < 7; i++) {
+            batcher.row().putValue("n", i);
+        }
+        batcher.complete();
+
+        // Then
+        assertEquals(List.of(3, 3, 1), sink.sizes);
+        assertEquals(List.of(0, 3, 6), sink.firstValues);
+        assertEquals(1, sink.completed);
+        assertEquals(7, batcher.getCount());
+    }
+
+    @Test
+    @DisplayName("onBatch 가 끝날 때까지 다음 행을 시작하지 않고, 같은 배치를 비워서 재사용한다")
+    void onBatch_isSynchronousAndBatchReused() {
+        // Given
+        List<RecordBatch> delivered = new ArrayList<>();
+        List<Long> countsAtDelivery = new ArrayList<>();
+        RecordBatcher[] holder = new RecordBatcher[1];
+        RecordBatcher batcher = new RecordBatcher(batch -> {
+            delivered.add(batch);
+            countsAtDelivery.add(holder[0].getCount());
+        }, 2);
+        holder[0] = batcher;
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            batcher.row().putValue("n", i);
+        }
+        batcher.complete();
+
+        // Then
+        // 두 번째 배치는 5번째 행을 시작하기 전에 넘어간다. (그 시점까지 시작한 행은 4개)
+        assertEquals(List.of(2L, 4L, 5L), countsAtDelivery);
+        assertSame(delivered.get(0), delivered.get(1));
+        assertSame(delivered.get(1), delivered.get(2));
+        assertTrue(batcher.batch().isEmpty());
+    }
+
+    @Test
+    @DisplayName("discard 한 행은 넘기지 않고 개수에서도 빠진다")
+    void discard_dropsRow() {
+        // Given
+        RecordingSink sink = new RecordingSink();
+        RecordBatcher batcher = new RecordBatcher(sink, 10);
+
+        // When
+        batcher.row().putValue("n", 0);
+        batcher.row().putValue("n", 1);
+        batcher.discard();
+        batcher.row().putValue("n", 2);
+        batcher.complete();
+
+        // Then
+        assertEquals(List.of(2), sink.sizes);
+        assertEquals(List.of(0, 2), sink.values);
+        assertEquals(2, batcher.getCount());
+    }
+
+    @Test
+    @DisplayName("레코드가 없으면 onBatch 없이 완료만 알린다")
+    void complete_empty_onlyCompletes() {
+        // Given
+        RecordingSink sink = new RecordingSink();
+        RecordBatcher batcher = new RecordBatcher(sink, 10);
+
+        // When
+        batcher.complete();
+
+        // Then
+        assertTrue(sink.sizes.isEmpty());
+        assertEquals(1, sink.completed);
+    }
+
+    @Test
+    @DisplayName("batchSize 가 1 보다 작으면 IllegalArgumentException")
+    void constructor_invalidBatchSize_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new RecordBatcher(batch -> { }, 0));
+    }
+
+    /**
+     * 배치는 재사용되므로 받은 시점의 크기와 값을 복사해 둔다.
+     */
+    private static final class RecordingSink implements RecordSink {
+
+        private final List<Integer> sizes = new ArrayList<>();
+        private final List<Object> firstValues = new ArrayList<>();
+        private final List<Object> values = new ArrayList<>();
+        private int completed;
+
+        @Override
+        public void onBatch(RecordBatch batch) {
+            sizes.add(batch.size());
+            List<Map<String, Object>> records = batch.toMaps();
+            firstValues.add(records.get(0).get("n"));
+            records.forEach(record -> values.add(record.get("n")));
+        }
+
+        @Override
+        public void onComplete() {
+            completed++;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.file.entity.FileEntity;
+import com.core.data_pipeline_platform.domain.parse.dto.SensorSeriesPoint;
+import com.core.data_pipeline_platform.domain.parse.dto.SensorSeriesResponse;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedDataEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.ParsedRecordChunkEntity;
+import com.core.data_pipeline_platform.domain.parse.entity.SensorRecordRangeEntity;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.repository.ParsedRecordChunkJdbcRepository;
+import com.core.data_pipeline_platform.domain.parse.repository.SensorRecordRangeJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SensorIndexService 테스트")
+class SensorIndexServiceTest {
+
+    @Mock
+    private SensorRecordRangeJdbcRepository sensorRangeRepository;
+
+    @Mock
+    private ParsedRecordChunkJdbcRepository chunkJdbcRepository;
+
+    @Spy
+    private JsonDataParser jsonDataParser = new JsonDataParser(new ObjectMapper());
+
+    @InjectMocks
+    private SensorIndexService sensorIndexService;
+
+    @Test
+    @DisplayName("역색인 저장 - 파일의 이전 항목을 지우고 새 항목을 넣는다")
+    void index_replacesFileRanges() {
+        // Given
+        List<SensorRecordRangeEntity> ranges = List.of(range(1L, 0, 2, null, null));
+        ParsedDataEntity parsedData = ParsedDataEntity.builder()
+            .file(FileEntity.builder().id(1L).build())
+            .sensorRanges(ranges)
+            .build();
+
+        // When
+        sensorIndexService.index(parsedData);
+
+        // Then
+        InOrder order = inOrder(sensorRangeRepository);
+        order.verify(sensorRangeRepository).deleteByFileId(1L);
+        order.verify(sensorRangeRepository).insertAll(ranges);
+    }
+
+    @Test
+    @DisplayName("센서 시계열 - 역색인 구간만 읽고 파일들을 timestamp 순으로 병합한다")
+    void getSeries_mergesFilesByTimestamp() {
+        // Given
+        given(sensorRangeRepository.findBySensorId("s1")).willReturn(List.of(
+            range(1L, 0, 4, "2024-01-01T00:00:00", "2024-01-01T03:00:00"),
+            range(2L, 10, 12, "2024-01-01T01:00:00", "2024-01-01T02:00:00"),
+            range(3L, 0, 2, "2023-01-01T00:00:00", "2023-01-01T01:00:00")));
+        givenChunk(1L, 0, 4, "[{\"sensorId\":\"s1\",\"timestamp\":\"2024-01-01T03:00:00\"},"
+            + "{\"sensorId\":\"s2\",\"timestamp\":\"2024-01-01T00:30:00\"},"
+            + "{\"sensorId\":\"s1\",\"timestamp\":\"2024-01-01T00:00:00\"},"
+            + "{\"sensorId\":\"s1\"}]");
+        givenChunk(2L, 10, 12, "[{\"sensorId\":\"s1\",\"timestamp\":\"2024-01-01T01:00:00\"},"
+            + "{\"sensorId\":\"s1\",\"timestamp\":\"2024-01-01T11:00:00+09:00\"}]");
+
+        // When
+        SensorSeriesResponse response = sensorIndexService.getSeries("s1", "2024-01-01T00:00:00", null, 100);
+
+        // Then
+        assertThat(response.getFileCount()).isEqualTo(2);
+        assertThat(response.getScannedRanges()).isEqualTo(2);
+        assertThat(response.isTruncated()).isFalse();
+        assertThat(response.getPoints()).extracting(SensorSeriesPoint::getFileId).containsExactly(1L, 2L, 2L, 1L);
+        assertThat(response.getPoints()).extracting(point -> point.getRecord().get("timestamp")).containsExactly(
+            "2024-01-01T00:00:00", "2024-01-01T01:00:00", "2024-01-01T11:00:00+09:00", "2024-01-01T03:00:00");
+        then(chunkJdbcRepository).should(never()).forEachChunk(eq(3L), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("센서 시계열 - limit 을 넘으면 앞의 limit 건만 돌려주고 truncated 로 표시한다")
+    void getSeries_limit_truncates() {
+        // Given
+        given(sensorRangeRepository.findBySensorId("s1")).willReturn(List.of(
+            range(1L, 0, 3, null, null)));
+        givenChunk(1L, 0, 3, "[{\"sensorId\":\"s1\",\"timestamp\":\"2024-01-01T02:00:00\"},"
+            + "{\"sensorId\":\"s1\",\"timestamp\":\"2024-01-01T00:00:00\"},"
+            + "{\"sensorId\":\"s1\",\"timestamp\":\"2024-01-01T01:00:00\"}]");
+
+        // When
+        SensorSeriesResponse response = sensorIndexService.getSeries("s1", null, null, 2);
+
+        // Then
+        assertThat(response.getCount()).isEqualTo(2);
+        assertThat(response.isTruncated()).isTrue();
+        assertThat(response.getPoints()).extracting(point -> point.getRecord().get("timestamp"))
+            .containsExactly("2024-01-01T00:00:00", "2024-01-01T01:00:00");
+    }
+
+    @Test
+    @DisplayName("센서 시계열 - 시각 형식이 아니면 BAD_REQUEST")
+    void getSeries_invalidTime_throwsBadRequest() {
+        // When & Then
+        assertThatThrownBy(() -> sensorIndexService.getSeries("s1", "yesterday", null, 100))
+            .isInstanceOf(ResponseStatusException.class)
+            .satisfies(ex -> {
+                ResponseStatusException responseEx = (ResponseStatusException) ex;
+                assertThat(responseEx.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            });
+        then(sensorRangeRepository).should(never()).findBySensorId(any());
+    }
+
+    private void givenChunk(Long fileId, long firstRecord, long endRecord, String data) {
+        willAnswer(invocation -> {
+            Consumer<ParsedRecordChunkEntity> action = invocation.getArgument(3);
+            action.accept(ParsedRecordChunkEntity.builder().firstRecord(firstRecord)
+                .recordCount((int) (endRecord - firstRecord)).data(data).build());
+            return null;
+        }).given(chunkJdbcRepository).forEachChunk(eq(fileId), eq(firstRecord), eq(endRecord), any());
+    }
+
+    private SensorRecordRangeEntity range(Long fileId, long firstRecord, long endRecord,
+                                          String timestampMin, String timestampMax) {
+        return SensorRecordRangeEntity.builder()
+            .fileId(fileId)
+            .sensorId("s1")
+            .firstRecord(firstRecord)
+            .endRecord(endRecord)
+            .recordCount(endRecord - firstRecord)
+            .timestampMin(timestampMin != null ? EpochMicros.parse(timestampMin) : null)
+            .timestampMax(timestampMax != null ? EpochMicros.parse(timestampMax) : null)
+            .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.core.data_pipeline_platform.domain.parse.service;
+
+import com.core.data_pipeline_platform.domain.parse.entity.SensorRecordRangeEntity;
+import com.core.data_pipeline_platform.domain.parse.model.EpochMicros;
+import com.core.data_pipeline_platform.domain.parse.model.RecordBatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SensorRangeCollector 테스트")
+class SensorRangeCollectorTest {
+
+    @Test
+    @DisplayName("연속한 청크의 센서는 구간 하나로 잇고, 빠진 청크가 있으면 구간을 나눈다")
+    void accept_mergesContiguousChunks() {
+        // Given
+        SensorRangeCollector collector = new SensorRangeCollector();
+        RecordBatch batch = new RecordBatch();
+        addRow(batch, "s1", "2024-01-01T00:00:00");
+        addRow(batch, "s2", "2024-01-01T00:01:00");
+
+        // When
+        collector.accept(batch, 0);
+        batch.clear();
+        addRow(batch, "s1", "2024-01-01T00:02:00");
+        addRow(batch, "s1", "2024-01-01T00:03:00");
+        collector.accept(batch, 2);
+        batch.clear();
+        addRow(batch, "s2", "2024-01-01T00:04:00");
+        addRow(batch, "s1", "2024-01-01T00:05:00");
+        collector.accept(batch, 4);
+        List<SensorRecordRangeEntity> ranges = sorted(collector.toRanges(7L));
+
+        // Then
+        assertEquals(3, ranges.size());
+        assertRange(ranges.get(0), "s1", 0, 6, 4, "2024-01-01T00:00:00", "2024-01-01T00:05:00");
+        assertRange(ranges.get(1), "s2", 0, 2, 1, "2024-01-01T00:01:00", "2024-01-01T00:01:00");
+        assertRange(ranges.get(2), "s2", 4, 6, 1, "2024-01-01T00:04:00", "2024-01-01T00:04:00");
+        assertEquals(7L, ranges.get(0).getFileId());
+    }
+
+    @Test
+    @DisplayName("숫자 sensorId 는 문자열로 색인하고, 시각이 없으면 범위는 null 이다")
+    void accept_numericSensorWithoutTimestamp() {
+        // Given
+        SensorRangeCollector collector = new SensorRangeCollector();
+        RecordBatch batch = new RecordBatch();
+        for (int i = 0; i < 3; i++) {
+            batch.startRow();
+            batch.putLong(batch.column("sensorId"), 101);
+        }
+
+        // When
+        collector.accept(batch, 10);
+        List<SensorRecordRangeEntity> ranges = collector.toRanges(1L);
+
+        // Then
+        assertEquals(1, ranges.size());
+        assertEquals("101", ranges.getFirst().getSensorId());
+        assertEquals(10, ranges.getFirst().getFirstRecord());
+        assertEquals(13, ranges.getFirst().getEndRecord());
+        assertEquals(3, ranges.getFirst().getRecordCount());
+        assertNull(ranges.getFirst().getTimestampMin());
+        assertNull(ranges.getFirst().getTimestampMax());
+    }
+
+    private static List<SensorRecordRangeEntity> sorted(List<SensorRecordRangeEntity> ranges) {
+        return ranges.stream()
+            .sorted(Comparator.comparing(SensorRecordRangeEntity::getSensorId)
+                .thenComparingLong(SensorRecordRangeEntity::getFirstRecord))
+            .toList();
+    }
+
+    private static void assertRange(SensorRecordRangeEntity range, String sensorId, long firstRecord, long endRecord,
+                                    long recordCount, String timestampMin, String timestampMax) {
+        assertEquals(sensorId, range.getSensorId());
+        assertEquals(firstRecord, range.getFirstRecord());
+        assertEquals(endRecord, range.getEndRecord());
+        assertEquals(recordCount, range.getRecordCount());
+        assertEquals(EpochMicros.parse(timestampMin), range.getTimestampMin());
+        assertEquals(EpochMicros.parse(timestampMax), range.getTimestampMax());
+    }
+
+    private static void addRow(RecordBatch batch, String sensorId, String timestamp) {
+        batch.startRow();
+        batch.putString(batch.column("sensorId"), sensorId);
+        batch.putTimestamp(batch.column("timestamp"), EpochMicros.parse(timestamp));
+    }
+}
@@ -1,12 +1,14 @@
 package com.core.data_pipeline_platform.domain.parse.service;
 
 import com.core.data_pipeline_platform.domain.file.enums.FileType;
+import com.core.data_pipeline_platform.domain.parse.model.RecordQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -116,4 +118,42 @@ class XmlDataParserTest {
         });
     }
 
+    @Test
+    @DisplayName("여러 sensor 를 문서 순서대로 스트리밍 - CDATA, 주석 포함")
+    void parseData_multipleSensors_inOrder() {
+        // Given
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<sensorData>\n");
+        for (int i = 0; i < 2500; i++) {
+            xml.append("    <!-- sensor ").append(i).append(" -->\n")
+                    .append("    <sensor><sensorId>SENSOR_").append(i).append("</sensorId>")
+                    .append("<value><![CDATA[").append(i).append(".5]]></value>")
+                    .append("<timestamp>2025-09-21T08:10:10</timestamp><status>NORMAL</status></sensor>\n");
+        }
+        xml.append("</sensorData>");
+
+        // When
+        List<Map<String, Object>> result = xmlDataParser.parseData(FileType.XML, new ByteArrayInputStream(xml.toString().getBytes()));
+
+        // Then
+        assertEquals(2500, result.size());
+        assertEquals("SENSOR_0", result.getFirst().get("sensorId"));
+        assertEquals("2499.5", result.getLast().get("value"));
+    }
+
+    @Test
+    @DisplayName("query - 조건에 맞는 sensor 가 없으면 예외 없이 빈 결과")
+    void parse_query_noMatch_returnsEmpty() {
+        // Given
+        String xml = "<sensorData><sensor><sensorId>S-1</sensorId><value>1.5</value>" +
+                "<timestamp>2025-09-21T08:10:10</timestamp><status>NORMAL</status></sensor></sensorData>";
+        RecordQuery query = RecordQuery.parse("sensorId", List.of("value>2"));
+
+        // When
+        List<Map<String, Object>> result = new ArrayList<>();
+        xmlDataParser.parse(FileType.XML, new ByteArrayInputStream(xml.getBytes()), query, batch -> result.addAll(batch.toMaps()));
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
 }
\ No newline at end of file